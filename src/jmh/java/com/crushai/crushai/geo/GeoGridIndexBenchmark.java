@@ -0,0 +1,119 @@
+package com.crushai.crushai.geo;
+
+import com.crushai.crushai.dto.NearbyUserDto;
+import io.lettuce.core.GeoArgs;
+import io.lettuce.core.GeoCoordinates;
+import io.lettuce.core.GeoWithin;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반경 검색: 메모리 격자 인덱스 vs Redis (GEOPOS + GEORADIUS + member 파싱)
+ *
+ * ⚠️ 사전 준비: Docker로 Redis를 실행해야 합니다. (docker-compose up -d redis)
+ * 실행: ./gradlew jmh
+ *
+ * 유저는 서울 근교 약 100km x 100km 안에 무작위로 분포
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class GeoGridIndexBenchmark {
+
+    private static final String KEY = "bench:user_locations";
+    private static final int LIMIT = 100;
+
+    @Param({"1000000"})
+    int users;
+
+    @Param({"5", "20"})
+    double radiusKm;
+
+    private GeoGridIndex index;
+    private RedisClient redisClient;
+    private StatefulRedisConnection<String, String> connection;
+    private RedisCommands<String, String> redis;
+    private long[] queryUserIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new GeoGridIndex(0.1);
+        redisClient = RedisClient.create(System.getProperty("redis.url", "redis://localhost:6379"));
+        connection = redisClient.connect();
+        redis = connection.sync();
+        redis.del(KEY);
+
+        SplittableRandom random = new SplittableRandom(42);
+        List<Object> batch = new ArrayList<>(3000);
+        for (long userId = 1; userId <= users; userId++) {
+            double longitude = 126.5 + random.nextDouble();
+            double latitude = 37.0 + random.nextDouble();
+            index.upsert(userId, longitude, latitude);
+
+            batch.add(longitude);
+            batch.add(latitude);
+            batch.add(LocationMemberCodec.member(userId));
+            if (batch.size() == 3000) {
+                redis.geoadd(KEY, batch.toArray());
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            redis.geoadd(KEY, batch.toArray());
+        }
+
+        queryUserIds = new long[1024];
+        for (int i = 0; i < queryUserIds.length; i++) {
+            queryUserIds[i] = 1 + random.nextInt(users);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        redis.del(KEY);
+        connection.close();
+        redisClient.shutdown();
+    }
+
+    @Benchmark
+    public List<NearbyUserDto> gridIndex() {
+        return index.findNearby(nextUserId(), radiusKm, LIMIT);
+    }
+
+    @Benchmark
+    public List<NearbyUserDto> redisGeoRadius() {
+        long userId = nextUserId();
+        GeoCoordinates position = redis.geopos(KEY, LocationMemberCodec.member(userId)).get(0);
+
+        List<GeoWithin<String>> results = redis.georadius(KEY,
+                position.getX().doubleValue(), position.getY().doubleValue(), radiusKm, GeoArgs.Unit.km,
+                new GeoArgs().withDistance().withCoordinates().withCount(LIMIT).asc());
+
+        // UserLocationService 와 같은 방식으로 변환
+        List<NearbyUserDto> nearby = new ArrayList<>(results.size());
+        for (GeoWithin<String> result : results) {
+            long uid = LocationMemberCodec.userId(result.getMember());
+            if (uid == userId) {
+                continue;
+            }
+            nearby.add(new NearbyUserDto(
+                    uid,
+                    result.getDistance(),
+                    result.getCoordinates().getX().doubleValue(),
+                    result.getCoordinates().getY().doubleValue()));
+        }
+        return nearby;
+    }
+
+    private long nextUserId() {
+        return queryUserIds[next++ & (queryUserIds.length - 1)];
+    }
+}
@@ -0,0 +1,65 @@
+package com.crushai.crushai.geo;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반경 검색 결과 member 파싱 비용 (결과 100개 기준)
+ *
+ * - legacyReplace: 기존 방식 Long.valueOf(name.replace("user:", ""))
+ * - legacyCodec: 이전 형식을 LocationMemberCodec 으로 파싱 (중간 문자열 없음)
+ * - compactCodec: 새 10진수 형식을 LocationMemberCodec 으로 파싱
+ *
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class LocationMemberCodecBenchmark {
+
+    private static final int RESULTS = 100;
+
+    private String[] legacyMembers;
+    private String[] compactMembers;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        legacyMembers = new String[RESULTS];
+        compactMembers = new String[RESULTS];
+        for (int i = 0; i < RESULTS; i++) {
+            long userId = 1 + random.nextInt(10_000_000);
+            legacyMembers[i] = LocationMemberCodec.legacyMember(userId);
+            compactMembers[i] = LocationMemberCodec.member(userId);
+        }
+    }
+
+    @Benchmark
+    public long legacyReplace() {
+        long sum = 0;
+        for (String member : legacyMembers) {
+            sum += Long.valueOf(member.replace("user:", ""));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long legacyCodec() {
+        long sum = 0;
+        for (String member : legacyMembers) {
+            sum += LocationMemberCodec.userId(member);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long compactCodec() {
+        long sum = 0;
+        for (String member : compactMembers) {
+            sum += LocationMemberCodec.userId(member);
+        }
+        return sum;
+    }
+}
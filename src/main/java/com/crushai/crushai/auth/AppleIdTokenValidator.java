@@ -7,18 +7,62 @@ import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.net.URL;
 import java.security.interfaces.RSAPublicKey;
 import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Apple Identity Token 검증
+ *
+ * Apple 공개 키(JWKS)는 메모리에 캐시해 로그인 요청에서 HTTPS 조회를 하지 않음
+ * - 기동 시 / refresh-interval 마다 백그라운드에서 다시 가져옴
+ * - 캐시에 없는 kid 면 (Apple 키 교체 직후) 바로 다시 가져옴 - 마지막 성공 조회 후 min-refetch-interval 이 지났을 때만
+ *   (실패한 조회는 간격에 넣지 않음 - 기동 시 조회가 실패해도 다음 로그인에서 바로 다시 시도)
+ * - 조회는 한 번에 하나만 실행하고 동시에 들어온 로그인은 그 결과를 같이 기다림 (로그인 폭주에도 조회 1회)
+ * - 조회 실패 시 기존 키를 그대로 사용
+ */
 @Component
+@Slf4j
 public class AppleIdTokenValidator {
 
     private static final String APPLE_KEYS_URL = "https://appleid.apple.com/auth/keys";
+    private static final int JWKS_SIZE_LIMIT = 50 * 1024;
+
+    private final Callable<JWKSet> keyLoader;
+    private final Duration minRefetchInterval;
+    private final Duration fetchTimeout;
+
+    private final AtomicReference<CompletableFuture<JWKSet>> inFlight = new AtomicReference<>();
+    private volatile JWKSet jwkSet;
+    private volatile Instant lastFetchedAt = Instant.EPOCH;
+
+    @Autowired
+    public AppleIdTokenValidator(@Value("${apple.jwks.min-refetch-interval:PT1M}") Duration minRefetchInterval,
+                                 @Value("${apple.jwks.fetch-timeout:PT3S}") Duration fetchTimeout) {
+        this(() -> JWKSet.load(new URL(APPLE_KEYS_URL),
+                        (int) fetchTimeout.toMillis(), (int) fetchTimeout.toMillis(), JWKS_SIZE_LIMIT),
+                minRefetchInterval, fetchTimeout);
+    }
+
+    AppleIdTokenValidator(Callable<JWKSet> keyLoader, Duration minRefetchInterval, Duration fetchTimeout) {
+        this.keyLoader = keyLoader;
+        this.minRefetchInterval = minRefetchInterval;
+        this.fetchTimeout = fetchTimeout;
+    }
 
     /**
      * Apple Identity Token 검증
@@ -31,9 +75,8 @@ public class AppleIdTokenValidator {
         try {
             SignedJWT signedJWT = SignedJWT.parse(identityToken);
 
-            // Apple 공개 키 가져오기
-            JWKSet jwkSet = JWKSet.load(new URL(APPLE_KEYS_URL));
-            JWK jwk = jwkSet.getKeyByKeyId(signedJWT.getHeader().getKeyID());
+            // Apple 공개 키 (캐시)
+            JWK jwk = findKey(signedJWT.getHeader().getKeyID());
             if (jwk == null) return null;
 
             // RSAPublicKey 변환 후 verifier 생성
@@ -56,10 +99,76 @@ public class AppleIdTokenValidator {
             if (!"https://appleid.apple.com".equals(claims.getIssuer())) return null;
 
             return claims.getClaims();
-        } catch (ParseException | JOSEException | java.io.IOException e) {
-            e.printStackTrace();
+        } catch (ParseException | JOSEException e) {
+            log.warn("Invalid Apple identity token: {}", e.getMessage());
         }
 
         return null;
     }
+
+    /**
+     * Apple 공개 키 백그라운드 갱신 (기동 직후 1회 포함)
+     */
+    @Scheduled(fixedDelayString = "${apple.jwks.refresh-interval-ms:21600000}")
+    public void refreshKeys() {
+        refresh();
+    }
+
+    private JWK findKey(String keyId) {
+        if (keyId == null) {
+            return null;
+        }
+
+        JWKSet keys = jwkSet;
+        JWK jwk = keys != null ? keys.getKeyByKeyId(keyId) : null;
+        if (jwk != null) {
+            return jwk;
+        }
+
+        // 모르는 kid 로 조회를 반복 유도하지 못하도록 최소 간격 안에서는 다시 가져오지 않음
+        if (Instant.now().isBefore(lastFetchedAt.plus(minRefetchInterval))) {
+            log.debug("Unknown Apple key id {}, skipping refetch (last successful fetch {})", keyId, lastFetchedAt);
+            return null;
+        }
+
+        keys = refresh();
+        return keys != null ? keys.getKeyByKeyId(keyId) : null;
+    }
+
+    /**
+     * JWKS 다시 가져오기 (single-flight - 진행 중인 조회가 있으면 그 결과를 기다림)
+     *
+     * @return 최신 키 (조회 실패 시 기존 키, 한 번도 가져오지 못했으면 null)
+     */
+    JWKSet refresh() {
+        CompletableFuture<JWKSet> future = new CompletableFuture<>();
+        CompletableFuture<JWKSet> running = inFlight.compareAndExchange(null, future);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            JWKSet loaded = keyLoader.call();
+            jwkSet = loaded;
+            lastFetchedAt = Instant.now();
+            log.info("Loaded {} Apple public keys", loaded.getKeys().size());
+        } catch (Exception e) {
+            log.warn("Failed to fetch Apple public keys, keeping cached keys: {}", e.getMessage());
+        } finally {
+            future.complete(jwkSet);
+            inFlight.set(null);
+        }
+        return jwkSet;
+    }
+
+    private JWKSet await(CompletableFuture<JWKSet> running) {
+        try {
+            return running.get(fetchTimeout.multipliedBy(2).toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Timed out waiting for Apple public keys: {}", e.getMessage());
+        }
+        return jwkSet;
+    }
 }
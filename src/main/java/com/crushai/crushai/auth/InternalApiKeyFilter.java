@@ -0,0 +1,69 @@
+package com.crushai.crushai.auth;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * 내부 서비스(채팅 서버) 전용 API 인증 필터
+ *
+ * /api/internal/** 요청의 X-Internal-API-Key 헤더를 검증하고
+ * 일치하면 ROLE_INTERNAL 권한으로 인증 처리
+ */
+@Slf4j
+public class InternalApiKeyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_NAME = "X-Internal-API-Key";
+    private static final String INTERNAL_PATH_PREFIX = "/api/internal/";
+
+    private final byte[] internalApiKey;
+
+    public InternalApiKeyFilter(String internalApiKey) {
+        this.internalApiKey = internalApiKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(INTERNAL_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String apiKey = request.getHeader(HEADER_NAME);
+
+        // 상수 시간 비교 (타이밍 공격 방지)
+        if (apiKey == null || !MessageDigest.isEqual(internalApiKey, apiKey.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("Rejected internal API call without valid key: {} {}", request.getMethod(), request.getRequestURI());
+            sendJsonError(response, HttpServletResponse.SC_UNAUTHORIZED, "Invalid internal API key");
+            return;
+        }
+
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                "internal-service", null, List.of(new SimpleGrantedAuthority("ROLE_INTERNAL")));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void sendJsonError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("utf-8");
+
+        String json = String.format("{\"error\": \"%s\"}", message);
+        response.getWriter().write(json);
+    }
+}
@@ -0,0 +1,165 @@
+package com.crushai.crushai.batch;
+
+import com.crushai.crushai.geo.LocationMemberCodec;
+import com.crushai.crushai.service.PresenceService;
+import com.crushai.crushai.service.UserLocationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 장기 미접속 유저 위치 정리 배치 작업
+ *
+ * user_last_seen 기준으로 retention 이상 활동이 없는 유저를
+ * user_locations / user_last_seen 에서 제거하여 반경 검색 후보에서 빠지도록 함
+ * (다시 접속해서 위치를 보내면 자동으로 다시 들어옴)
+ */
+@Component
+@Slf4j
+public class InactiveLocationSweeper {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final String SEEDED_FLAG_KEY = "user_last_seen:seeded";
+    private static final String SEED_LOCK_KEY = "user_last_seen:seeded:lock";
+
+    private final PresenceService presenceService;
+    private final UserLocationService userLocationService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${presence.location-retention-days:90}")
+    private long retentionDays;
+
+    public InactiveLocationSweeper(PresenceService presenceService,
+                                   UserLocationService userLocationService,
+                                   @Qualifier("geoRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+        this.presenceService = presenceService;
+        this.userLocationService = userLocationService;
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 매일 새벽 4시(UTC)에 오래된 위치 정리
+     */
+    @Scheduled(cron = "0 0 4 * * *", zone = "UTC")
+    public void sweepInactiveLocations() {
+        log.info("Starting inactive location sweep (retention: {} days)", retentionDays);
+
+        try {
+            Instant cutoff = Instant.now().minus(Duration.ofDays(retentionDays));
+            long removedLocations = 0;
+            long removedUsers = 0;
+
+            List<Long> inactiveUserIds;
+            do {
+                inactiveUserIds = presenceService.findInactiveBefore(cutoff, CHUNK_SIZE);
+                removedLocations += userLocationService.deleteUserLocations(inactiveUserIds);
+                presenceService.remove(inactiveUserIds);
+                removedUsers += inactiveUserIds.size();
+            } while (inactiveUserIds.size() == CHUNK_SIZE);
+
+            log.info("Inactive location sweep completed. Users: {}, locations removed: {}", removedUsers, removedLocations);
+
+        } catch (Exception e) {
+            log.error("Failed to sweep inactive locations", e);
+        }
+    }
+
+    /**
+     * 로컬 touch 생략 기준 정리 (10분마다)
+     */
+    @Scheduled(fixedDelay = 600_000)
+    public void pruneLocalPresenceState() {
+        presenceService.pruneLocalState();
+    }
+
+    /**
+     * user_last_seen 도입 전 위치만 있는 유저에게 현재 시각을 기록 (최초 1회)
+     *
+     * 기록이 없으면 활동 기간 필터에서 모두 빠지므로, 배포 시점을 마지막 활동으로 간주
+     * 이후 retention 동안 접속하지 않으면 정상적으로 정리됨
+     * 완료 플래그는 끝까지 스캔한 뒤에만 남기므로, 중간에 실패하거나 인스턴스가 죽으면 다음 시작 시 다시 실행
+     * (ZADD NX 라 중복 실행해도 안전)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedMissingLastSeen() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(SEEDED_FLAG_KEY))) {
+                return;
+            }
+            // 여러 인스턴스가 동시에 시작해도 한 곳에서만 실행 (죽은 인스턴스의 잠금은 TTL 로 풀림)
+            Boolean locked = redisTemplate.opsForValue()
+                    .setIfAbsent(SEED_LOCK_KEY, Instant.now().toString(), Duration.ofHours(1));
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("Failed to check user_last_seen seeding state", e);
+            return;
+        }
+
+        try {
+            long now = Instant.now().getEpochSecond();
+            long seeded = 0;
+            List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+
+            ScanOptions options = ScanOptions.scanOptions().count(CHUNK_SIZE).build();
+            try (Cursor<ZSetOperations.TypedTuple<String>> cursor =
+                         redisTemplate.opsForZSet().scan("user_locations", options)) {
+                while (cursor.hasNext()) {
+                    String member = cursor.next().getValue();
+                    if (member != null) {
+                        try {
+                            chunk.add(String.valueOf(LocationMemberCodec.userId(member)));
+                        } catch (NumberFormatException e) {
+                            log.warn("Skipping malformed location member while seeding: {}", member);
+                        }
+                    }
+                    if (chunk.size() == CHUNK_SIZE) {
+                        seeded += seedChunk(chunk, now);
+                    }
+                }
+            }
+            seeded += seedChunk(chunk, now);
+
+            redisTemplate.opsForValue().set(SEEDED_FLAG_KEY, Instant.now().toString());
+            log.info("Seeded last seen for {} users with existing locations", seeded);
+
+        } catch (Exception e) {
+            log.error("Failed to seed user_last_seen, will retry on next startup", e);
+        } finally {
+            redisTemplate.delete(SEED_LOCK_KEY);
+        }
+    }
+
+    private long seedChunk(List<String> userIds, long now) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        // 이미 기록된 유저는 건드리지 않음 (ZADD NX, 청크당 1회)
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (String userId : userIds) {
+            tuples.add(ZSetOperations.TypedTuple.of(userId, (double) now));
+        }
+        Long added = redisTemplate.opsForZSet().addIfAbsent(PresenceService.LAST_SEEN_KEY, tuples);
+        userIds.clear();
+        return added != null ? added : 0;
+    }
+}
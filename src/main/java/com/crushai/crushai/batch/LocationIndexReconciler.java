@@ -0,0 +1,175 @@
+package com.crushai.crushai.batch;
+
+import com.crushai.crushai.geo.LocationMemberCodec;
+import com.crushai.crushai.repository.UserRepository;
+import com.crushai.crushai.service.LocationGridIndexService;
+import com.crushai.crushai.service.PresenceService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * user_locations 정합성 검사 배치 작업
+ *
+ * 탈퇴 처리 중 위치 삭제가 실패했거나 온보딩을 마치지 않은 유저의 위치가 남아 있으면
+ * 피드가 매번 불러온 뒤 버리게 되므로, GEO 집합을 ZSCAN 으로 청크 단위로 훑어
+ * user 테이블에 없는(탈퇴 / 미온보딩) 유저의 위치를 제거
+ *
+ * - 한 번에 한 청크만 메모리에 유지 (집합 크기와 무관)
+ * - 청크당 DB 조회 1회 + Redis 파이프라인 1회 (ZREM user_locations / user_last_seen, 격자 인덱스 알림)
+ * - DB 조회가 실패하면 해당 회차는 삭제 없이 중단
+ * - 온보딩 중인 유저의 위치도 지워지지만 다음 위치 전송 때 다시 들어옴
+ * - 탈퇴 유예 기간(delYn = true) 유저도 피드 대상이 아니므로 제거 (복구 후 위치를 다시 보내면 들어옴)
+ * - 이전 중에는 한 유저에게 두 형식 member 가 같이 있을 수 있으므로 둘 다 제거
+ */
+@Component
+@Slf4j
+public class LocationIndexReconciler {
+
+    private static final String USER_LOCATION_KEY = "user_locations";
+    private static final int CHUNK_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public LocationIndexReconciler(UserRepository userRepository,
+                                   @Qualifier("geoRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 정합성 검사 결과
+     *
+     * @param scanned 검사한 member 수
+     * @param removed 제거한 member 수 (형식 오류 포함)
+     * @param malformed 형식이 올바르지 않아 제거한 member 수
+     * @param durationMs 소요 시간
+     */
+    public record Report(long scanned, long removed, long malformed, long durationMs) {
+    }
+
+    /**
+     * 매일 새벽 5시(UTC)에 실행 (탈퇴 처리 배치 이후)
+     */
+    @Scheduled(cron = "${location.reconcile.cron:0 0 5 * * *}", zone = "UTC")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("Failed to reconcile user locations", e);
+        }
+    }
+
+    public Report reconcile() {
+        long startedAt = System.currentTimeMillis();
+        long scanned = 0;
+        long removed = 0;
+        long malformed = 0;
+
+        Map<Long, List<String>> chunk = new HashMap<>(CHUNK_SIZE * 2);
+        List<String> malformedMembers = new ArrayList<>();
+        int chunkMembers = 0;
+
+        ScanOptions options = ScanOptions.scanOptions().count(CHUNK_SIZE).build();
+        try (Cursor<ZSetOperations.TypedTuple<String>> cursor =
+                     redisTemplate.opsForZSet().scan(USER_LOCATION_KEY, options)) {
+            while (cursor.hasNext()) {
+                String member = cursor.next().getValue();
+                if (member == null) {
+                    continue;
+                }
+                scanned++;
+
+                try {
+                    chunk.computeIfAbsent(LocationMemberCodec.userId(member), id -> new ArrayList<>(1)).add(member);
+                } catch (NumberFormatException e) {
+                    malformedMembers.add(member);
+                }
+
+                if (++chunkMembers >= CHUNK_SIZE) {
+                    malformed += malformedMembers.size();
+                    removed += reconcileChunk(chunk, malformedMembers);
+                    chunkMembers = 0;
+                }
+            }
+        }
+        malformed += malformedMembers.size();
+        removed += reconcileChunk(chunk, malformedMembers);
+
+        Report report = new Report(scanned, removed, malformed, System.currentTimeMillis() - startedAt);
+        log.info("User location reconciliation completed. Scanned: {}, removed: {} (malformed: {}), took {}ms",
+                report.scanned(), report.removed(), report.malformed(), report.durationMs());
+        return report;
+    }
+
+    /**
+     * 청크 하나 검사 후 고아 member 제거
+     *
+     * @param membersByUserId userId → 실제 member 목록 (이전 / 새 형식이 같이 있을 수 있음)
+     * @param malformedMembers 형식 오류 member (그대로 제거)
+     * @return 제거한 member 수
+     */
+    private long reconcileChunk(Map<Long, List<String>> membersByUserId, List<String> malformedMembers) {
+        if (membersByUserId.isEmpty() && malformedMembers.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> activeIds = membersByUserId.isEmpty()
+                ? Set.of()
+                : new HashSet<>(userRepository.findActiveOnboardedIds(membersByUserId.keySet()));
+
+        List<Long> orphanIds = new ArrayList<>();
+        List<String> orphanMembers = new ArrayList<>(malformedMembers);
+        membersByUserId.forEach((userId, members) -> {
+            if (!activeIds.contains(userId)) {
+                orphanIds.add(userId);
+                orphanMembers.addAll(members);
+            }
+        });
+
+        membersByUserId.clear();
+        malformedMembers.clear();
+
+        if (orphanMembers.isEmpty()) {
+            return 0;
+        }
+
+        removeOrphans(orphanIds, orphanMembers);
+        log.debug("Removed {} orphan locations", orphanMembers.size());
+        return orphanMembers.size();
+    }
+
+    private void removeOrphans(List<Long> orphanIds, List<String> orphanMembers) {
+        byte[][] members = orphanMembers.stream().map(this::bytes).toArray(byte[][]::new);
+        byte[][] lastSeenMembers = orphanIds.stream().map(id -> bytes(String.valueOf(id))).toArray(byte[][]::new);
+        String removal = String.join(";", orphanIds.stream().map(String::valueOf).toList());
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zRem(bytes(USER_LOCATION_KEY), members);
+            if (lastSeenMembers.length > 0) {
+                connection.zSetCommands().zRem(bytes(PresenceService.LAST_SEEN_KEY), lastSeenMembers);
+                connection.publish(bytes(LocationGridIndexService.UPDATES_CHANNEL), bytes(removal));
+            }
+            return null;
+        });
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,141 @@
+package com.crushai.crushai.batch;
+
+import com.crushai.crushai.geo.LocationMemberCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * user_locations member 형식 이전 작업 ("user:{id}" → "{id}")
+ *
+ * 서비스는 두 형식을 모두 읽고 새로 쓰는 위치는 새 형식으로 저장하므로 중단 없이 진행
+ * 남은 이전 형식 member 를 ZSCAN 으로 찾아 같은 점수(좌표)로 다시 쓰고 삭제
+ * 완료되면 플래그 키를 남겨 이후 시작 시에는 건너뜀
+ */
+@Component
+@Slf4j
+public class LocationMemberMigration {
+
+    private static final String USER_LOCATION_KEY = "user_locations";
+    private static final String MIGRATED_FLAG_KEY = "user_locations:compact-members";
+    private static final String LOCK_KEY = "user_locations:compact-members:lock";
+    private static final int CHUNK_SIZE = 1000;
+
+    /**
+     * 이전 형식 member 일괄 변환 (청크당 1회 왕복, 원자적)
+     *
+     * KEYS = user_locations, ARGV = 이전 형식 member 목록
+     * 실행 시점의 점수로 ZADD NX 후 ZREM - 그 사이 유저가 새 위치를 보냈다면 새 형식이 이미 있으므로 덮어쓰지 않음
+     * 반환: 변환된 member 수
+     */
+    private static final RedisScript<Long> REWRITE_MEMBERS_SCRIPT = new DefaultRedisScript<>("""
+            local key = KEYS[1]
+            local rewritten = 0
+            for i = 1, #ARGV do
+              local score = redis.call('ZSCORE', key, ARGV[i])
+              if score then
+                redis.call('ZADD', key, 'NX', score, string.sub(ARGV[i], 6))
+                redis.call('ZREM', key, ARGV[i])
+                rewritten = rewritten + 1
+              end
+            end
+            return rewritten
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public LocationMemberMigration(@Qualifier("geoRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyMembers() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(MIGRATED_FLAG_KEY))) {
+                return;
+            }
+            // 여러 인스턴스가 동시에 시작해도 한 곳에서만 실행 (스크립트 자체는 중복 실행해도 안전)
+            Boolean locked = redisTemplate.opsForValue()
+                    .setIfAbsent(LOCK_KEY, Instant.now().toString(), Duration.ofHours(1));
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("Failed to check location member migration state", e);
+            return;
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            Long memoryBefore = memoryUsage();
+            long rewritten = 0;
+            List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+
+            ScanOptions options = ScanOptions.scanOptions().count(CHUNK_SIZE).build();
+            try (Cursor<ZSetOperations.TypedTuple<String>> cursor =
+                         redisTemplate.opsForZSet().scan(USER_LOCATION_KEY, options)) {
+                while (cursor.hasNext()) {
+                    String member = cursor.next().getValue();
+                    if (member != null && LocationMemberCodec.isLegacy(member)) {
+                        chunk.add(member);
+                    }
+                    if (chunk.size() == CHUNK_SIZE) {
+                        rewritten += rewriteChunk(chunk);
+                    }
+                }
+            }
+            rewritten += rewriteChunk(chunk);
+
+            Long memoryAfter = memoryUsage();
+            Long members = redisTemplate.opsForZSet().zCard(USER_LOCATION_KEY);
+            log.info("Location member migration completed in {}ms. Rewritten: {}, members: {}, memory: {} -> {} bytes",
+                    System.currentTimeMillis() - startedAt, rewritten, members, memoryBefore, memoryAfter);
+
+            redisTemplate.opsForValue().set(MIGRATED_FLAG_KEY, Instant.now().toString());
+
+        } catch (Exception e) {
+            log.error("Failed to migrate location members, will retry on next startup", e);
+        } finally {
+            redisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    private long rewriteChunk(List<String> members) {
+        if (members.isEmpty()) {
+            return 0;
+        }
+        Long rewritten = redisTemplate.execute(REWRITE_MEMBERS_SCRIPT, List.of(USER_LOCATION_KEY), members.toArray());
+        members.clear();
+        return rewritten != null ? rewritten : 0;
+    }
+
+    /**
+     * MEMORY USAGE user_locations (측정용, 실패 시 null)
+     */
+    private Long memoryUsage() {
+        try {
+            return redisTemplate.execute((RedisCallback<Long>) connection -> (Long) connection.execute(
+                    "MEMORY", "USAGE".getBytes(StandardCharsets.UTF_8), USER_LOCATION_KEY.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            log.debug("MEMORY USAGE not available: {}", e.getMessage());
+            return null;
+        }
+    }
+}
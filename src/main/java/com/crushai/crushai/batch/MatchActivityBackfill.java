@@ -0,0 +1,44 @@
+package com.crushai.crushai.batch;
+
+import com.crushai.crushai.repository.MatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매칭 마지막 활동 시각 백필 작업
+ *
+ * last_activity_at 컬럼 추가 전에 생성된 매칭은 값이 비어 있어 채팅방 목록 페이지에서 빠지므로
+ * 애플리케이션 시작 시 matched_at 으로 채움 (짧은 트랜잭션으로 나눠 락 점유 최소화)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MatchActivityBackfill {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final MatchRepository matchRepository;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillLastActivityAt() {
+        try {
+            int total = 0;
+            int updated;
+            do {
+                updated = matchRepository.backfillLastActivityAt(CHUNK_SIZE);
+                total += updated;
+            } while (updated == CHUNK_SIZE);
+
+            if (total > 0) {
+                log.info("Backfilled last_activity_at for {} matches", total);
+            }
+        } catch (Exception e) {
+            log.error("Failed to backfill match last_activity_at", e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.crushai.crushai.batch;
 import com.crushai.crushai.repository.RefreshRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,8 +13,10 @@ import java.time.Instant;
 /**
  * Refresh Token 정리 배치 작업
  * 만료된 토큰을 주기적으로 삭제하여 DB 공간 확보
+ * (auth.refresh-store=redis 이면 Redis TTL 로 만료되므로 등록하지 않음)
  */
 @Component
+@ConditionalOnProperty(prefix = "auth", name = "refresh-store", havingValue = "jpa", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class RefreshTokenCleaner {
@@ -1,59 +1,119 @@
 package com.crushai.crushai.client;
 
-import lombok.RequiredArgsConstructor;
+import com.crushai.crushai.config.ChatServiceResilienceConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * 채팅 서비스 내부 API 클라이언트
+ *
+ * 공유 WebClient(chatServiceWebClient)를 사용하며, 각 API는 3가지 형태로 제공
+ * - xxxMono  : 논블로킹 Mono (에러를 그대로 전달, 호출 측에서 조합)
+ * - xxxAsync : CompletableFuture (요청 스레드를 점유하지 않고 대기/조합)
+ * - xxx      : 기존 블로킹 호출 (배치 작업 등 기존 호출부 호환)
+ *
+ * 모든 호출은 API별 서킷 브레이커 + bulkhead 를 거침 (ChatServiceResilienceConfig)
+ * - 서킷이 열려 있거나 동시 호출 한도를 넘으면 타임아웃을 기다리지 않고 즉시 실패
+ *   (CallNotPermittedException / BulkheadFullException, 거절 수는 chat_service.calls.rejected 로 노출)
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class ChatServiceClient {
 
-    private final WebClient.Builder webClientBuilder;
-    
-    @Value("${chat.service.url}")
-    private String chatServiceUrl;
-    
+    private static final Duration CREATE_ROOM_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration BATCH_DELETE_TIMEOUT = Duration.ofSeconds(30);  // 배치 삭제는 시간이 걸릴 수 있음
+    private static final Duration BATCH_INFO_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final ParameterizedTypeReference<Map<String, ChatRoomInfo>> CHAT_ROOM_INFO_MAP_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final MeterRegistry meterRegistry;
+
+    public ChatServiceClient(@Qualifier("chatServiceWebClient") WebClient webClient,
+                             CircuitBreakerRegistry circuitBreakerRegistry,
+                             BulkheadRegistry bulkheadRegistry,
+                             MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
     /**
-     * 채팅방 생성 요청 (UUID 지정)
+     * 채팅방 생성 API 서킷이 열려 있지 않은지 (재시도 작업이 호출 전에 확인)
      */
-    public String createChatRoomWithId(String chatRoomId, Long user1Id, Long user2Id, Long matchId) {
-        log.info("Creating chat room with ID: {}, match: {}, users: {} <-> {}", 
-                 chatRoomId, matchId, user1Id, user2Id);
-        
-        Map<String, Object> request = new HashMap<>();
-        request.put("chatRoomId", chatRoomId);  // UUID 전달
-        request.put("user1Id", user1Id.toString());
-        request.put("user2Id", user2Id.toString());
-        request.put("matchId", matchId);
-        request.put("matchType", "SWIPE");
-        
-        try {
-            ChatRoomResponse response = webClientBuilder.build()
-                .post()
-                .uri(chatServiceUrl + "/api/chat/rooms")
+    public boolean isChatRoomCreationAvailable() {
+        CircuitBreaker.State state = circuitBreakerRegistry
+                .circuitBreaker(ChatServiceResilienceConfig.CREATE_CHAT_ROOM)
+                .getState();
+        return state != CircuitBreaker.State.OPEN && state != CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    /**
+     * 채팅방 생성 요청 (UUID 지정) - 논블로킹
+     *
+     * @return 채팅 서비스가 생성한 채팅방 ID
+     */
+    public Mono<String> createChatRoomWithIdMono(String chatRoomId, Long user1Id, Long user2Id, Long matchId) {
+        CreateChatRoomRequest request = new CreateChatRoomRequest(
+                chatRoomId,  // UUID 전달
+                user1Id.toString(),
+                user2Id.toString(),
+                matchId,
+                "SWIPE"
+        );
+
+        return webClient.post()
+                .uri("/api/chat/rooms")
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(ChatRoomResponse.class)
-                .timeout(Duration.ofSeconds(5))
-                .block();
-            
-            if (response != null && response.getId() != null) {
-                log.info("Chat room created successfully: {}", response.getId());
-                return response.getId();
-            }
-            
-            throw new RuntimeException("Chat room ID is null");
-            
+                .timeout(CREATE_ROOM_TIMEOUT)
+                .flatMap(response -> response.getId() != null
+                        ? Mono.just(response.getId())
+                        : Mono.error(new IllegalStateException("Chat room ID is null")))
+                .switchIfEmpty(Mono.error(new IllegalStateException("Chat room ID is null")))
+                .doOnSubscribe(s -> log.info("Creating chat room with ID: {}, match: {}, users: {} <-> {}",
+                        chatRoomId, matchId, user1Id, user2Id))
+                .doOnNext(id -> log.info("Chat room created successfully: {}", id))
+                .transform(call -> protect(call, ChatServiceResilienceConfig.CREATE_CHAT_ROOM));
+    }
+
+    public CompletableFuture<String> createChatRoomWithIdAsync(String chatRoomId, Long user1Id, Long user2Id, Long matchId) {
+        return createChatRoomWithIdMono(chatRoomId, user1Id, user2Id, matchId).toFuture();
+    }
+
+    /**
+     * 채팅방 생성 요청 (UUID 지정)
+     */
+    public String createChatRoomWithId(String chatRoomId, Long user1Id, Long user2Id, Long matchId) {
+        try {
+            return createChatRoomWithIdMono(chatRoomId, user1Id, user2Id, matchId).block();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw new RuntimeException("Chat service unavailable: " + e.getMessage(), e);
         } catch (Exception e) {
             log.error("Failed to create chat room", e);
             throw new RuntimeException("Failed to create chat room: " + e.getMessage(), e);
@@ -61,43 +121,54 @@ public class ChatServiceClient {
     }
 
     /**
-     * 유저 배치 삭제 요청
-     * 
+     * 유저 배치 삭제 요청 - 논블로킹
+     *
      * 채팅 프로젝트에 유저 삭제 요청을 보내 채팅방 및 메시지 삭제
-     * 
+     *
+     * @param userIds 삭제할 유저 ID 목록
+     * @return 삭제 성공 여부
+     */
+    public Mono<Boolean> batchDeleteUsersMono(List<Long> userIds) {
+        return webClient.post()
+                .uri("/api/users/batch-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new BatchDeleteUsersRequest(userIds))
+                .retrieve()
+                .bodyToMono(BatchDeleteUsersResponse.class)
+                .timeout(BATCH_DELETE_TIMEOUT)
+                .map(response -> {
+                    if (Boolean.TRUE.equals(response.getSuccess())) {
+                        log.info("Chat service successfully deleted data for {} users. " +
+                                        "Deleted {} chat rooms and {} messages",
+                                userIds.size(),
+                                response.getDeletedChatRooms(),
+                                response.getDeletedMessages());
+                        return true;
+                    }
+                    log.warn("Chat service returned unsuccessful response: {}", response);
+                    return false;
+                })
+                .defaultIfEmpty(false)
+                .doOnSubscribe(s -> log.info("Requesting chat service to delete {} users", userIds.size()))
+                .transform(call -> protect(call, ChatServiceResilienceConfig.BATCH_DELETE_USERS));
+    }
+
+    public CompletableFuture<Boolean> batchDeleteUsersAsync(List<Long> userIds) {
+        return batchDeleteUsersMono(userIds).toFuture();
+    }
+
+    /**
+     * 유저 배치 삭제 요청
+     *
      * @param userIds 삭제할 유저 ID 목록
      * @return 삭제 성공 여부
      */
-    @SuppressWarnings("unchecked")
     public boolean batchDeleteUsers(List<Long> userIds) {
         try {
-            log.info("Requesting chat service to delete {} users", userIds.size());
-            
-            Map<String, Object> request = new HashMap<>();
-            request.put("userIds", userIds);
-            
-            Map<String, Object> response = webClientBuilder.build()
-                    .post()
-                    .uri(chatServiceUrl + "/api/users/batch-delete")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .timeout(Duration.ofSeconds(30))  // 배치 삭제는 시간이 걸릴 수 있음
-                    .block();
-            
-            if (response != null && Boolean.TRUE.equals(response.get("success"))) {
-                log.info("Chat service successfully deleted data for {} users. " +
-                        "Deleted {} chat rooms and {} messages",
-                        userIds.size(),
-                        response.get("deletedChatRooms"),
-                        response.get("deletedMessages"));
-                return true;
-            } else {
-                log.warn("Chat service returned unsuccessful response: {}", response);
-                return false;
-            }
-            
+            return Boolean.TRUE.equals(batchDeleteUsersMono(userIds).block());
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            log.warn("Chat service unavailable, skipping user deletion: {}", e.getMessage());
+            return false;
         } catch (Exception e) {
             log.error("Failed to delete users in chat service: {}", e.getMessage(), e);
             // 채팅 서비스 오류가 메인 프로세스를 막지 않도록 false 반환
@@ -106,60 +177,88 @@ public class ChatServiceClient {
     }
 
     /**
-     * 여러 채팅방의 정보 일괄 조회 (내부 API)
-     * 
+     * 여러 채팅방의 정보 일괄 조회 (내부 API) - 논블로킹
+     *
      * @param chatRoomIds 조회할 채팅방 ID 목록
      * @return chatRoomId -> ChatRoomInfo 맵
      */
-    @SuppressWarnings("unchecked")
+    public Mono<Map<String, ChatRoomInfo>> getBatchChatRoomInfoMono(List<String> chatRoomIds) {
+        if (chatRoomIds == null || chatRoomIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        return webClient.post()
+                .uri("/api/internal/chat/rooms/batch-info")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new BatchChatRoomInfoRequest(chatRoomIds))
+                .retrieve()
+                .bodyToMono(CHAT_ROOM_INFO_MAP_TYPE)
+                .timeout(BATCH_INFO_TIMEOUT)
+                .defaultIfEmpty(Map.of())
+                .doOnSubscribe(s -> log.info("Requesting chat service for {} chat rooms info", chatRoomIds.size()))
+                .doOnNext(result -> log.info("Received info for {} chat rooms", result.size()))
+                .transform(call -> protect(call, ChatServiceResilienceConfig.BATCH_CHAT_ROOM_INFO));
+    }
+
+    public CompletableFuture<Map<String, ChatRoomInfo>> getBatchChatRoomInfoAsync(List<String> chatRoomIds) {
+        return getBatchChatRoomInfoMono(chatRoomIds).toFuture();
+    }
+
+    /**
+     * 여러 채팅방의 정보 일괄 조회 (내부 API)
+     *
+     * @param chatRoomIds 조회할 채팅방 ID 목록
+     * @return chatRoomId -> ChatRoomInfo 맵 (실패 시 빈 맵)
+     */
     public Map<String, ChatRoomInfo> getBatchChatRoomInfo(List<String> chatRoomIds) {
         try {
-            if (chatRoomIds == null || chatRoomIds.isEmpty()) {
-                return Map.of();
-            }
-
-            log.info("Requesting chat service for {} chat rooms info", chatRoomIds.size());
-            
-            Map<String, Object> request = new HashMap<>();
-            request.put("chatRoomIds", chatRoomIds);
-            
-            Map<String, Map<String, Object>> response = webClientBuilder.build()
-                    .post()
-                    .uri(chatServiceUrl + "/api/internal/chat/rooms/batch-info")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .header("X-Internal-API-Key", "${internal.api.key:default-secret-key}")  // TODO: 환경변수로 이동
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .block();
-            
-            if (response == null) {
-                log.warn("Chat service returned null response");
-                return Map.of();
-            }
-
-            // Map<String, Object> -> Map<String, ChatRoomInfo> 변환
-            Map<String, ChatRoomInfo> result = new HashMap<>();
-            response.forEach((chatRoomId, infoMap) -> {
-                ChatRoomInfo info = ChatRoomInfo.builder()
-                        .lastMessage((String) infoMap.get("lastMessage"))
-                        .lastMessageAt((String) infoMap.get("lastMessageAt"))
-                        .unreadCount((Integer) infoMap.getOrDefault("unreadCount", 0))
-                        .build();
-                result.put(chatRoomId, info);
-            });
-            
-            log.info("Received info for {} chat rooms", result.size());
-            return result;
-            
+            Map<String, ChatRoomInfo> result = getBatchChatRoomInfoMono(chatRoomIds).block();
+            return result != null ? result : Map.of();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            log.warn("Chat service unavailable, skipping chat room info: {}", e.getMessage());
+            return Map.of();
         } catch (Exception e) {
             log.error("Failed to get batch chat room info: {}", e.getMessage(), e);
             return Map.of();
         }
     }
 
-    
+    /**
+     * 서킷 브레이커 + bulkhead 적용
+     *
+     * 서킷 확인이 먼저 (열려 있으면 bulkhead 자리를 차지하지 않고 즉시 실패)
+     */
+    private <T> Mono<T> protect(Mono<T> call, String operation) {
+        return call
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(operation)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(operation)))
+                .doOnError(CallNotPermittedException.class, e -> recordRejection(operation, "circuit_open"))
+                .doOnError(BulkheadFullException.class, e -> recordRejection(operation, "bulkhead_full"));
+    }
+
+    private void recordRejection(String operation, String reason) {
+        log.warn("Chat service call rejected: operation={}, reason={}", operation, reason);
+        Counter.builder("chat_service.calls.rejected")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 채팅방 생성 요청 DTO
+     */
+    @lombok.Data
+    @lombok.NoArgsConstructor
+    @lombok.AllArgsConstructor
+    public static class CreateChatRoomRequest {
+        private String chatRoomId;
+        private String user1Id;
+        private String user2Id;
+        private Long matchId;
+        private String matchType;
+    }
+
     /**
      * 채팅 서버 응답 DTO
      */
@@ -176,6 +275,38 @@ public class ChatServiceClient {
         private Boolean isActive;
     }
 
+    /**
+     * 유저 배치 삭제 요청 DTO
+     */
+    @lombok.Data
+    @lombok.NoArgsConstructor
+    @lombok.AllArgsConstructor
+    public static class BatchDeleteUsersRequest {
+        private List<Long> userIds;
+    }
+
+    /**
+     * 유저 배치 삭제 응답 DTO
+     */
+    @lombok.Data
+    @lombok.NoArgsConstructor
+    @lombok.AllArgsConstructor
+    public static class BatchDeleteUsersResponse {
+        private Boolean success;
+        private Long deletedChatRooms;
+        private Long deletedMessages;
+    }
+
+    /**
+     * 채팅방 정보 일괄 조회 요청 DTO
+     */
+    @lombok.Data
+    @lombok.NoArgsConstructor
+    @lombok.AllArgsConstructor
+    public static class BatchChatRoomInfoRequest {
+        private List<String> chatRoomIds;
+    }
+
     /**
      * 채팅방 정보 DTO
      */
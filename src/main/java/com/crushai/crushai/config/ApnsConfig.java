@@ -2,7 +2,12 @@ package com.crushai.crushai.config;
 
 import com.eatthepath.pushy.apns.ApnsClient;
 import com.eatthepath.pushy.apns.ApnsClientBuilder;
+import com.eatthepath.pushy.apns.ApnsClientMetricsListener;
 import com.eatthepath.pushy.apns.auth.ApnsSigningKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -30,6 +35,23 @@ public class ApnsConfig {
     @Value("${apns.production:false}")
     private boolean production;
 
+    // APNs 와 맺는 HTTP/2 연결 수 (연결마다 동시 스트림 수 제한이 있어 매칭 몰릴 때 병목)
+    @Value("${apns.concurrent-connections:4}")
+    private int concurrentConnections;
+
+    // 연결을 나눠 처리할 이벤트 루프 스레드 수 (연결 수보다 많아도 쓰이지 않음)
+    @Value("${apns.event-loop-threads:4}")
+    private int eventLoopThreads;
+
+    /**
+     * APNs 전용 이벤트 루프 (클라이언트 종료 후 정리)
+     */
+    @Bean(destroyMethod = "shutdownGracefully")
+    @ConditionalOnProperty(prefix = "apns", name = "enabled", havingValue = "true")
+    public EventLoopGroup apnsEventLoopGroup() {
+        return new NioEventLoopGroup(eventLoopThreads, new DefaultThreadFactory("apns"));
+    }
+
     /**
      * APNs 클라이언트 빈 생성
      * apns.enabled=true일 때만 활성화
@@ -41,13 +63,14 @@ public class ApnsConfig {
      */
     @Bean
     @ConditionalOnProperty(prefix = "apns", name = "enabled", havingValue = "true")
-    public ApnsClient apnsClient() {
+    public ApnsClient apnsClient(EventLoopGroup apnsEventLoopGroup, MeterRegistry meterRegistry) {
         try {
             log.info("Initializing APNs client...");
             log.info("Key path: {}", keyPath);
             log.info("Team ID: {}", teamId);
             log.info("Key ID: {}", keyId);
             log.info("Production mode: {}", production);
+            log.info("Connections: {}, event loop threads: {}", concurrentConnections, eventLoopThreads);
             
             // .p8 파일에서 signing key 로드 (Pushy 공식 방식)
             ApnsSigningKey signingKey = ApnsSigningKey.loadFromPkcs8File(
@@ -57,7 +80,8 @@ public class ApnsConfig {
             );
 
             // APNs 클라이언트 빌드
-            ApnsClient client = new ApnsClientBuilder()
+            ApnsClient client = clientBuilder(apnsEventLoopGroup, concurrentConnections,
+                    new ApnsMetricsListener(meterRegistry))
                 .setApnsServer(production 
                     ? ApnsClientBuilder.PRODUCTION_APNS_HOST   // api.push.apple.com
                     : ApnsClientBuilder.DEVELOPMENT_APNS_HOST) // api.sandbox.push.apple.com
@@ -82,4 +106,15 @@ public class ApnsConfig {
             throw new RuntimeException("Failed to initialize APNs client", e);
         }
     }
+
+    /**
+     * 서버 / 인증 외 공통 설정 (부하 테스트에서 MockApnsServer 대상으로도 사용)
+     */
+    static ApnsClientBuilder clientBuilder(EventLoopGroup eventLoopGroup, int concurrentConnections,
+                                           ApnsClientMetricsListener metricsListener) {
+        return new ApnsClientBuilder()
+                .setEventLoopGroup(eventLoopGroup)
+                .setConcurrentConnections(concurrentConnections)
+                .setMetricsListener(metricsListener);
+    }
 }
@@ -0,0 +1,68 @@
+package com.crushai.crushai.config;
+
+import com.eatthepath.pushy.apns.ApnsClientMetricsListener;
+import com.eatthepath.pushy.apns.PushNotificationResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushy ApnsClient 이벤트 → Micrometer 메트릭
+ *
+ * - apns.notifications.sent / write-failures: 전송 / 쓰기 실패 수
+ * - apns.notifications.acknowledged{result=accepted|rejected, reason}: APNs 응답까지 걸린 시간
+ * - apns.connections.open / apns.connections.failed: 연결 수 / 연결 실패 수
+ */
+public class ApnsMetricsListener implements ApnsClientMetricsListener {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter sentCounter;
+    private final Counter writeFailureCounter;
+    private final Counter connectionFailureCounter;
+    private final AtomicInteger openConnections = new AtomicInteger();
+
+    public ApnsMetricsListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.sentCounter = meterRegistry.counter("apns.notifications.sent");
+        this.writeFailureCounter = meterRegistry.counter("apns.notifications.write-failures");
+        this.connectionFailureCounter = meterRegistry.counter("apns.connections.failed");
+        meterRegistry.gauge("apns.connections.open", openConnections);
+    }
+
+    @Override
+    public void handleWriteFailure(String topic) {
+        writeFailureCounter.increment();
+    }
+
+    @Override
+    public void handleNotificationSent(String topic) {
+        sentCounter.increment();
+    }
+
+    @Override
+    public void handleNotificationAcknowledged(PushNotificationResponse<?> response, long durationNanos) {
+        Timer.builder("apns.notifications.acknowledged")
+                .tag("result", response.isAccepted() ? "accepted" : "rejected")
+                .tag("reason", response.getRejectionReason().orElse("none"))
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void handleConnectionAdded() {
+        openConnections.incrementAndGet();
+    }
+
+    @Override
+    public void handleConnectionRemoved() {
+        openConnections.decrementAndGet();
+    }
+
+    @Override
+    public void handleConnectionCreationFailed() {
+        connectionFailureCounter.increment();
+    }
+}
@@ -2,6 +2,7 @@ package com.crushai.crushai.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -13,6 +14,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 @EnableAsync
 public class AsyncConfig {
 
+    @Primary  // 이름 없는 @Async 의 기본 실행기 유지 (실행기가 여러 개라도)
     @Bean(name = "swipeExecutor")
     public Executor swipeExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -24,4 +26,52 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * 매칭 커밋 후 채팅방 생성용
+     * 큐가 가득 차면 버림 (매칭은 chatRoomPending 상태로 남아 재시도 스케줄러가 처리)
+     */
+    @Bean(name = "chatRoomExecutor")
+    public Executor chatRoomExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("chat-room-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 위치명 조회용 (로컬 캐시 미스 시 Redis / 지오코딩 호출)
+     * 큐가 가득 차면 호출한 스레드에서 실행
+     */
+    @Bean(name = "geocodingExecutor")
+    public Executor geocodingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("geocoding-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 채팅 메시지 푸시 일괄 전송용 (내부 API 는 큐에 넣고 바로 응답)
+     * 큐가 가득 차면 호출한 스레드(요청 스레드)에서 실행 - 채팅 서버 쪽으로 역압
+     */
+    @Bean(name = "notificationExecutor")
+    public Executor notificationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("notification-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,102 @@
+package com.crushai.crushai.config;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 채팅 서비스 호출 보호 설정 (Resilience4j)
+ *
+ * API(operation)별로 서킷 브레이커 + 동시 호출 제한(bulkhead)을 분리하여
+ * 한 API 장애가 다른 API 호출까지 막지 않도록 함
+ * - createChatRoom     : 매칭 생성 시 채팅방 생성
+ * - batchChatRoomInfo  : 채팅방 목록 조회
+ * - batchDeleteUsers   : 탈퇴 유저 배치 삭제
+ *
+ * 상태 / 호출 결과 / 동시 호출 수는 Micrometer 로 노출
+ * (resilience4j_circuitbreaker_state{name=...}, resilience4j_bulkhead_available_concurrent_calls{name=...})
+ */
+@Configuration
+public class ChatServiceResilienceConfig {
+
+    public static final String CREATE_CHAT_ROOM = "createChatRoom";
+    public static final String BATCH_CHAT_ROOM_INFO = "batchChatRoomInfo";
+    public static final String BATCH_DELETE_USERS = "batchDeleteUsers";
+
+    @Bean
+    public CircuitBreakerRegistry chatServiceCircuitBreakerRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${chat.service.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${chat.service.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${chat.service.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${chat.service.circuit-breaker.wait-in-open:PT30S}") Duration waitInOpen) {
+
+        CircuitBreakerConfig base = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .waitDurationInOpenState(waitInOpen)
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                // bulkhead 거절은 채팅 서비스 장애가 아니므로 실패로 집계하지 않음
+                .ignoreExceptions(BulkheadFullException.class)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(base);
+
+        // 느린 호출 기준은 API별 타임아웃보다 짧게 (타임아웃까지 기다리기 전에 열림)
+        registry.circuitBreaker(CREATE_CHAT_ROOM, CircuitBreakerConfig.from(base)
+                .slowCallDurationThreshold(Duration.ofSeconds(2))
+                .build());
+        registry.circuitBreaker(BATCH_CHAT_ROOM_INFO, CircuitBreakerConfig.from(base)
+                .slowCallDurationThreshold(Duration.ofSeconds(2))
+                .build());
+        registry.circuitBreaker(BATCH_DELETE_USERS, CircuitBreakerConfig.from(base)
+                .slowCallDurationThreshold(Duration.ofSeconds(15))
+                .minimumNumberOfCalls(3)  // 하루 1회 배치라 호출 수가 적음
+                .slidingWindowSize(5)
+                .build());
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public BulkheadRegistry chatServiceBulkheadRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${chat.service.bulkhead.create-chat-room:20}") int createChatRoomConcurrency,
+            @Value("${chat.service.bulkhead.batch-chat-room-info:50}") int batchInfoConcurrency,
+            @Value("${chat.service.bulkhead.batch-delete-users:2}") int batchDeleteConcurrency) {
+
+        // 대기 없이 즉시 거절 (요청 스레드를 붙잡지 않음)
+        BulkheadConfig base = BulkheadConfig.custom()
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+
+        BulkheadRegistry registry = BulkheadRegistry.of(base);
+        registry.bulkhead(CREATE_CHAT_ROOM, BulkheadConfig.from(base)
+                .maxConcurrentCalls(createChatRoomConcurrency)
+                .build());
+        registry.bulkhead(BATCH_CHAT_ROOM_INFO, BulkheadConfig.from(base)
+                .maxConcurrentCalls(batchInfoConcurrency)
+                .build());
+        registry.bulkhead(BATCH_DELETE_USERS, BulkheadConfig.from(base)
+                .maxConcurrentCalls(batchDeleteConcurrency)
+                .build());
+
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+}
@@ -1,11 +1,14 @@
 package com.crushai.crushai.config;
 
+import com.crushai.crushai.auth.InternalApiKeyFilter;
 import com.crushai.crushai.jwt.CustomLogoutFilter;
 import com.crushai.crushai.jwt.JWTFilter;
 import com.crushai.crushai.jwt.JWTUtil;
 import com.crushai.crushai.jwt.LoginFilter;
-import com.crushai.crushai.repository.RefreshRepository;
-import com.crushai.crushai.repository.UserRepository;
+import com.crushai.crushai.service.AuthPrincipalCache;
+import com.crushai.crushai.service.PresenceService;
+import com.crushai.crushai.service.RefreshTokenStore;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -26,15 +29,21 @@ public class SecurityConfig {
     //AuthenticationManager가 인자로 받을 AuthenticationConfiguraion 객체 생성자 주입
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JWTUtil jwtUtil;
-    private final RefreshRepository repository;
-    private final UserRepository userRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AuthPrincipalCache principalCache;
+    private final PresenceService presenceService;
+    private final String internalApiKey;
 
     public SecurityConfig(AuthenticationConfiguration authenticationConfiguration, JWTUtil jwtUtil, 
-                         RefreshRepository repository, UserRepository userRepository) {
+                         RefreshTokenStore refreshTokenStore, AuthPrincipalCache principalCache,
+                         PresenceService presenceService,
+                         @Value("${internal.api.key}") String internalApiKey) {
         this.jwtUtil = jwtUtil;
         this.authenticationConfiguration = authenticationConfiguration;
-        this.repository = repository;
-        this.userRepository = userRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.principalCache = principalCache;
+        this.presenceService = presenceService;
+        this.internalApiKey = internalApiKey;
     }
 
     //AuthenticationManager Bean 등록
@@ -68,16 +77,21 @@ public class SecurityConfig {
         http
                 .authorizeHttpRequests((auth) -> auth
                         .requestMatchers( "/join", "/reissue", "/auth/**").permitAll() // /join 경로 없애야 함. , "/api/**"
+                        .requestMatchers("/api/internal/**").hasRole("INTERNAL") // 채팅 서버 등 내부 서비스 전용
                         .anyRequest().authenticated());
 
         http
-                .addFilterBefore(new JWTFilter(jwtUtil, userRepository), LoginFilter.class);
+                .addFilterBefore(new JWTFilter(jwtUtil, principalCache, presenceService), LoginFilter.class);
+
+        //내부 API 키 인증 (/api/internal/** 전용)
+        http
+                .addFilterBefore(new InternalApiKeyFilter(internalApiKey), LoginFilter.class);
 
 //        http
 //                .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, repository), UsernamePasswordAuthenticationFilter.class);
 
         http
-                .addFilterBefore(new CustomLogoutFilter(jwtUtil, repository), LogoutFilter.class);
+                .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshTokenStore, principalCache), LogoutFilter.class);
 
         //세션 설정
         http
@@ -1,14 +1,72 @@
 package com.crushai.crushai.config;
 
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
+@Slf4j
 public class WebClientConfig {
 
     @Bean
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder();
     }
+
+    /**
+     * 채팅 서비스 전용 WebClient (애플리케이션 전체에서 1개 공유)
+     *
+     * - 커넥션 풀 크기 / 대기 제한 / 유휴 커넥션 정리
+     * - keep-alive, 선택적 HTTP/2
+     * - connect 타임아웃 (응답 타임아웃은 ChatServiceClient 에서 호출별 .timeout(...) 으로 지정 - 배치 삭제는 30초)
+     * - 내부 API 키 기본 헤더
+     */
+    @Bean("chatServiceWebClient")
+    public WebClient chatServiceWebClient(
+            @Value("${chat.service.url}") String chatServiceUrl,
+            @Value("${internal.api.key}") String internalApiKey,
+            @Value("${chat.service.pool.max-connections:100}") int maxConnections,
+            @Value("${chat.service.pool.pending-acquire-max:500}") int pendingAcquireMax,
+            @Value("${chat.service.pool.pending-acquire-timeout:PT2S}") Duration pendingAcquireTimeout,
+            @Value("${chat.service.pool.max-idle-time:PT30S}") Duration maxIdleTime,
+            @Value("${chat.service.connect-timeout:PT1S}") Duration connectTimeout,
+            @Value("${chat.service.http2:false}") boolean http2) {
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("chat-service")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .evictInBackground(maxIdleTime)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis());
+
+        if (http2) {
+            // TLS면 ALPN(h2), 평문이면 h2c. 서버가 지원하지 않으면 HTTP/1.1로 협상
+            httpClient = chatServiceUrl.startsWith("https")
+                    ? httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                    : httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+
+        log.info("Chat service WebClient: url={}, maxConnections={}, http2={}, connectTimeout={}",
+                chatServiceUrl, maxConnections, http2, connectTimeout);
+
+        return WebClient.builder()
+                .baseUrl(chatServiceUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader("X-Internal-API-Key", internalApiKey)
+                .build();
+    }
 }
@@ -1,6 +1,8 @@
 package com.crushai.crushai.controller;
 
 import com.crushai.crushai.service.AuthService;
+import com.crushai.crushai.service.RateLimitExceededException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -54,8 +56,12 @@ public class AuthController {
 
         System.out.println(accessToken);
 
-        Map<String, String> tokens = authService.loginWithFacebook(accessToken, deviceId, deviceName);
-        return ResponseEntity.ok(tokens);
+        try {
+            Map<String, String> tokens = authService.loginWithFacebook(accessToken, deviceId, deviceName);
+            return ResponseEntity.ok(tokens);
+        } catch (RateLimitExceededException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(Map.of("error", "Too many login attempts. Please try again."));
+        }
     }
 }
 
@@ -1,6 +1,6 @@
 package com.crushai.crushai.controller;
 
-import com.crushai.crushai.dto.ChatRoomResponse;
+import com.crushai.crushai.dto.ChatRoomPageResponse;
 import com.crushai.crushai.dto.CustomUserDetails;
 import com.crushai.crushai.service.ChatRoomService;
 import lombok.RequiredArgsConstructor;
@@ -9,9 +9,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -27,10 +27,13 @@ public class ChatController {
 
     private final ChatRoomService chatRoomService;
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
     /**
-     * 내 채팅방 목록 조회
+     * 내 채팅방 목록 조회 (마지막 활동 순, 커서 페이지네이션)
      * 
-     * GET /api/chat/rooms
+     * GET /api/chat/rooms?cursor={nextCursor}&size=20
      * Authorization: Bearer {JWT}
      * 
      * Response:
@@ -51,20 +54,29 @@ public class ChatController {
      *       "lastMessageAt": "2024-11-23T15:30:00Z",
      *       "unreadCount": 3
      *     }
-     *   ]
+     *   ],
+     *   "nextCursor": "MjAyNC0xMS0yM1QxNTozMDowMHwxMjM",
+     *   "hasMore": true
      * }
      */
     @GetMapping("/rooms")
-    public ResponseEntity<Map<String, Object>> getMyChatRooms(
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
+    public ResponseEntity<?> getMyChatRooms(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
 
         Long userId = userDetails.getUserId();
         log.info("Fetching chat rooms for user: {}", userId);
-        
-        List<ChatRoomResponse> chatRooms = chatRoomService.getMyChatRooms(userId);
-        
-        return ResponseEntity.ok(Map.of(
-                "chatRooms", chatRooms
-        ));
+
+        int pageSize = size > 0 ? Math.min(size, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+
+        try {
+            ChatRoomPageResponse page = chatRoomService.getMyChatRooms(userId, cursor, pageSize);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", e.getMessage()
+            ));
+        }
     }
 }
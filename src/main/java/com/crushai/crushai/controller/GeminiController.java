@@ -1,9 +1,13 @@
 package com.crushai.crushai.controller;
 
 import com.crushai.crushai.dto.AnalysisResponse; // 기존 응답 DTO (이번 기능에는 사용 안 함)
+import com.crushai.crushai.dto.CustomUserDetails;
 import com.crushai.crushai.service.GeminiService;
+import com.crushai.crushai.service.RateLimitExceededException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile; // Spring MVC의 MultipartFile 임포트
 
@@ -21,6 +25,7 @@ public class GeminiController {
     // 기존 분석 기능 (변경 없음)
     @PostMapping(value = "/analyze", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<AnalysisResponse> analyzeScreenshot(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestPart("screenshot") MultipartFile screenshotFile) {
 
         System.out.println("메시지 분석 시작!");
@@ -32,9 +37,11 @@ public class GeminiController {
         }
 
         try {
-            AnalysisResponse analysisResult = geminiService.analyzeChatScreenshot(screenshotFile, prompt);
+            AnalysisResponse analysisResult = geminiService.analyzeChatScreenshot(userDetails.getUserId(), screenshotFile, prompt);
             System.out.println("메시지 분석 완료!");
             return ResponseEntity.ok(analysisResult);
+        } catch (RateLimitExceededException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(null);
         } catch (IOException e) {
             System.out.println("메시지 분석 실패!");
             e.printStackTrace();
@@ -49,6 +56,7 @@ public class GeminiController {
     // --- 두 번째 기능: nextMove 추천 ---
     @PostMapping(value = "/next-move", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<String> getNextMoveRecommendation(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam("spicyLevel") int spicyLevel, // 매운맛 레벨 (필수)
             @RequestPart(value = "screenshot", required = false) MultipartFile screenshotFile) { // 스크린샷 (선택적)
 
@@ -57,8 +65,10 @@ public class GeminiController {
         }
 
         try {
-            String nextMove = geminiService.generateNextMove(screenshotFile, spicyLevel);
+            String nextMove = geminiService.generateNextMove(userDetails.getUserId(), screenshotFile, spicyLevel);
             return ResponseEntity.ok(nextMove);
+        } catch (RateLimitExceededException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body("Too many requests. Please try again later.");
         } catch (IOException e) {
             e.printStackTrace();
             return ResponseEntity.status(500).body("Error processing file: " + e.getMessage());
@@ -0,0 +1,75 @@
+package com.crushai.crushai.controller;
+
+import com.crushai.crushai.dto.ChatMessageNotificationRequest;
+import com.crushai.crushai.dto.ChatSummaryUpdateRequest;
+import com.crushai.crushai.service.ChatRoomService;
+import com.crushai.crushai.service.ChatSummaryCacheService;
+import com.crushai.crushai.service.NotificationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 채팅 서버 → 메인 서버 내부 API
+ *
+ * X-Internal-API-Key 헤더로 인증 (InternalApiKeyFilter)
+ */
+@RestController
+@RequestMapping("/api/internal/chat")
+@RequiredArgsConstructor
+@Slf4j
+public class InternalChatController {
+
+    private final ChatSummaryCacheService chatSummaryCacheService;
+    private final ChatRoomService chatRoomService;
+    private final NotificationService notificationService;
+
+    /**
+     * 채팅방 요약 푸시 (마지막 메시지 / 안 읽은 메시지 수 증감)
+     * 새 메시지가 있으면 매칭의 마지막 활동 시각도 갱신 (채팅방 목록 정렬)
+     *
+     * POST /api/internal/chat/summaries
+     * X-Internal-API-Key: {key}
+     *
+     * Response: { "applied": 1 }
+     */
+    @PostMapping("/summaries")
+    public ResponseEntity<Map<String, Object>> updateSummaries(
+            @Valid @RequestBody ChatSummaryUpdateRequest request) {
+
+        // DB 활동 시각을 먼저 반영 (캐시 반영이 실패해도 채팅방 목록 정렬은 갱신, 재전송해도 더 최신일 때만 갱신)
+        chatRoomService.recordChatActivity(request.getUpdates());
+        int applied = chatSummaryCacheService.applyUpdates(request.getUpdates());
+
+        return ResponseEntity.ok(Map.of(
+                "applied", applied
+        ));
+    }
+
+    /**
+     * 채팅 메시지 푸시 알림 일괄 요청
+     * 검증 후 바로 202 응답, 전송은 비동기 (같은 수신자의 메시지는 1건으로 합침)
+     *
+     * POST /api/internal/chat/notifications
+     * X-Internal-API-Key: {key}
+     *
+     * Response: { "accepted": 2 }
+     */
+    @PostMapping("/notifications")
+    public ResponseEntity<Map<String, Object>> sendMessageNotifications(
+            @Valid @RequestBody ChatMessageNotificationRequest request) {
+
+        notificationService.sendChatMessageNotifications(request.getMessages());
+
+        return ResponseEntity.accepted().body(Map.of(
+                "accepted", request.getMessages().size()
+        ));
+    }
+}
@@ -48,7 +48,7 @@ public class UserLocationController {
         log.info("Received location update for userId: {}, lon: {}, lat: {}", 
             userId, userLocationRequest.longitude(), userLocationRequest.latitude());
         
-        // 비동기로 위치 저장 (@Async)
+        // 비동기로 위치 저장 (쓰기 지연 버퍼, 유저별 최신 좌표만 반영)
         userLocationService.saveUserLocationAsync(
             userId, 
             userLocationRequest.longitude(), 
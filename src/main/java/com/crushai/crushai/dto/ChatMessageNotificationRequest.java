@@ -0,0 +1,52 @@
+package com.crushai.crushai.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 채팅 서버 → 메인 서버 채팅 메시지 푸시 일괄 요청 DTO
+ *
+ * 사용 예시:
+ * {
+ *   "messages": [
+ *     { "recipientId": 456, "senderId": 123, "preview": "안녕하세요!" },
+ *     { "recipientId": 456, "senderId": 123, "preview": "뭐해요?" }
+ *   ]
+ * }
+ * 같은 수신자의 메시지는 푸시 1건으로 합쳐서 전송
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageNotificationRequest {
+
+    @NotEmpty(message = "messages must not be empty")
+    @Size(max = 1000, message = "at most 1000 messages per request")
+    @Valid
+    private List<Message> messages;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Message {
+
+        @NotNull(message = "recipientId is required")
+        private Long recipientId;
+
+        @NotNull(message = "senderId is required")
+        private Long senderId;
+
+        // 메시지 미리보기 (이미지 등은 채팅 서버에서 "Photo" 같은 문구로 채움)
+        private String preview;
+    }
+}
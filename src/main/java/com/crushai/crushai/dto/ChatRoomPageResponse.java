@@ -0,0 +1,27 @@
+package com.crushai.crushai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 채팅방 목록 페이지 응답 DTO
+ *
+ * 마지막 활동 시각 내림차순. 다음 페이지는 nextCursor 로 요청
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatRoomPageResponse {
+
+    private List<ChatRoomResponse> chatRooms;
+
+    // 다음 페이지 커서 (마지막 페이지면 null)
+    private String nextCursor;
+
+    private boolean hasMore;
+}
@@ -34,6 +34,9 @@ public class ChatRoomResponse {
     private Instant lastMessageAt;
     private Integer unreadCount;
     
+    // 채팅 서비스 응답이 마감 시간 내에 오지 않아 마지막 메시지 정보가 비어 있는 경우 true
+    private boolean infoStale;
+    
     @Data
     @Builder
     @NoArgsConstructor
@@ -43,5 +46,6 @@ public class ChatRoomResponse {
         private String name;
         private Integer age;
         private String profilePhoto;  // 첫 번째 프로필 사진
+        private Double distanceKm;  // 나와의 거리 (위치 정보가 없으면 null)
     }
 }
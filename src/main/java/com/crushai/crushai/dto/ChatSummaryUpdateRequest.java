@@ -0,0 +1,61 @@
+package com.crushai.crushai.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅 서버 → 메인 서버 채팅방 요약 푸시 요청 DTO
+ *
+ * 사용 예시:
+ * {
+ *   "updates": [
+ *     {
+ *       "chatRoomId": "uuid-1234",
+ *       "lastMessage": "안녕하세요!",
+ *       "lastMessageAt": "2024-11-23T15:30:00Z",
+ *       "unreadDeltas": { "456": 1 },
+ *       "unreadResets": [123]
+ *     }
+ *   ]
+ * }
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatSummaryUpdateRequest {
+
+    @NotEmpty(message = "updates must not be empty")
+    @Size(max = 1000, message = "at most 1000 updates per request")
+    @Valid
+    private List<Update> updates;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Update {
+
+        @NotBlank(message = "chatRoomId is required")
+        private String chatRoomId;
+
+        // 새 메시지가 없으면 null (읽음 처리만 하는 경우)
+        private String lastMessage;
+        private String lastMessageAt;   // ISO-8601 (Instant)
+
+        // userId -> 안 읽은 메시지 수 증감 (새 메시지 수신자 +1)
+        private Map<Long, Integer> unreadDeltas;
+
+        // 채팅방을 읽은 유저 (안 읽은 메시지 수 0으로 초기화)
+        private List<Long> unreadResets;
+    }
+}
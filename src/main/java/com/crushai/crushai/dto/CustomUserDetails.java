@@ -1,5 +1,6 @@
 package com.crushai.crushai.dto;
 
+import com.crushai.crushai.entity.Role;
 import com.crushai.crushai.entity.UserEntity;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,30 +11,44 @@ import java.util.List;
 
 public class CustomUserDetails implements UserDetails {
 
-    private final UserEntity userEntity;
+    private final Long userId;
+    private final String email;
+    private final String password;
+    private final Role role;
 
     public CustomUserDetails(UserEntity userEntity) {
-        this.userEntity = userEntity;
+        this.userId = userEntity.getId();
+        this.email = userEntity.getEmail();
+        this.password = userEntity.getPassword();
+        this.role = userEntity.getRole();
+    }
+
+    // JWT 인증용 (엔티티 없이 토큰 claims / 캐시 값으로 생성, 비밀번호 없음)
+    public CustomUserDetails(Long userId, String email, Role role) {
+        this.userId = userId;
+        this.email = email;
+        this.password = null;
+        this.role = role;
     }
     
     // 추가: userId를 직접 가져올 수 있도록
     public Long getUserId() {
-        return userEntity.getId();
+        return userId;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of((GrantedAuthority) () -> "ROLE_" + userEntity.getRole().name());
+        return List.of((GrantedAuthority) () -> "ROLE_" + role.name());
     }
 
     @Override
     public String getPassword() {
-        return userEntity.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return userEntity.getEmail();
+        return email;
     }
 
     @Override
@@ -30,4 +30,5 @@ public class LikedYouDto {
     
     // 위치 정보
     private String locationName;
+    private Double distanceKm;  // 나와의 거리 (위치 정보가 없으면 null)
 }
@@ -21,6 +21,9 @@ import java.time.Instant;
 @Builder
 @EntityListeners(AuditingEntityListener.class)
 public class DeviceToken {
+
+    // 연속 실패가 이 횟수에 도달하면 INVALID 처리
+    public static final int MAX_FAILURES = 3;
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -93,7 +96,7 @@ public class DeviceToken {
         this.failureReason = reason;
         
         // 3번 연속 실패 시 INVALID 처리
-        if (this.failureCount >= 3) {
+        if (this.failureCount >= MAX_FAILURES) {
             this.status = TokenStatus.INVALID;
         }
     }
@@ -8,11 +8,20 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 
 @Entity
 @Table(
     name = "matches",
-    uniqueConstraints = @UniqueConstraint(columnNames = {"user1_id", "user2_id"})
+    uniqueConstraints = @UniqueConstraint(columnNames = {"user1_id", "user2_id"}),
+    indexes = {
+        // 채팅방 목록 커서 페이지네이션 (유저 양쪽 컬럼 각각)
+        @Index(name = "idx_user1_active_activity", columnList = "user1_id, isActive, last_activity_at, id"),
+        @Index(name = "idx_user2_active_activity", columnList = "user2_id, isActive, last_activity_at, id"),
+        @Index(name = "idx_chat_room_id", columnList = "chat_room_id"),
+        @Index(name = "idx_chat_room_pending", columnList = "chatRoomPending")
+    }
 )
 @Getter
 @NoArgsConstructor
@@ -20,6 +29,9 @@ import java.time.LocalDateTime;
 @Builder
 public class Match {
 
+    // matchedAt / lastActivityAt 기준 시간대 (서버 시간대와 무관하게 UTC 로 저장)
+    public static final ZoneId TIME_ZONE = ZoneOffset.UTC;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -40,12 +52,27 @@ public class Match {
     @Column(nullable = false)
     private boolean isActive = true;
 
+    // 채팅 서비스에 채팅방 생성이 아직 완료되지 않음 (커밋 후 비동기 생성 / 재시도 대상)
+    @Column(nullable = false)
+    private boolean chatRoomPending;
+
+    // 채팅방 생성 실패 횟수 / 다음 재시도 가능 시각 (실패가 반복되는 매칭은 점점 늦게 재시도)
+    @Column(nullable = false)
+    private int chatRoomAttempts;
+
+    private LocalDateTime chatRoomNextRetryAt;
+
     @Column(nullable = false)
     private LocalDateTime matchedAt;
 
+    // 마지막 활동 시각 (매칭 생성 또는 마지막 채팅 메시지). 채팅방 목록 정렬 기준
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+
     @PrePersist
     protected void onCreate() {
-        matchedAt = LocalDateTime.now();
+        matchedAt = LocalDateTime.now(TIME_ZONE);
+        lastActivityAt = matchedAt;
     }
 
     public void setChatRoomId(String chatRoomId) {
@@ -0,0 +1,27 @@
+package com.crushai.crushai.enums;
+
+import java.time.Duration;
+
+/**
+ * 모아서 보내는 알림 종류
+ * 묶는 기간은 notification.digest.{key}.window 로 변경 가능
+ */
+public enum NotificationDigestType {
+    LIKE("like", Duration.ofMinutes(15));
+
+    private final String key;
+    private final Duration defaultWindow;
+
+    NotificationDigestType(String key, Duration defaultWindow) {
+        this.key = key;
+        this.defaultWindow = defaultWindow;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Duration getDefaultWindow() {
+        return defaultWindow;
+    }
+}
@@ -0,0 +1,9 @@
+package com.crushai.crushai.event;
+
+/**
+ * 매칭 생성 이벤트
+ *
+ * 매칭 트랜잭션 커밋 후 채팅방 생성에 사용 (ChatRoomProvisioningService)
+ */
+public record MatchCreatedEvent(Long matchId, String chatRoomId, Long user1Id, Long user2Id) {
+}
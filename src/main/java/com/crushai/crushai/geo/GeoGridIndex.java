@@ -0,0 +1,389 @@
+package com.crushai.crushai.geo;
+
+import com.crushai.crushai.dto.NearbyUserDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 내 위경도 격자 인덱스 (user_locations 의 로컬 읽기 복제본)
+ *
+ * - 유저 좌표는 기본형 배열(userId / lat / lon)에 slot 단위로 저장
+ * - 격자 셀(cellSizeDeg 도 단위)마다 slot 번호 목록을 보관
+ * - userId → slot, 셀 → 목록 조회는 기본형 open addressing 맵 (갱신 / 셀 조회마다 박싱 없음)
+ * - 반경 검색은 반경을 덮는 셀만 훑어 Haversine 거리로 거른 뒤, (거리, slot)을 long 하나로 묶어 정렬
+ *   → 결과 DTO 외에는 객체를 거의 만들지 않음
+ *
+ * 읽기 / 쓰기는 ReadWriteLock 으로 보호 (검색끼리는 동시에 실행)
+ */
+public class GeoGridIndex {
+
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final double cellSizeDeg;
+    private final int latCells;
+    private final int lonCells;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // slot 별 데이터
+    private long[] userIds = new long[INITIAL_CAPACITY];
+    private double[] lats = new double[INITIAL_CAPACITY];
+    private double[] lons = new double[INITIAL_CAPACITY];
+    private int[] cellOfSlot = new int[INITIAL_CAPACITY];
+    private int slotCount;
+
+    // 삭제로 비어 있는 slot (재사용)
+    private int[] freeSlots = new int[64];
+    private int freeCount;
+
+    private final LongIntMap slotByUserId = new LongIntMap();
+
+    // 셀 → cellBags 번호 (한 번 생긴 셀 목록은 비어도 유지 - 유저가 있었던 셀 수만큼만 생김)
+    private final LongIntMap bagByCell = new LongIntMap();
+    private IntBag[] cellBags = new IntBag[64];
+    private int cellBagCount;
+
+    /**
+     * @param cellSizeDeg 격자 셀 크기 (도). 자주 쓰는 검색 반경과 비슷한 크기가 적당 (0.1도 ≈ 11km)
+     */
+    public GeoGridIndex(double cellSizeDeg) {
+        this.cellSizeDeg = cellSizeDeg;
+        this.latCells = (int) Math.ceil(180.0 / cellSizeDeg);
+        this.lonCells = (int) Math.ceil(360.0 / cellSizeDeg);
+    }
+
+    /**
+     * 유저 좌표 추가 / 갱신
+     */
+    public void upsert(long userId, double longitude, double latitude) {
+        int cell = cellOf(latitude, longitude);
+
+        lock.writeLock().lock();
+        try {
+            int slot = slotByUserId.get(userId);
+            if (slot >= 0) {
+                if (cellOfSlot[slot] != cell) {
+                    cellBag(cellOfSlot[slot]).remove(slot);
+                    cellBagOrCreate(cell).add(slot);
+                }
+            } else {
+                slot = allocateSlot();
+                userIds[slot] = userId;
+                slotByUserId.put(userId, slot);
+                cellBagOrCreate(cell).add(slot);
+            }
+
+            lats[slot] = latitude;
+            lons[slot] = longitude;
+            cellOfSlot[slot] = cell;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 유저 좌표 삭제
+     */
+    public void remove(long userId) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotByUserId.remove(userId);
+            if (slot < 0) {
+                return;
+            }
+
+            cellBag(cellOfSlot[slot]).remove(slot);
+
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(long userId) {
+        lock.readLock().lock();
+        try {
+            return slotByUserId.get(userId) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByUserId.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            slotByUserId.clear();
+            bagByCell.clear();
+            Arrays.fill(cellBags, 0, cellBagCount, null);
+            cellBagCount = 0;
+            slotCount = 0;
+            freeCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 유저 기준 반경 검색 (자기 자신 제외, 가까운 순)
+     *
+     * @param userId 중심 유저 ID
+     * @param radiusKm 검색 반경 (km)
+     * @param limit 최대 결과 개수
+     * @return 반경 내 유저 (중심 유저가 인덱스에 없으면 빈 리스트)
+     */
+    public List<NearbyUserDto> findNearby(long userId, double radiusKm, int limit) {
+        lock.readLock().lock();
+        try {
+            int slot = slotByUserId.get(userId);
+            if (slot < 0) {
+                return List.of();
+            }
+            return searchLocked(lats[slot], lons[slot], radiusKm, limit, userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 좌표 기준 반경 검색 (가까운 순)
+     */
+    public List<NearbyUserDto> findNearby(double longitude, double latitude, double radiusKm, int limit) {
+        lock.readLock().lock();
+        try {
+            return searchLocked(latitude, longitude, radiusKm, limit, Long.MIN_VALUE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<NearbyUserDto> searchLocked(double lat, double lon, double radiusKm, int limit, long excludeUserId) {
+        double latDelta = radiusKm / KM_PER_DEGREE_LAT;
+        double cosLat = Math.cos(Math.toRadians(lat));
+        double lonDelta = cosLat > 1e-6 ? radiusKm / (KM_PER_DEGREE_LAT * cosLat) : 360.0;
+
+        int latFrom = Math.max(0, latIndex(lat - latDelta));
+        int latTo = Math.min(latCells - 1, latIndex(lat + latDelta));
+
+        boolean allLon = lonDelta >= 180.0;
+        int lonFrom = allLon ? 0 : lonIndex(lon - lonDelta);
+        int lonSpan = allLon ? lonCells : (lonIndex(lon + lonDelta) - lonFrom + lonCells) % lonCells + 1;
+
+        // (float 거리 비트 << 32 | slot) - 양수 float 비트는 크기 순서와 같으므로 long 정렬 = 거리 정렬
+        long[] hits = new long[16];
+        int hitCount = 0;
+
+        for (int latIdx = latFrom; latIdx <= latTo; latIdx++) {
+            for (int i = 0; i < lonSpan; i++) {
+                int lonIdx = (lonFrom + i) % lonCells;
+                IntBag bag = cellBag(latIdx * lonCells + lonIdx);
+                if (bag == null) {
+                    continue;
+                }
+
+                for (int b = 0; b < bag.size; b++) {
+                    int slot = bag.items[b];
+                    if (userIds[slot] == excludeUserId) {
+                        continue;
+                    }
+
+                    double distance = GeoDistance.haversineKm(lat, lon, lats[slot], lons[slot]);
+                    if (distance <= radiusKm) {
+                        if (hitCount == hits.length) {
+                            hits = Arrays.copyOf(hits, hitCount * 2);
+                        }
+                        hits[hitCount++] = ((long) Float.floatToIntBits((float) distance) << 32) | slot;
+                    }
+                }
+            }
+        }
+
+        Arrays.sort(hits, 0, hitCount);
+
+        int resultSize = Math.min(limit, hitCount);
+        List<NearbyUserDto> results = new ArrayList<>(resultSize);
+        for (int i = 0; i < resultSize; i++) {
+            int slot = (int) hits[i];
+            double distance = Float.intBitsToFloat((int) (hits[i] >>> 32));
+            results.add(new NearbyUserDto(userIds[slot], distance, lons[slot], lats[slot]));
+        }
+        return results;
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == userIds.length) {
+            int capacity = userIds.length * 2;
+            userIds = Arrays.copyOf(userIds, capacity);
+            lats = Arrays.copyOf(lats, capacity);
+            lons = Arrays.copyOf(lons, capacity);
+            cellOfSlot = Arrays.copyOf(cellOfSlot, capacity);
+        }
+        return slotCount++;
+    }
+
+    private IntBag cellBag(int cell) {
+        int bag = bagByCell.get(cell);
+        return bag >= 0 ? cellBags[bag] : null;
+    }
+
+    private IntBag cellBagOrCreate(int cell) {
+        IntBag bag = cellBag(cell);
+        if (bag != null) {
+            return bag;
+        }
+        if (cellBagCount == cellBags.length) {
+            cellBags = Arrays.copyOf(cellBags, cellBagCount * 2);
+        }
+        bag = new IntBag();
+        cellBags[cellBagCount] = bag;
+        bagByCell.put(cell, cellBagCount++);
+        return bag;
+    }
+
+    private int cellOf(double latitude, double longitude) {
+        int latIdx = Math.min(latCells - 1, Math.max(0, latIndex(latitude)));
+        return latIdx * lonCells + lonIndex(longitude);
+    }
+
+    private int latIndex(double latitude) {
+        return (int) Math.floor((latitude + 90.0) / cellSizeDeg);
+    }
+
+    // 경도는 ±180 에서 이어지므로 순환
+    private int lonIndex(double longitude) {
+        int idx = (int) Math.floor((longitude + 180.0) / cellSizeDeg) % lonCells;
+        return idx < 0 ? idx + lonCells : idx;
+    }
+
+    /**
+     * 셀별 slot 목록 (int 가변 배열)
+     */
+    private static final class IntBag {
+        int[] items = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = value;
+        }
+
+        void remove(int value) {
+            for (int i = 0; i < size; i++) {
+                if (items[i] == value) {
+                    items[i] = items[--size];  // 순서 무관, 마지막 원소로 덮음
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * long → int 맵 (open addressing, 선형 탐사). 값은 0 이상만 저장하고 없으면 -1
+     */
+    private static final class LongIntMap {
+        long[] keys = new long[16];
+        int[] values = new int[16];
+        boolean[] used = new boolean[16];
+        int size;
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int i = index(key, mask); used[i]; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return -1;
+        }
+
+        void put(long key, int value) {
+            if ((size + 1) * 4 > keys.length * 3) {
+                resize(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int i = index(key, mask);
+            while (used[i]) {
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            used[i] = true;
+            keys[i] = key;
+            values[i] = value;
+            size++;
+        }
+
+        int remove(long key) {
+            int mask = keys.length - 1;
+            int i = index(key, mask);
+            while (used[i] && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (!used[i]) {
+                return -1;
+            }
+            int removed = values[i];
+            size--;
+
+            // 뒤따르는 항목을 당겨서 탐사 경로에 빈칸이 생기지 않게 함 (삭제 표시 없이)
+            int gap = i;
+            for (int j = (gap + 1) & mask; used[j]; j = (j + 1) & mask) {
+                int home = index(keys[j], mask);
+                if (((j - home) & mask) >= ((j - gap) & mask)) {
+                    keys[gap] = keys[j];
+                    values[gap] = values[j];
+                    gap = j;
+                }
+            }
+            used[gap] = false;
+            return removed;
+        }
+
+        void clear() {
+            Arrays.fill(used, false);
+            size = 0;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            boolean[] oldUsed = used;
+            keys = new long[capacity];
+            values = new int[capacity];
+            used = new boolean[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldUsed[i]) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int index(long key, int mask) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+}
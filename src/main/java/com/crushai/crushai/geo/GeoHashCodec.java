@@ -0,0 +1,68 @@
+package com.crushai.crushai.geo;
+
+/**
+ * Redis GEO 점수(52bit geohash) 인코딩 / 디코딩
+ *
+ * Redis 는 GEOADD 좌표를 위도/경도 각 26bit 로 양자화한 뒤 비트를 교차(interleave)하여
+ * Sorted Set 점수로 저장함 (위도: 짝수 비트, 경도: 홀수 비트)
+ * ZSCAN 으로 받은 점수를 GEOPOS 없이 좌표로 바꾸는 데 사용
+ */
+public final class GeoHashCodec {
+
+    private static final double LAT_MIN = -85.05112878;
+    private static final double LAT_MAX = 85.05112878;
+    private static final double LON_MIN = -180.0;
+    private static final double LON_MAX = 180.0;
+    private static final int STEP = 26;
+    private static final double CELLS = (double) (1L << STEP);
+
+    private GeoHashCodec() {
+    }
+
+    /**
+     * 점수 → 위도 (셀 중심)
+     */
+    public static double decodeLatitude(long hash) {
+        long latBits = squash(hash);
+        return LAT_MIN + (latBits + 0.5) * ((LAT_MAX - LAT_MIN) / CELLS);
+    }
+
+    /**
+     * 점수 → 경도 (셀 중심)
+     */
+    public static double decodeLongitude(long hash) {
+        long lonBits = squash(hash >>> 1);
+        return LON_MIN + (lonBits + 0.5) * ((LON_MAX - LON_MIN) / CELLS);
+    }
+
+    /**
+     * 좌표 → 점수 (Redis geohashEncode 와 동일)
+     */
+    public static long encode(double latitude, double longitude) {
+        long latBits = (long) ((latitude - LAT_MIN) / (LAT_MAX - LAT_MIN) * CELLS);
+        long lonBits = (long) ((longitude - LON_MIN) / (LON_MAX - LON_MIN) * CELLS);
+        return spread(latBits) | (spread(lonBits) << 1);
+    }
+
+    // 짝수 비트만 모아 하위 32bit 로
+    private static long squash(long x) {
+        x &= 0x5555555555555555L;
+        x = (x | (x >>> 1)) & 0x3333333333333333L;
+        x = (x | (x >>> 2)) & 0x0F0F0F0F0F0F0F0FL;
+        x = (x | (x >>> 4)) & 0x00FF00FF00FF00FFL;
+        x = (x | (x >>> 8)) & 0x0000FFFF0000FFFFL;
+        x = (x | (x >>> 16)) & 0x00000000FFFFFFFFL;
+        return x;
+    }
+
+    // 하위 32bit 를 짝수 비트로 펼침
+    private static long spread(long x) {
+        x &= 0x00000000FFFFFFFFL;
+        x = (x | (x << 16)) & 0x0000FFFF0000FFFFL;
+        x = (x | (x << 8)) & 0x00FF00FF00FF00FFL;
+        x = (x | (x << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        x = (x | (x << 2)) & 0x3333333333333333L;
+        x = (x | (x << 1)) & 0x5555555555555555L;
+        return x;
+    }
+}
@@ -0,0 +1,40 @@
+package com.crushai.crushai.geo;
+
+/**
+ * user_locations member 인코딩
+ *
+ * - 현재 형식: userId 10진수 문자열 ("42")
+ * - 이전 형식: "user:" + userId ("user:42") - 이전 중 두 형식이 섞여 있으므로 읽기는 둘 다 지원
+ *
+ * 10진수 형식은 member 당 5바이트를 줄이고, 파싱 시 String.replace 로 새 문자열을 만들지 않음
+ * (user_last_seen 과 같은 형식이라 Lua 스크립트에서 그대로 재사용 가능)
+ */
+public final class LocationMemberCodec {
+
+    public static final String LEGACY_PREFIX = "user:";
+
+    private LocationMemberCodec() {
+    }
+
+    public static String member(long userId) {
+        return Long.toString(userId);
+    }
+
+    public static String legacyMember(long userId) {
+        return LEGACY_PREFIX + userId;
+    }
+
+    public static boolean isLegacy(String member) {
+        return member.startsWith(LEGACY_PREFIX);
+    }
+
+    /**
+     * member → userId (두 형식 모두 지원, 중간 문자열 없이 파싱)
+     *
+     * @throws NumberFormatException 형식이 올바르지 않을 때
+     */
+    public static long userId(String member) {
+        int start = isLegacy(member) ? LEGACY_PREFIX.length() : 0;
+        return Long.parseLong(member, start, member.length(), 10);
+    }
+}
@@ -0,0 +1,225 @@
+package com.crushai.crushai.geo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 오프라인 역지오코딩 (GeoNames 도시 목록 기반, 네트워크 호출 없음)
+ *
+ * - 도시 좌표를 단위 구면 위 3차원 점으로 바꿔 KD-tree 구성 (경도 ±180 경계 문제 없음)
+ * - 가장 가까운 도시를 찾아 "City, ST" 형식으로 반환 (미국은 주 약자, 그 외는 1단계 행정구역명)
+ *
+ * 입력 파일 (https://download.geonames.org/export/dump/)
+ * - cities: cities500.txt / cities15000.txt 등 (탭 구분)
+ * - admin1: admin1CodesASCII.txt ("US.CA\tCalifornia\t...")
+ */
+public final class OfflineReverseGeocoder {
+
+    // GeoNames 도시 파일 컬럼 위치
+    private static final int COL_NAME = 1;
+    private static final int COL_LATITUDE = 4;
+    private static final int COL_LONGITUDE = 5;
+    private static final int COL_COUNTRY = 8;
+    private static final int COL_ADMIN1 = 10;
+
+    private final int size;
+    // KD-tree 노드 순서로 정렬된 좌표 / 위치명 (범위 [from, to) 의 가운데가 노드)
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+    private final String[] names;
+
+    /**
+     * 검색 결과
+     *
+     * @param name "City, ST" 형식 위치명
+     * @param distanceKm 좌표와 도시 중심 사이 거리 - 멀수록 신뢰도가 낮음
+     */
+    public record Place(String name, double distanceKm) {
+    }
+
+    private OfflineReverseGeocoder(List<double[]> points, List<String> placeNames) {
+        this.size = points.size();
+        this.xs = new double[size];
+        this.ys = new double[size];
+        this.zs = new double[size];
+        this.names = new String[size];
+
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        build(order, points, 0, size, 0);
+
+        for (int i = 0; i < size; i++) {
+            double[] point = points.get(order[i]);
+            xs[i] = point[0];
+            ys[i] = point[1];
+            zs[i] = point[2];
+            names[i] = placeNames.get(order[i]);
+        }
+    }
+
+    public static OfflineReverseGeocoder load(Path citiesFile, Path admin1File) throws IOException {
+        try (BufferedReader cities = Files.newBufferedReader(citiesFile, StandardCharsets.UTF_8);
+             BufferedReader admin1 = Files.newBufferedReader(admin1File, StandardCharsets.UTF_8)) {
+            return load(cities, admin1);
+        }
+    }
+
+    public static OfflineReverseGeocoder load(BufferedReader cities, BufferedReader admin1) throws IOException {
+        Map<String, String> admin1Names = new HashMap<>();
+        String line;
+        while ((line = admin1.readLine()) != null) {
+            String[] columns = line.split("\t");
+            if (columns.length >= 2) {
+                admin1Names.put(columns[0], columns[1]);
+            }
+        }
+
+        List<double[]> points = new ArrayList<>();
+        List<String> placeNames = new ArrayList<>();
+        while ((line = cities.readLine()) != null) {
+            String[] columns = line.split("\t");
+            if (columns.length <= COL_ADMIN1) {
+                continue;
+            }
+
+            double latitude = Double.parseDouble(columns[COL_LATITUDE]);
+            double longitude = Double.parseDouble(columns[COL_LONGITUDE]);
+            points.add(toUnitVector(latitude, longitude));
+            placeNames.add(formatName(columns[COL_NAME], columns[COL_COUNTRY], columns[COL_ADMIN1], admin1Names));
+        }
+
+        return new OfflineReverseGeocoder(points, placeNames);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 가장 가까운 도시 검색
+     */
+    public Optional<Place> nearest(double latitude, double longitude) {
+        if (size == 0) {
+            return Optional.empty();
+        }
+
+        double[] target = toUnitVector(latitude, longitude);
+        int[] best = {-1};
+        double[] bestDistance = {Double.MAX_VALUE};
+        search(target, 0, size, 0, best, bestDistance);
+
+        // 현(chord) 길이 → 중심각 → 거리
+        double chord = Math.sqrt(bestDistance[0]);
+        double distanceKm = 2 * Math.asin(Math.min(1.0, chord / 2)) * GeoDistance.EARTH_RADIUS_KM;
+        return Optional.of(new Place(names[best[0]], distanceKm));
+    }
+
+    private void search(double[] target, int from, int to, int axis, int[] best, double[] bestDistance) {
+        if (from >= to) {
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        double dx = xs[mid] - target[0];
+        double dy = ys[mid] - target[1];
+        double dz = zs[mid] - target[2];
+        double distance = dx * dx + dy * dy + dz * dz;
+        if (distance < bestDistance[0]) {
+            bestDistance[0] = distance;
+            best[0] = mid;
+        }
+
+        double diff = target[axis] - coordinate(mid, axis);
+        int nextAxis = (axis + 1) % 3;
+        if (diff < 0) {
+            search(target, from, mid, nextAxis, best, bestDistance);
+            if (diff * diff < bestDistance[0]) {
+                search(target, mid + 1, to, nextAxis, best, bestDistance);
+            }
+        } else {
+            search(target, mid + 1, to, nextAxis, best, bestDistance);
+            if (diff * diff < bestDistance[0]) {
+                search(target, from, mid, nextAxis, best, bestDistance);
+            }
+        }
+    }
+
+    private double coordinate(int index, int axis) {
+        return switch (axis) {
+            case 0 -> xs[index];
+            case 1 -> ys[index];
+            default -> zs[index];
+        };
+    }
+
+    // [from, to) 를 axis 기준 중앙값으로 나눠 재귀 (가운데 원소가 노드)
+    private static void build(int[] order, List<double[]> points, int from, int to, int axis) {
+        if (to - from <= 1) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        select(order, points, from, to - 1, mid, axis);
+        build(order, points, from, mid, (axis + 1) % 3);
+        build(order, points, mid + 1, to, (axis + 1) % 3);
+    }
+
+    // quickselect: order[k] 가 axis 기준 k 번째가 되도록 부분 정렬
+    private static void select(int[] order, List<double[]> points, int left, int right, int k, int axis) {
+        while (left < right) {
+            double pivot = points.get(order[(left + right) >>> 1])[axis];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (points.get(order[i])[axis] < pivot) {
+                    i++;
+                }
+                while (points.get(order[j])[axis] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int tmp = order[i];
+                    order[i] = order[j];
+                    order[j] = tmp;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static double[] toUnitVector(double latitude, double longitude) {
+        double lat = Math.toRadians(latitude);
+        double lon = Math.toRadians(longitude);
+        return new double[]{Math.cos(lat) * Math.cos(lon), Math.cos(lat) * Math.sin(lon), Math.sin(lat)};
+    }
+
+    // 미국은 GeoNames admin1 코드가 곧 주 약자 (Nominatim 결과 형식과 동일하게 "Los Angeles, CA")
+    private static String formatName(String city, String country, String admin1Code, Map<String, String> admin1Names) {
+        if (admin1Code.isEmpty()) {
+            return city;
+        }
+        if ("US".equals(country)) {
+            return city + ", " + admin1Code;
+        }
+        String admin1 = admin1Names.get(country + "." + admin1Code);
+        return admin1 != null && !admin1.equals(city) ? city + ", " + admin1 : city;
+    }
+}
@@ -1,6 +1,8 @@
 package com.crushai.crushai.jwt;
 
-import com.crushai.crushai.repository.RefreshRepository;
+import com.crushai.crushai.service.AuthPrincipalCache;
+import com.crushai.crushai.service.RefreshTokenStore;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -20,11 +22,13 @@ import java.security.MessageDigest;
 public class CustomLogoutFilter extends GenericFilterBean {
 
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AuthPrincipalCache principalCache;
 
-    public CustomLogoutFilter(JWTUtil jwtUtil, RefreshRepository refreshRepository) {
+    public CustomLogoutFilter(JWTUtil jwtUtil, RefreshTokenStore refreshTokenStore, AuthPrincipalCache principalCache) {
         this.jwtUtil = jwtUtil;
-        this.refreshRepository = refreshRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -49,19 +53,21 @@ public class CustomLogoutFilter extends GenericFilterBean {
             return;
         }
 
-        String category = jwtUtil.getCategory(refreshToken);
-        if (!category.equals("refreshToken")) {
+        Claims claims = jwtUtil.parseClaims(refreshToken);
+        String category = claims.get("category", String.class);
+        if (!"refreshToken".equals(category)) {
             sendJsonError(response, HttpServletResponse.SC_BAD_REQUEST, "Invalid token category.");
             return;
         }
 
-        Long userId = jwtUtil.getUserId(refreshToken);
+        Long userId = claims.get("userId", Long.class);
         String tokenHash = hashToken(refreshToken);
+        principalCache.invalidate(userId);
         
         // logoutType에 따라 처리
         if ("all".equals(logoutType)) {
             // 모든 디바이스 로그아웃
-            refreshRepository.deleteAllByUser_Id(userId);
+            refreshTokenStore.deleteAllForUser(userId);
             log.info("All devices logged out for user: {}", userId);
             
             response.setStatus(HttpServletResponse.SC_OK);
@@ -69,7 +75,7 @@ public class CustomLogoutFilter extends GenericFilterBean {
             response.getWriter().write("{\"message\": \"Logged out from all devices\"}");
         } else {
             // 현재 디바이스만 로그아웃 (기본)
-            refreshRepository.deleteByTokenHash(tokenHash);
+            refreshTokenStore.delete(userId, tokenHash);
             log.info("Current device logged out for user: {}", userId);
             
             response.setStatus(HttpServletResponse.SC_OK);
@@ -2,10 +2,11 @@ package com.crushai.crushai.jwt;
 
 
 import com.crushai.crushai.dto.CustomUserDetails;
-import com.crushai.crushai.entity.Role;
-import com.crushai.crushai.entity.UserEntity;
-import com.crushai.crushai.repository.UserRepository;
+import com.crushai.crushai.service.AuthPrincipalCache;
+import com.crushai.crushai.service.PresenceService;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,14 +19,23 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Optional;
 
+/**
+ * accessToken 헤더 인증
+ *
+ * 토큰은 요청당 한 번만 파싱하고 userId 는 claims 값을 그대로 사용 (이메일로 유저 조회하지 않음)
+ * 유저 존재 여부(탈퇴 포함)와 역할은 AuthPrincipalCache 로 확인 - 대부분의 요청은 DB 조회 없이 인증
+ * (역할은 캐시 값 기준 - 역할 변경 시 invalidate 되므로 토큰 만료를 기다리지 않고 반영)
+ */
 public class JWTFilter extends OncePerRequestFilter {
 
     private final JWTUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final AuthPrincipalCache principalCache;
+    private final PresenceService presenceService;
 
-    public JWTFilter(JWTUtil jwtUtil, UserRepository userRepository) {
+    public JWTFilter(JWTUtil jwtUtil, AuthPrincipalCache principalCache, PresenceService presenceService) {
         this.jwtUtil = jwtUtil;
-        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.presenceService = presenceService;
     }
 
     @Override
@@ -38,43 +48,44 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
+        Claims claims;
         try {
-            jwtUtil.isExpired(accessToken);
+            claims = jwtUtil.parseClaims(accessToken);
         } catch (ExpiredJwtException e) {
             sendJsonError(response, HttpServletResponse.SC_UNAUTHORIZED, "Access token expired");
             return;
-        }
-
-        String category = jwtUtil.getCategory(accessToken);
-
-        if (!category.equals("accessToken")) {
+        } catch (JwtException | IllegalArgumentException e) {
             sendJsonError(response, HttpServletResponse.SC_UNAUTHORIZED, "Invalid access token");
             return;
         }
 
-        String email = jwtUtil.getUsername(accessToken);
-        String role = jwtUtil.getRole(accessToken);
+        String category = claims.get("category", String.class);
+        Long userId = claims.get("userId", Long.class);
 
-        if (role.startsWith("ROLE_")) {
-            role = role.substring(5);
+        if (!"accessToken".equals(category) || userId == null) {
+            sendJsonError(response, HttpServletResponse.SC_UNAUTHORIZED, "Invalid access token");
+            return;
         }
 
-        // DB에서 실제 UserEntity 조회
-        Optional<UserEntity> userEntityOpt = userRepository.findByEmail(email);
+        // 유저 존재 확인 (캐시, 미스일 때만 DB)
+        Optional<AuthPrincipalCache.Principal> principal = principalCache.get(userId);
         
-        if (userEntityOpt.isEmpty()) {
+        if (principal.isEmpty()) {
             sendJsonError(response, HttpServletResponse.SC_UNAUTHORIZED, "User not found");
             return;
         }
-        
-        UserEntity userEntity = userEntityOpt.get();
-        CustomUserDetails customUserDetails = new CustomUserDetails(userEntity);
+
+        CustomUserDetails customUserDetails = new CustomUserDetails(
+                userId, principal.get().email(), principal.get().role());
 
         Authentication authToken = new UsernamePasswordAuthenticationToken(
                 customUserDetails, null, customUserDetails.getAuthorities());
 
         SecurityContextHolder.getContext().setAuthentication(authToken);
 
+        // 마지막 활동 시각 기록 (유저별 1분에 1회만 Redis 반영)
+        presenceService.touch(userId);
+
         filterChain.doFilter(request, response);
     }
 
@@ -1,6 +1,7 @@
 package com.crushai.crushai.jwt;
 
-import com.crushai.crushai.entity.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -14,25 +15,37 @@ import java.util.Date;
 @Component
 public class JWTUtil {
     private final SecretKey secretKey;
+    private final JwtParser parser; // 불변, 스레드 안전 - 요청마다 새로 만들지 않음
 
     public JWTUtil(@Value("${spring.jwt.secret}")String secret) {
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+    }
+
+    /**
+     * 서명 / 만료 검증 후 claims 반환 (여러 값을 읽을 때는 한 번만 파싱)
+     *
+     * @throws io.jsonwebtoken.ExpiredJwtException 만료된 토큰
+     * @throws io.jsonwebtoken.JwtException 서명 불일치 등 잘못된 토큰
+     */
+    public Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public String getUsername(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("email", String.class);
+        return parseClaims(token).get("email", String.class);
     }
 
     public String getRole(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
+        return parseClaims(token).get("role", String.class);
     }
 
     public String getCategory(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("category", String.class);
+        return parseClaims(token).get("category", String.class);
     }
 
     public Long getUserId(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("userId", Long.class);
+        return parseClaims(token).get("userId", Long.class);
     }
 
     // 만료일 Date 객체를 직접 반환하는 메서드 추가
@@ -40,7 +53,7 @@ public class JWTUtil {
         if (token == null || token.trim().isEmpty()) {
             throw new IllegalArgumentException("Token must not be null or empty");
         }
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration();
+        return parseClaims(token).getExpiration();
     }
 
     public Boolean isExpired(String token) {
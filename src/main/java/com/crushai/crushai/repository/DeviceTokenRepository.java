@@ -2,12 +2,16 @@ package com.crushai.crushai.repository;
 
 import com.crushai.crushai.entity.DeviceToken;
 import com.crushai.crushai.entity.TokenStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +22,11 @@ public interface DeviceTokenRepository extends JpaRepository<DeviceToken, Long>
      * 사용자의 활성 토큰 조회
      */
     List<DeviceToken> findByUserIdAndStatus(Long userId, TokenStatus status);
+
+    /**
+     * 여러 사용자의 특정 상태 토큰 조회 (푸시 일괄 전송용)
+     */
+    List<DeviceToken> findByUserIdInAndStatus(Collection<Long> userIds, TokenStatus status);
     
     /**
      * 특정 토큰 조회
@@ -35,24 +44,99 @@ public interface DeviceTokenRepository extends JpaRepository<DeviceToken, Long>
     boolean existsByDeviceToken(String deviceToken);
     
     /**
-     * 오래된 만료 토큰 정리 (배치용)
+     * 오래된 만료/무효 토큰 ID 청크 조회 (배치용, id 커서 이후 오름차순)
+     * 만료 시각이 없으면 (APNs 응답으로 무효 처리된 토큰) 마지막 수정 시각 기준
      */
-    @Query("SELECT dt FROM DeviceToken dt WHERE dt.status = :status AND dt.expiresAt < :before")
-    List<DeviceToken> findExpiredTokensBefore(@Param("status") TokenStatus status, @Param("before") Instant before);
-    
+    @Query("SELECT dt.id FROM DeviceToken dt WHERE dt.status = :status AND dt.id > :afterId " +
+           "AND COALESCE(dt.expiresAt, dt.updatedAt) < :before ORDER BY dt.id ASC")
+    List<Long> findExpiredTokenIdsBefore(@Param("status") TokenStatus status,
+                                         @Param("before") Instant before,
+                                         @Param("afterId") Long afterId,
+                                         Pageable pageable);
+
     /**
-     * 장기 미사용 토큰 조회 (배치용)
+     * 장기 미사용 토큰 ID 청크 조회 (배치용, id 커서 이후 오름차순)
      */
-    @Query("SELECT dt FROM DeviceToken dt WHERE dt.status = :status AND dt.lastUsedAt < :before")
-    List<DeviceToken> findInactiveTokens(@Param("status") TokenStatus status, @Param("before") Instant before);
-    
+    @Query("SELECT dt.id FROM DeviceToken dt WHERE dt.status = :status AND dt.id > :afterId " +
+           "AND dt.lastUsedAt < :before ORDER BY dt.id ASC")
+    List<Long> findInactiveTokenIds(@Param("status") TokenStatus status,
+                                    @Param("before") Instant before,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
+    /**
+     * 토큰 일괄 삭제 (청크 단위, 짧은 트랜잭션)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DeviceToken dt WHERE dt.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 토큰 일괄 만료 처리 (DeviceToken.expire 와 동일, 조회 이후 다시 사용된 토큰은 제외)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DeviceToken dt SET dt.status = :expired, dt.expiresAt = :now, dt.updatedAt = :now " +
+           "WHERE dt.id IN :ids AND dt.status = :active AND dt.lastUsedAt < :before")
+    int expireByIds(@Param("ids") Collection<Long> ids,
+                    @Param("before") Instant before,
+                    @Param("active") TokenStatus active,
+                    @Param("expired") TokenStatus expired,
+                    @Param("now") Instant now);
+
     /**
      * 사용자의 특정 상태 토큰 개수 조회
      */
     long countByUserIdAndStatus(Long userId, TokenStatus status);
     
+    interface StatusCount {
+        TokenStatus getStatus();
+        Long getCount();
+    }
+
+    /**
+     * 상태별 토큰 개수 (통계용, 쿼리 1회)
+     */
+    @Query("SELECT dt.status AS status, COUNT(dt) AS count FROM DeviceToken dt GROUP BY dt.status")
+    List<StatusCount> countGroupByStatus();
+
+    /**
+     * 전송 성공 일괄 기록 (DeviceToken.markAsUsed 와 동일)
+     */
+    @Modifying
+    @Query("UPDATE DeviceToken dt SET dt.lastUsedAt = :now, dt.failureCount = 0, dt.updatedAt = :now " +
+           "WHERE dt.deviceToken IN :tokens AND dt.status = :active")
+    int markUsed(@Param("tokens") Collection<String> tokens,
+                 @Param("active") TokenStatus active,
+                 @Param("now") Instant now);
+
+    /**
+     * 전송 실패 일괄 기록 (DeviceToken.recordFailure 를 failures 번 한 것과 동일, maxFailures 도달 시 INVALID)
+     * MySQL 은 SET 을 왼쪽부터 적용하므로 status 를 failureCount 보다 먼저 계산
+     */
+    @Modifying
+    @Query("UPDATE DeviceToken dt SET " +
+           "dt.status = CASE WHEN COALESCE(dt.failureCount, 0) + :failures >= :maxFailures THEN :invalid ELSE dt.status END, " +
+           "dt.failureCount = COALESCE(dt.failureCount, 0) + :failures, dt.failureReason = :reason, dt.updatedAt = :now " +
+           "WHERE dt.deviceToken IN :tokens AND dt.status = :active")
+    int recordFailures(@Param("tokens") Collection<String> tokens,
+                       @Param("failures") int failures,
+                       @Param("reason") String reason,
+                       @Param("maxFailures") int maxFailures,
+                       @Param("active") TokenStatus active,
+                       @Param("invalid") TokenStatus invalid,
+                       @Param("now") Instant now);
+
     /**
-     * 특정 상태의 토큰 개수 조회 (통계용)
+     * 토큰 일괄 무효화 (APNs 가 더 이상 유효하지 않다고 응답한 토큰)
      */
-    long countByStatus(TokenStatus status);
+    @Modifying
+    @Query("UPDATE DeviceToken dt SET dt.status = :invalid, dt.failureReason = :reason, dt.updatedAt = :now " +
+           "WHERE dt.deviceToken IN :tokens AND dt.status = :active")
+    int invalidate(@Param("tokens") Collection<String> tokens,
+                   @Param("reason") String reason,
+                   @Param("active") TokenStatus active,
+                   @Param("invalid") TokenStatus invalid,
+                   @Param("now") Instant now);
 }
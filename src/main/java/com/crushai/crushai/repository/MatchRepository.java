@@ -1,12 +1,17 @@
 package com.crushai.crushai.repository;
 
 import com.crushai.crushai.entity.Match;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 public interface MatchRepository extends JpaRepository<Match, Long> {
@@ -21,4 +26,72 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
     // 삭제될 유저가 포함된 매칭만 조회 (양쪽 또는 한쪽)
     @Query("SELECT m FROM Match m WHERE m.user1Id IN :deletedUserIds OR m.user2Id IN :deletedUserIds")
     List<Match> findMatchesWithDeletedUsers(@Param("deletedUserIds") List<Long> deletedUserIds);
+
+    // 채팅방 목록 커서 페이지 (내가 user1인 매칭) - 마지막 활동 시각 내림차순, (lastActivityAt, id) 커서 이후
+    @Query("SELECT m FROM Match m WHERE m.user1Id = :userId AND m.isActive = true " +
+           "AND (m.lastActivityAt < :cursorAt OR (m.lastActivityAt = :cursorAt AND m.id < :cursorId)) " +
+           "ORDER BY m.lastActivityAt DESC, m.id DESC")
+    List<Match> findActivePageAsUser1(@Param("userId") Long userId,
+                                      @Param("cursorAt") LocalDateTime cursorAt,
+                                      @Param("cursorId") Long cursorId,
+                                      Pageable pageable);
+
+    // 채팅방 목록 커서 페이지 (내가 user2인 매칭)
+    @Query("SELECT m FROM Match m WHERE m.user2Id = :userId AND m.isActive = true " +
+           "AND (m.lastActivityAt < :cursorAt OR (m.lastActivityAt = :cursorAt AND m.id < :cursorId)) " +
+           "ORDER BY m.lastActivityAt DESC, m.id DESC")
+    List<Match> findActivePageAsUser2(@Param("userId") Long userId,
+                                      @Param("cursorAt") LocalDateTime cursorAt,
+                                      @Param("cursorId") Long cursorId,
+                                      Pageable pageable);
+
+    // 채팅 메시지 발생 시 마지막 활동 시각 갱신 (더 최신일 때만)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Match m SET m.lastActivityAt = :activityAt " +
+           "WHERE m.chatRoomId = :chatRoomId AND (m.lastActivityAt IS NULL OR m.lastActivityAt < :activityAt)")
+    int updateLastActivityAt(@Param("chatRoomId") String chatRoomId, @Param("activityAt") LocalDateTime activityAt);
+
+    // 채팅방별 마지막 활동 시각 일괄 갱신 (트랜잭션 1회)
+    @Transactional
+    default int updateLastActivityAt(Map<String, LocalDateTime> activityByChatRoomId) {
+        int updated = 0;
+        for (Map.Entry<String, LocalDateTime> entry : activityByChatRoomId.entrySet()) {
+            updated += updateLastActivityAt(entry.getKey(), entry.getValue());
+        }
+        return updated;
+    }
+
+    // 기존 매칭의 마지막 활동 시각 채우기 (컬럼 추가 전 데이터, 한 번에 limit 건씩)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE matches SET last_activity_at = matched_at WHERE last_activity_at IS NULL LIMIT :limit",
+           nativeQuery = true)
+    int backfillLastActivityAt(@Param("limit") int limit);
+
+    // 채팅방 생성 재시도 대상 (오래된 매칭부터)
+    // - createdBefore 이후 매칭은 커밋 후 비동기 생성이 진행 중일 수 있어 제외
+    // - 다음 재시도 시각 전이거나 최대 시도 횟수에 도달한(보류) 매칭 제외
+    @Query("SELECT m FROM Match m WHERE m.chatRoomPending = true AND m.isActive = true " +
+           "AND m.matchedAt < :createdBefore " +
+           "AND (m.chatRoomNextRetryAt IS NULL OR m.chatRoomNextRetryAt <= :now) " +
+           "AND m.chatRoomAttempts < :maxAttempts " +
+           "ORDER BY m.id ASC")
+    List<Match> findChatRoomPending(@Param("createdBefore") LocalDateTime createdBefore,
+                                    @Param("now") LocalDateTime now,
+                                    @Param("maxAttempts") int maxAttempts,
+                                    Pageable pageable);
+
+    // 채팅방 생성 실패 기록 (시도 횟수 증가, 다음 재시도 시각)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Match m SET m.chatRoomAttempts = m.chatRoomAttempts + 1, m.chatRoomNextRetryAt = :nextRetryAt " +
+           "WHERE m.id = :matchId")
+    int recordChatRoomFailure(@Param("matchId") Long matchId, @Param("nextRetryAt") LocalDateTime nextRetryAt);
+
+    // 채팅방 생성 완료 처리
+    @Transactional
+    @Modifying
+    @Query("UPDATE Match m SET m.chatRoomPending = false WHERE m.id = :matchId")
+    int markChatRoomCreated(@Param("matchId") Long matchId);
 }
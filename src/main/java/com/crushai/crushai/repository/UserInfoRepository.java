@@ -2,6 +2,32 @@ package com.crushai.crushai.repository;
 
 import com.crushai.crushai.entity.UserInfoEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 
 public interface UserInfoRepository extends JpaRepository<UserInfoEntity, Long> {
-}
\ No newline at end of file
+
+    interface NicknameView {
+        Long getId();
+        String getNickname();
+    }
+
+    // 닉네임만 일괄 조회 (알림 문구용, 엔티티 로딩 없음)
+    @Query("SELECT u.id AS id, u.nickname AS nickname FROM UserInfoEntity u WHERE u.id IN :userIds")
+    List<NicknameView> findNicknames(@Param("userIds") Collection<Long> userIds);
+
+    // 같은 위치명을 받은 유저들에게 한 번에 반영
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserInfoEntity u SET u.locationName = :locationName, u.locationUpdatedAt = :updatedAt " +
+           "WHERE u.id IN :userIds")
+    int updateLocationName(@Param("userIds") Collection<Long> userIds,
+                           @Param("locationName") String locationName,
+                           @Param("updatedAt") Date updatedAt);
+}
@@ -2,9 +2,12 @@ package com.crushai.crushai.repository;
 
 import com.crushai.crushai.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +25,8 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     // delYn이 true이고 deletedAt이 현재 시간보다 이전인 유저 조회
     List<UserEntity> findAllByDelYnTrueAndDeletedAtBefore(Instant now);
 
+    // 주어진 ID 중 탈퇴하지 않고 온보딩을 마친 유저 ID만 조회 (위치 인덱스 정합성 검사용)
+    @Query("SELECT u.id FROM UserEntity u WHERE u.id IN :ids AND u.delYn = false AND u.onboardingCompleted = true")
+    List<Long> findActiveOnboardedIds(@Param("ids") Collection<Long> ids);
+
 }
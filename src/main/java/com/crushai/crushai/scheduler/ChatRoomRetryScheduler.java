@@ -0,0 +1,31 @@
+package com.crushai.crushai.scheduler;
+
+import com.crushai.crushai.service.ChatRoomProvisioningService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 생성 재시도 스케줄러
+ * 채팅 서비스 장애 등으로 채팅방이 생성되지 않은 매칭(chatRoomPending)을 주기적으로 재처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatRoomRetryScheduler {
+
+    private final ChatRoomProvisioningService chatRoomProvisioningService;
+
+    /**
+     * 1분마다 (이전 실행 종료 기준)
+     */
+    @Scheduled(fixedDelayString = "${chat.rooms.retry-interval-ms:60000}", initialDelay = 60000)
+    public void retryPendingChatRooms() {
+        try {
+            chatRoomProvisioningService.retryPendingChatRooms();
+        } catch (Exception e) {
+            log.error("Failed to retry pending chat rooms", e);
+        }
+    }
+}
@@ -1,29 +1,53 @@
 package com.crushai.crushai.scheduler;
 
-import com.crushai.crushai.entity.DeviceToken;
 import com.crushai.crushai.entity.TokenStatus;
 import com.crushai.crushai.repository.DeviceTokenRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+import java.util.function.ToIntFunction;
 
 /**
  * 디바이스 토큰 정리 스케줄러
  * 만료되거나 오래 사용하지 않은 토큰을 주기적으로 정리
+ *
+ * 엔티티를 한 번에 읽지 않고 id 커서로 chunk-size 개씩 ID 만 조회한 뒤 벌크 DELETE / UPDATE (청크마다 짧은 트랜잭션)
+ * - 테이블이 커져도 메모리 사용량 일정, 행 잠금도 청크 단위로 짧게 유지
+ * - status 인덱스(InnoDB 보조 인덱스는 PK 포함)로 status = ? AND id > ? 범위 탐색
+ * - 진행 상황: device_token.cleanup.rows{action} 카운터, device_token.cleanup.duration 타이머
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class DeviceTokenCleanupScheduler {
-    
+
+    private static final int PROGRESS_LOG_INTERVAL = 100; // 청크
+
     private final DeviceTokenRepository deviceTokenRepository;
-    
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final Timer cleanupTimer;
+
+    public DeviceTokenCleanupScheduler(DeviceTokenRepository deviceTokenRepository,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${device-token.cleanup.chunk-size:1000}") int chunkSize) {
+        this.deviceTokenRepository = deviceTokenRepository;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.cleanupTimer = meterRegistry.timer("device_token.cleanup.duration");
+    }
+
     /**
      * 매일 새벽 3시에 오래된 토큰 정리
      * 
@@ -31,65 +55,95 @@ public class DeviceTokenCleanupScheduler {
      * - 90일 이상 미사용 토큰 만료 처리
      */
     @Scheduled(cron = "0 0 3 * * *")
-    @Transactional
     public void cleanupExpiredTokens() {
-        log.info("Starting device token cleanup job...");
+        log.info("Starting device token cleanup job (chunk size {})...", chunkSize);
         
-        try {
-            // 1. 30일 이상 된 만료 토큰 삭제
-            Instant thirtyDaysAgo = Instant.now().minus(30, ChronoUnit.DAYS);
-            
-            List<DeviceToken> expiredTokens = deviceTokenRepository
-                .findExpiredTokensBefore(TokenStatus.EXPIRED, thirtyDaysAgo);
-            
-            if (!expiredTokens.isEmpty()) {
-                deviceTokenRepository.deleteAll(expiredTokens);
-                log.info("✅ Deleted {} expired tokens (older than 30 days)", expiredTokens.size());
+        cleanupTimer.record(() -> {
+            try {
+                // 1. 30일 이상 된 만료 토큰 삭제
+                Instant thirtyDaysAgo = Instant.now().minus(30, ChronoUnit.DAYS);
+
+                long expiredDeleted = processInChunks("deleted_expired",
+                        afterId -> deviceTokenRepository.findExpiredTokenIdsBefore(
+                                TokenStatus.EXPIRED, thirtyDaysAgo, afterId, PageRequest.of(0, chunkSize)),
+                        deviceTokenRepository::deleteByIds);
+                log.info("✅ Deleted {} expired tokens (older than 30 days)", expiredDeleted);
+
+                // 2. 30일 이상 된 무효 토큰 삭제
+                long invalidDeleted = processInChunks("deleted_invalid",
+                        afterId -> deviceTokenRepository.findExpiredTokenIdsBefore(
+                                TokenStatus.INVALID, thirtyDaysAgo, afterId, PageRequest.of(0, chunkSize)),
+                        deviceTokenRepository::deleteByIds);
+                log.info("✅ Deleted {} invalid tokens (older than 30 days)", invalidDeleted);
+
+                // 3. 90일 이상 미사용 활성 토큰 만료 처리
+                Instant ninetyDaysAgo = Instant.now().minus(90, ChronoUnit.DAYS);
+
+                long inactiveExpired = processInChunks("expired_inactive",
+                        afterId -> deviceTokenRepository.findInactiveTokenIds(
+                                TokenStatus.ACTIVE, ninetyDaysAgo, afterId, PageRequest.of(0, chunkSize)),
+                        ids -> deviceTokenRepository.expireByIds(
+                                ids, ninetyDaysAgo, TokenStatus.ACTIVE, TokenStatus.EXPIRED, Instant.now()));
+                log.info("✅ Expired {} inactive tokens (no use for 90+ days)", inactiveExpired);
+
+                log.info("Device token cleanup job completed successfully");
+
+            } catch (Exception e) {
+                log.error("❌ Error during device token cleanup", e);
             }
-            
-            // 2. 30일 이상 된 무효 토큰 삭제
-            List<DeviceToken> invalidTokens = deviceTokenRepository
-                .findExpiredTokensBefore(TokenStatus.INVALID, thirtyDaysAgo);
-            
-            if (!invalidTokens.isEmpty()) {
-                deviceTokenRepository.deleteAll(invalidTokens);
-                log.info("✅ Deleted {} invalid tokens (older than 30 days)", invalidTokens.size());
+        });
+    }
+
+    /**
+     * id 커서로 청크를 끝까지 처리
+     *
+     * @param action 메트릭 태그 / 로그용 이름
+     * @param nextChunk 커서(마지막 id) 이후의 대상 ID 조회
+     * @param step 청크 처리 (자체 트랜잭션), 반영된 행 수 반환
+     * @return 반영된 전체 행 수
+     */
+    private long processInChunks(String action, LongFunction<List<Long>> nextChunk,
+                                 ToIntFunction<List<Long>> step) {
+        Counter rows = meterRegistry.counter("device_token.cleanup.rows", "action", action);
+        long total = 0;
+        long afterId = 0;
+        int chunks = 0;
+
+        List<Long> ids;
+        do {
+            ids = nextChunk.apply(afterId);
+            if (ids.isEmpty()) {
+                break;
             }
-            
-            // 3. 90일 이상 미사용 활성 토큰 만료 처리
-            Instant ninetyDaysAgo = Instant.now().minus(90, ChronoUnit.DAYS);
-            
-            List<DeviceToken> inactiveTokens = deviceTokenRepository
-                .findInactiveTokens(TokenStatus.ACTIVE, ninetyDaysAgo);
-            
-            if (!inactiveTokens.isEmpty()) {
-                inactiveTokens.forEach(DeviceToken::expire);
-                log.info("✅ Expired {} inactive tokens (no use for 90+ days)", inactiveTokens.size());
+            int affected = step.applyAsInt(ids);
+            rows.increment(affected);
+            total += affected;
+            afterId = ids.get(ids.size() - 1);
+
+            if (++chunks % PROGRESS_LOG_INTERVAL == 0) {
+                log.info("Device token cleanup [{}]: {} rows in {} chunks so far (last id {})",
+                        action, total, chunks, afterId);
             }
-            
-            log.info("Device token cleanup job completed successfully");
-            
-        } catch (Exception e) {
-            log.error("❌ Error during device token cleanup", e);
-        }
+        } while (ids.size() == chunkSize);
+
+        return total;
     }
     
     /**
-     * 매주 월요일 오전 2시에 토큰 통계 로깅
+     * 매주 월요일 오전 2시에 토큰 통계 로깅 (GROUP BY 쿼리 1회)
      */
     @Scheduled(cron = "0 0 2 * * MON")
-    @Transactional(readOnly = true)
     public void logTokenStatistics() {
         try {
-            long activeCount = deviceTokenRepository.countByStatus(TokenStatus.ACTIVE);
-            long expiredCount = deviceTokenRepository.countByStatus(TokenStatus.EXPIRED);
-            long invalidCount = deviceTokenRepository.countByStatus(TokenStatus.INVALID);
-            long totalCount = deviceTokenRepository.count();
+            Map<TokenStatus, Long> counts = new EnumMap<>(TokenStatus.class);
+            deviceTokenRepository.countGroupByStatus()
+                .forEach(row -> counts.put(row.getStatus(), row.getCount()));
+            long totalCount = counts.values().stream().mapToLong(Long::longValue).sum();
             
             log.info("📊 Device Token Statistics:");
-            log.info("  - Active: {}", activeCount);
-            log.info("  - Expired: {}", expiredCount);
-            log.info("  - Invalid: {}", invalidCount);
+            log.info("  - Active: {}", counts.getOrDefault(TokenStatus.ACTIVE, 0L));
+            log.info("  - Expired: {}", counts.getOrDefault(TokenStatus.EXPIRED, 0L));
+            log.info("  - Invalid: {}", counts.getOrDefault(TokenStatus.INVALID, 0L));
             log.info("  - Total: {}", totalCount);
             
         } catch (Exception e) {
@@ -0,0 +1,92 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.entity.Role;
+import com.crushai.crushai.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 인증된 유저 정보 로컬 캐시 (JWTFilter 전용, userId → 인증 주체)
+ *
+ * 토큰에서는 userId 만 쓰고, 역할 / 탈퇴 여부(delYn)는 DB 에서 읽어 TTL 동안 캐시
+ * - 없는 유저 / 탈퇴한 유저도 캐시 (Optional.empty) - 같은 토큰으로 반복 요청해도 DB 조회 없음
+ * - 역할 변경, 탈퇴 / 복구, 로그아웃 시 invalidate 호출 - 다음 요청에서 DB 기준으로 다시 로딩
+ *   트랜잭션 안의 변경은 invalidateAfterCommit (커밋 전에 지우면 다른 요청이 이전 상태를 다시 캐시)
+ *   (인스턴스 로컬 캐시이므로 다른 인스턴스에는 최대 TTL 만큼 늦게 반영)
+ */
+@Service
+@Slf4j
+public class AuthPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Optional<Principal>> cache;
+
+    /**
+     * 캐시되는 인증 주체 (DB 기준 역할)
+     */
+    public record Principal(Long userId, String email, Role role) {
+    }
+
+    public AuthPrincipalCache(UserRepository userRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${auth.principal-cache.max-size:100000}") long maxSize,
+                              @Value("${auth.principal-cache.ttl:PT1M}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.principal");
+    }
+
+    /**
+     * 유저 조회 (캐시 미스일 때만 DB)
+     *
+     * @return 없거나 탈퇴한 유저면 empty
+     */
+    public Optional<Principal> get(Long userId) {
+        return cache.get(userId, this::load);
+    }
+
+    /**
+     * 캐시에서 제거 (역할 변경, 탈퇴 / 복구, 로그아웃)
+     */
+    public void invalidate(Long userId) {
+        if (userId != null) {
+            cache.invalidate(userId);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 캐시에서 제거 (트랜잭션 밖이면 바로 제거)
+     */
+    public void invalidateAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(userId);
+            }
+        });
+    }
+
+    private Optional<Principal> load(Long userId) {
+        return userRepository.findById(userId)
+                .filter(user -> !user.isDelYn())
+                .map(user -> new Principal(user.getId(), user.getEmail(), user.getRole()));
+    }
+}
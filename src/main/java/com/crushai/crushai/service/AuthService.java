@@ -4,19 +4,19 @@ import com.crushai.crushai.auth.AppleIdTokenValidator;
 import com.crushai.crushai.auth.GoogleIdTokenValidator;
 import com.crushai.crushai.entity.DeviceType;
 import com.crushai.crushai.entity.LoginType;
-import com.crushai.crushai.entity.RefreshEntity;
 import com.crushai.crushai.entity.Role;
 import com.crushai.crushai.entity.UserEntity;
 import com.crushai.crushai.jwt.JWTUtil;
-import com.crushai.crushai.repository.RefreshRepository;
 import com.crushai.crushai.repository.UserRepository;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientResponseException;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -30,23 +30,40 @@ import java.util.Optional;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final JWTUtil jwtUtil;
     private final GoogleIdTokenValidator googleValidator;
     private final AppleIdTokenValidator appleValidator;
     private final RestClient restClient;
     private final ObjectMapper objectMapper;
+    private final DistributedRateLimiter rateLimiter;
+    private final AuthPrincipalCache principalCache;
 
-    public AuthService(UserRepository userRepository, RefreshRepository refreshRepository,
+    // Facebook Graph API 호출 예산 (모든 서버 인스턴스 합산)
+    @Value("${rate-limit.facebook.permits-per-second:20}")
+    private double facebookPermitsPerSecond;
+
+    // 대기 없이 거절하므로 동시에 몰린 로그인을 받을 여유 (기본: 초당 허용 수만큼)
+    @Value("${rate-limit.facebook.burst:20}")
+    private int facebookBurst;
+
+    // 로그인 요청 스레드에서 호출하므로 기본은 대기하지 않고 바로 거절 (429)
+    @Value("${rate-limit.facebook.max-wait:PT0S}")
+    private Duration facebookMaxWait;
+
+    public AuthService(UserRepository userRepository, RefreshTokenStore refreshTokenStore,
                        JWTUtil jwtUtil, GoogleIdTokenValidator googleValidator,
-                       AppleIdTokenValidator appleValidator, RestClient.Builder restClientBuilder, ObjectMapper objectMapper) {
+                       AppleIdTokenValidator appleValidator, RestClient.Builder restClientBuilder, ObjectMapper objectMapper,
+                       DistributedRateLimiter rateLimiter, AuthPrincipalCache principalCache) {
         this.userRepository = userRepository;
-        this.refreshRepository = refreshRepository;
+        this.refreshTokenStore = refreshTokenStore;
         this.jwtUtil = jwtUtil;
         this.googleValidator = googleValidator;
         this.appleValidator = appleValidator;
         this.restClient = restClientBuilder.baseUrl("https://graph.facebook.com").build();
         this.objectMapper = objectMapper;
+        this.rateLimiter = rateLimiter;
+        this.principalCache = principalCache;
     }
 
     public Map<String, String> loginWithGoogle(String idToken, String deviceId, String deviceName) {
@@ -111,6 +128,10 @@ public class AuthService {
     }
 
     public Map<String, String> loginWithFacebook(String accessToken, String deviceId, String deviceName) {
+        if (!rateLimiter.tryAcquire("facebook", DistributedRateLimiter.Budget.perSecond(facebookPermitsPerSecond, facebookBurst), facebookMaxWait)) {
+            throw new RateLimitExceededException("facebook");
+        }
+
         try {
             String url = "/v20.0/me?fields=id,email&access_token=" + accessToken;
 
@@ -183,17 +204,8 @@ public class AuthService {
         String tokenHash = hashToken(refreshToken);
         Instant expiresAt = Instant.now().plusMillis(refreshExpirationMs);
         
-        RefreshEntity refreshEntity = RefreshEntity.builder()
-            .user(user)
-            .tokenHash(tokenHash)
-            .deviceId(deviceId)
-            .deviceType(deviceType)
-            .deviceName(deviceName)
-            .expiresAt(expiresAt)
-            .lastUsedAt(Instant.now())
-            .build();
-        
-        refreshRepository.save(refreshEntity);
+        refreshTokenStore.save(tokenHash, new RefreshTokenStore.StoredRefreshToken(
+            user.getId(), deviceId, deviceType, deviceName, expiresAt));
 
         Map<String, String> tokens = new HashMap<>();
         tokens.put("accessToken", accessToken);
@@ -233,6 +245,8 @@ public class AuthService {
 
         if (!Instant.now().isAfter(deletedAt)) {
             user.reactivateUser();
+            userRepository.save(user);  // 트랜잭션 밖 - 저장 후 캐시 제거 (다음 요청이 DB 의 복구 상태를 읽도록)
+            principalCache.invalidate(user.getId());
             return true; // 복구 성공
         } else {
             throw new RuntimeException("탈퇴 후 30일이 지나 로그인할 수 없습니다.");
@@ -0,0 +1,151 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.client.ChatServiceClient;
+import com.crushai.crushai.entity.Match;
+import com.crushai.crushai.event.MatchCreatedEvent;
+import com.crushai.crushai.repository.MatchRepository;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 매칭 채팅방 생성 서비스
+ *
+ * 매칭 트랜잭션 안에서 채팅 서비스를 기다리지 않도록
+ * 커밋 후 별도 스레드에서 채팅방을 생성하고, 실패하면 chatRoomPending 상태로 남겨 재시도
+ * - 채팅방 ID(UUID)는 매칭 생성 시 미리 저장하므로 클라이언트 응답은 바로 가능
+ * - 서킷이 열려 있으면 호출하지 않고 재시도로 넘김
+ * - 채팅 서비스가 거절한 매칭은 실패 횟수를 기록하고 점점 늦게 재시도 (max-attempts 도달 시 보류)
+ *   실패가 반복되는 매칭 하나가 뒤의 매칭 재시도를 막지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatRoomProvisioningService {
+
+    private final ChatServiceClient chatServiceClient;
+    private final MatchRepository matchRepository;
+
+    // 재시도 백오프 상한
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofHours(1);
+
+    // 재시도 1회당 처리할 매칭 수
+    @Value("${chat.rooms.retry-batch-size:100}")
+    private int retryBatchSize;
+
+    // 재시도 주기 (이보다 최근 매칭은 커밋 후 생성이 진행 중일 수 있어 제외, 백오프 기본 간격)
+    @Value("${chat.rooms.retry-interval-ms:60000}")
+    private long retryIntervalMs;
+
+    // 이 횟수만큼 실패한 매칭은 재시도하지 않음 (chatRoomPending 으로 남겨 수동 확인)
+    @Value("${chat.rooms.retry-max-attempts:20}")
+    private int maxAttempts;
+
+    private enum CreateResult { CREATED, FAILED, UNAVAILABLE }
+
+    /**
+     * 매칭 커밋 후 채팅방 생성
+     * (트랜잭션 밖에서 호출된 경우에도 실행)
+     */
+    @Async("chatRoomExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMatchCreated(MatchCreatedEvent event) {
+        if (!chatServiceClient.isChatRoomCreationAvailable()) {
+            log.warn("Chat service circuit open, deferring chat room creation for match: {}", event.matchId());
+            return;
+        }
+
+        createChatRoom(event.matchId(), event.chatRoomId(), event.user1Id(), event.user2Id(), 0);
+    }
+
+    /**
+     * 채팅방 생성이 끝나지 않은 매칭 재시도
+     *
+     * 서킷이 열리거나 벌크헤드가 가득 차면 이번 회차는 중단 (채팅 서비스 장애 중 불필요한 호출 방지)
+     * 그 외 실패는 해당 매칭만 실패 기록 후 다음 매칭 계속
+     *
+     * @return 채팅방 생성에 성공한 매칭 수
+     */
+    public int retryPendingChatRooms() {
+        if (!chatServiceClient.isChatRoomCreationAvailable()) {
+            log.info("Chat service circuit open, skipping pending chat room retry");
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now(Match.TIME_ZONE);
+        List<Match> pendingMatches = matchRepository.findChatRoomPending(
+                now.minus(Duration.ofMillis(retryIntervalMs)), now, maxAttempts, PageRequest.of(0, retryBatchSize));
+        int created = 0;
+        int failed = 0;
+
+        for (Match match : pendingMatches) {
+            CreateResult result = createChatRoom(match.getId(), match.getChatRoomId(),
+                    match.getUser1Id(), match.getUser2Id(), match.getChatRoomAttempts());
+            if (result == CreateResult.UNAVAILABLE) {
+                break;
+            }
+            if (result == CreateResult.CREATED) {
+                created++;
+            } else {
+                failed++;
+            }
+        }
+
+        if (!pendingMatches.isEmpty()) {
+            log.info("Pending chat room retry: {} created / {} failed / {} pending", created, failed, pendingMatches.size());
+        }
+        return created;
+    }
+
+    private CreateResult createChatRoom(Long matchId, String chatRoomId, Long user1Id, Long user2Id, int attempts) {
+        try {
+            String createdChatRoomId = chatServiceClient.createChatRoomWithId(chatRoomId, user1Id, user2Id, matchId);
+
+            // 검증: UUID가 일치하는지 확인
+            if (!chatRoomId.equals(createdChatRoomId)) {
+                log.warn("Chat room ID mismatch! Expected: {}, Actual: {}", chatRoomId, createdChatRoomId);
+            }
+
+            matchRepository.markChatRoomCreated(matchId);
+            return CreateResult.CREATED;
+
+        } catch (Exception e) {
+            // 매칭은 유지, chatRoomPending 상태로 남아 재시도
+            if (e.getCause() instanceof CallNotPermittedException || e.getCause() instanceof BulkheadFullException) {
+                log.warn("Chat service unavailable, deferring chat room for match {}: {}", matchId, e.getMessage());
+                return CreateResult.UNAVAILABLE;
+            }
+
+            log.warn("Failed to create chat room for match {} (attempt {}): {}", matchId, attempts + 1, e.getMessage());
+            recordFailure(matchId, attempts);
+            return CreateResult.FAILED;
+        }
+    }
+
+    private void recordFailure(Long matchId, int attempts) {
+        if (attempts + 1 >= maxAttempts) {
+            log.error("Chat room creation for match {} failed {} times, parking until manual retry", matchId, attempts + 1);
+        }
+
+        Duration backoff = Duration.ofMillis(retryIntervalMs).multipliedBy(1L << Math.min(attempts, 16));
+        if (backoff.compareTo(MAX_RETRY_BACKOFF) > 0) {
+            backoff = MAX_RETRY_BACKOFF;
+        }
+        try {
+            matchRepository.recordChatRoomFailure(matchId, LocalDateTime.now(Match.TIME_ZONE).plus(backoff));
+        } catch (Exception e) {
+            log.warn("Failed to record chat room failure for match {}: {}", matchId, e.getMessage());
+        }
+    }
+}
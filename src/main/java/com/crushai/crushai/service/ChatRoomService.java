@@ -1,24 +1,38 @@
 package com.crushai.crushai.service;
 
 import com.crushai.crushai.client.ChatServiceClient;
+import com.crushai.crushai.dto.ChatRoomPageResponse;
 import com.crushai.crushai.dto.ChatRoomResponse;
+import com.crushai.crushai.dto.ChatSummaryUpdateRequest;
 import com.crushai.crushai.entity.Match;
 import com.crushai.crushai.entity.UserInfoEntity;
 import com.crushai.crushai.repository.MatchRepository;
 import com.crushai.crushai.repository.UserRepository;
+import com.google.common.collect.Lists;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
-import java.time.ZoneId;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * 채팅방 목록 서비스
- * 
+ *
  * 메인 프로젝트에서 채팅방 목록을 조회하고 조합
  */
 @Service
@@ -29,27 +43,55 @@ public class ChatRoomService {
     private final MatchRepository matchRepository;
     private final UserRepository userRepository;
     private final ChatServiceClient chatServiceClient;
+    private final ChatSummaryCacheService chatSummaryCacheService;
+    private final UserLocationService userLocationService;
+
+    // 마지막 활동 시각 내림차순, 같으면 매칭 ID 내림차순 (쿼리 ORDER BY 와 동일)
+    private static final Comparator<Match> ACTIVITY_ORDER = Comparator
+            .comparing(Match::getLastActivityAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Match::getId, Comparator.reverseOrder());
+
+    // 채팅 서비스 배치 조회 1회당 최대 채팅방 수
+    @Value("${chat.rooms.info-batch-size:50}")
+    private int infoBatchSize;
+
+    // 채팅 서비스 응답 전체 마감 시간 (초과 시 프로필만으로 응답)
+    @Value("${chat.rooms.info-deadline-ms:1500}")
+    private long infoDeadlineMs;
 
     /**
-     * 내 채팅방 목록 조회
-     * 
-     * 1. 내 활성 매칭 조회 (isActive = true)
-     * 2. 채팅 프로젝트에서 마지막 메시지 정보 조회
-     * 3. 상대방 프로필 정보 조회
-     * 4. 조합하여 반환
-     * 
+     * 내 채팅방 목록 조회 (커서 페이지네이션)
+     *
+     * 1. 내 활성 매칭 중 커서 이후 한 페이지 조회 (마지막 활동 시각 내림차순, 인덱스 사용)
+     *    - user1 / user2 쪽을 각각 조회 후 병합 (OR 조건은 인덱스를 타지 못함)
+     * 2. 채팅방 요약 캐시 조회 (채팅 서버 푸시로 갱신됨)
+     *    - 캐시 미스 채팅방만 조회 중 표시 후 채팅 프로젝트에 조회 (서브 배치로 나눠 병렬, 비동기) 후 캐시에 저장
+     * 3. 상대방 프로필 정보 / 나와의 거리 조회 (2와 동시에 진행, 거리는 Redis 1회)
+     * 4. 마감 시간까지 도착한 채팅방 정보만 조합하여 반환
+     *    - 도착하지 않은 채팅방은 infoStale = true 로 프로필만 반환
+     *
      * @param myUserId 내 유저 ID
-     * @return 채팅방 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 채팅방 목록 페이지
+     * @throws IllegalArgumentException 잘못된 커서
      */
-    public List<ChatRoomResponse> getMyChatRooms(Long myUserId) {
-        log.info("Fetching chat rooms for user: {}", myUserId);
+    public ChatRoomPageResponse getMyChatRooms(Long myUserId, String cursor, int size) {
+        log.info("Fetching chat rooms for user: {}, cursor: {}, size: {}", myUserId, cursor, size);
+
+        // 1. 커서 이후 내 활성 매칭 한 페이지 조회 (다음 페이지 존재 여부 확인용으로 1건 더)
+        ActivityCursor after = cursor != null && !cursor.isBlank() ? decodeCursor(cursor) : ActivityCursor.FIRST;
+        List<Match> fetched = findActivePage(myUserId, after, size + 1);
+
+        boolean hasMore = fetched.size() > size;
+        List<Match> myMatches = hasMore ? fetched.subList(0, size) : fetched;
 
-        // 1. 내 활성 매칭 조회
-        List<Match> myMatches = matchRepository.findActiveMatchesByUserId(myUserId);
-        
         if (myMatches.isEmpty()) {
             log.info("No active matches found for user: {}", myUserId);
-            return List.of();
+            return ChatRoomPageResponse.builder()
+                    .chatRooms(List.of())
+                    .hasMore(false)
+                    .build();
         }
 
         log.info("Found {} active matches for user: {}", myMatches.size(), myUserId);
@@ -60,9 +102,15 @@ public class ChatRoomService {
                 .filter(id -> id != null && !id.isEmpty())
                 .collect(Collectors.toList());
 
-        // 3. 채팅 프로젝트에서 마지막 메시지 정보 조회
-        Map<String, ChatServiceClient.ChatRoomInfo> chatRoomInfoMap = 
-                chatServiceClient.getBatchChatRoomInfo(chatRoomIds);
+        // 3. 요약 캐시 조회 후, 미스만 채팅 프로젝트 조회 시작 (서브 배치 단위 병렬 요청, 여기서 기다리지 않음)
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(infoDeadlineMs);
+        Map<String, ChatServiceClient.ChatRoomInfo> cachedInfoMap =
+                chatSummaryCacheService.getSummaries(chatRoomIds, myUserId);
+        List<String> missedChatRoomIds = chatRoomIds.stream()
+                .filter(id -> !cachedInfoMap.containsKey(id))
+                .collect(Collectors.toList());
+        chatSummaryCacheService.markPending(missedChatRoomIds, myUserId);
+        List<ChatInfoBatch> batches = requestChatRoomInfo(missedChatRoomIds);
 
         // 4. 상대방 유저 ID 목록 추출
         List<Long> otherUserIds = myMatches.stream()
@@ -70,7 +118,7 @@ public class ChatRoomService {
                 .distinct()
                 .collect(Collectors.toList());
 
-        // 5. 상대방 프로필 정보 조회
+        // 5. 상대방 프로필 정보 조회 (채팅 서비스 응답을 기다리는 동안 요청 스레드에서 진행)
         Map<Long, UserInfoEntity> userInfoMap = userRepository.findAllById(otherUserIds)
                 .stream()
                 .filter(user -> user.getUserInfo() != null)
@@ -78,29 +126,171 @@ public class ChatRoomService {
                         user -> user.getId(),
                         user -> user.getUserInfo()
                 ));
+        Map<Long, Double> distanceMap = userLocationService.getDistancesFrom(myUserId, userInfoMap.keySet());
+
+        // 6. 마감 시간까지 도착한 채팅방 정보 수집 후 캐시에 저장
+        Map<String, ChatServiceClient.ChatRoomInfo> fetchedInfoMap = new HashMap<>();
+        Set<String> staleChatRoomIds = new HashSet<>();
+        collectChatRoomInfo(batches, deadline, fetchedInfoMap, staleChatRoomIds);
+        chatSummaryCacheService.backfill(fetchedInfoMap, myUserId);
 
-        // 6. 매칭 정보 + 채팅방 정보 + 프로필 정보 조합
+        if (!staleChatRoomIds.isEmpty()) {
+            log.warn("Chat service did not answer within {}ms for {} of {} chat rooms (user: {})",
+                    infoDeadlineMs, staleChatRoomIds.size(), chatRoomIds.size(), myUserId);
+        }
+
+        Map<String, ChatServiceClient.ChatRoomInfo> chatRoomInfoMap = new HashMap<>(cachedInfoMap);
+        chatRoomInfoMap.putAll(fetchedInfoMap);
+
+        // 7. 매칭 정보 + 채팅방 정보 + 프로필 정보 조합 (DB 정렬 순서 유지)
         List<ChatRoomResponse> chatRooms = myMatches.stream()
-                .map(match -> buildChatRoomResponse(match, myUserId, chatRoomInfoMap, userInfoMap))
+                .map(match -> buildChatRoomResponse(
+                        match, myUserId, chatRoomInfoMap, staleChatRoomIds, userInfoMap, distanceMap))
                 .filter(response -> response != null)  // 정보가 없는 채팅방 제외
-                .sorted((r1, r2) -> {
-                    // 마지막 메시지 시간 기준 내림차순 정렬
-                    if (r1.getLastMessageAt() == null) return 1;
-                    if (r2.getLastMessageAt() == null) return -1;
-                    return r2.getLastMessageAt().compareTo(r1.getLastMessageAt());
-                })
                 .collect(Collectors.toList());
 
-        log.info("Returning {} chat rooms for user: {}", chatRooms.size(), myUserId);
-        return chatRooms;
+        Match last = myMatches.get(myMatches.size() - 1);
+        String nextCursor = hasMore ? encodeCursor(last.getLastActivityAt(), last.getId()) : null;
+
+        log.info("Returning {} chat rooms for user: {} (hasMore: {})", chatRooms.size(), myUserId, hasMore);
+        return ChatRoomPageResponse.builder()
+                .chatRooms(chatRooms)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * 채팅 메시지 발생 시 매칭의 마지막 활동 시각 갱신 (채팅방 목록 정렬 기준)
+     *
+     * 채팅방별로 가장 최신 시각만 남겨 트랜잭션 1회로 반영
+     *
+     * @param updates 채팅 서버가 푸시한 채팅방 요약 변경분 (새 메시지가 있는 항목만 반영)
+     */
+    public void recordChatActivity(List<ChatSummaryUpdateRequest.Update> updates) {
+        Map<String, LocalDateTime> activityByChatRoomId = new HashMap<>();
+        for (ChatSummaryUpdateRequest.Update update : updates) {
+            if (update.getLastMessageAt() == null || update.getLastMessageAt().isEmpty()) {
+                continue;  // 읽음 처리만 있는 경우
+            }
+
+            try {
+                LocalDateTime activityAt = LocalDateTime.ofInstant(
+                        Instant.parse(update.getLastMessageAt()), Match.TIME_ZONE);
+                activityByChatRoomId.merge(update.getChatRoomId(), activityAt,
+                        (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+            } catch (Exception e) {
+                log.warn("Invalid lastMessageAt for room {}: {}", update.getChatRoomId(), update.getLastMessageAt());
+            }
+        }
+
+        if (activityByChatRoomId.isEmpty()) {
+            return;
+        }
+
+        try {
+            matchRepository.updateLastActivityAt(activityByChatRoomId);
+        } catch (Exception e) {
+            log.warn("Failed to record chat activity for {} rooms: {}", activityByChatRoomId.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * user1 / user2 쪽 페이지를 각각 조회 후 병합하여 상위 limit 건 반환
+     */
+    private List<Match> findActivePage(Long myUserId, ActivityCursor after, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        List<Match> merged = new ArrayList<>(matchRepository.findActivePageAsUser1(
+                myUserId, after.lastActivityAt(), after.matchId(), pageRequest));
+        merged.addAll(matchRepository.findActivePageAsUser2(
+                myUserId, after.lastActivityAt(), after.matchId(), pageRequest));
+
+        merged.sort(ACTIVITY_ORDER);
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+    /**
+     * 커서 인코딩: Base64URL("{lastActivityAt ISO}|{matchId}")
+     */
+    private String encodeCursor(LocalDateTime lastActivityAt, Long matchId) {
+        String raw = lastActivityAt + "|" + matchId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ActivityCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new ActivityCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * 채팅방 ID 목록을 서브 배치로 나눠 채팅 서비스에 병렬 요청
+     *
+     * 논블로킹 호출이므로 요청 스레드나 별도 스레드 풀을 점유하지 않음
+     * 요청 자체가 실패한 배치는 즉시 실패한 future 로 처리 (stale)
+     */
+    private List<ChatInfoBatch> requestChatRoomInfo(List<String> chatRoomIds) {
+        List<ChatInfoBatch> batches = new ArrayList<>();
+
+        for (List<String> ids : Lists.partition(chatRoomIds, Math.max(1, infoBatchSize))) {
+            CompletableFuture<Map<String, ChatServiceClient.ChatRoomInfo>> future;
+            try {
+                future = chatServiceClient.getBatchChatRoomInfoAsync(ids);
+            } catch (Exception e) {
+                log.warn("Chat info request failed for {} chat rooms: {}", ids.size(), e.getMessage());
+                future = CompletableFuture.failedFuture(e);
+            }
+            batches.add(new ChatInfoBatch(ids, future));
+        }
+
+        return batches;
+    }
+
+    /**
+     * 전체 마감 시간까지 서브 배치 결과를 수집
+     *
+     * 마감 시간이 지나거나 실패한 배치의 채팅방은 staleChatRoomIds 에 추가
+     */
+    private void collectChatRoomInfo(List<ChatInfoBatch> batches,
+                                     long deadline,
+                                     Map<String, ChatServiceClient.ChatRoomInfo> chatRoomInfoMap,
+                                     Set<String> staleChatRoomIds) {
+        for (ChatInfoBatch batch : batches) {
+            long remainingNanos = deadline - System.nanoTime();
+            try {
+                Map<String, ChatServiceClient.ChatRoomInfo> result = remainingNanos > 0
+                        ? batch.future().get(remainingNanos, TimeUnit.NANOSECONDS)
+                        : batch.future().getNow(null);
+
+                if (result == null) {
+                    batch.future().cancel(true);  // 남은 요청은 취소하여 커넥션 반환
+                    staleChatRoomIds.addAll(batch.chatRoomIds());
+                } else {
+                    chatRoomInfoMap.putAll(result);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                staleChatRoomIds.addAll(batch.chatRoomIds());
+            } catch (Exception e) {
+                // 타임아웃 또는 실패 → 이 배치는 프로필만으로 응답
+                batch.future().cancel(true);
+                staleChatRoomIds.addAll(batch.chatRoomIds());
+            }
+        }
     }
 
     /**
      * 매칭에서 상대방 유저 ID 가져오기
      */
     private Long getOtherUserId(Match match, Long myUserId) {
-        return match.getUser1Id().equals(myUserId) 
-                ? match.getUser2Id() 
+        return match.getUser1Id().equals(myUserId)
+                ? match.getUser2Id()
                 : match.getUser1Id();
     }
 
@@ -111,7 +301,9 @@ public class ChatRoomService {
             Match match,
             Long myUserId,
             Map<String, ChatServiceClient.ChatRoomInfo> chatRoomInfoMap,
-            Map<Long, UserInfoEntity> userInfoMap
+            Set<String> staleChatRoomIds,
+            Map<Long, UserInfoEntity> userInfoMap,
+            Map<Long, Double> distanceMap
     ) {
         Long otherUserId = getOtherUserId(match, myUserId);
         UserInfoEntity otherUserInfo = userInfoMap.get(otherUserId);
@@ -133,6 +325,7 @@ public class ChatRoomService {
                 .profilePhoto(otherUserInfo.getPhotoUrls() != null && !otherUserInfo.getPhotoUrls().isEmpty()
                         ? otherUserInfo.getPhotoUrls().get(0)
                         : null)
+                .distanceKm(distanceMap.get(otherUserId))
                 .build();
 
         // 채팅방 응답 구성
@@ -143,10 +336,28 @@ public class ChatRoomService {
                 .matchedAt(match.getMatchedAt())
                 .otherUser(otherUser)
                 .lastMessage(chatInfo != null ? chatInfo.getLastMessage() : null)
-                .lastMessageAt(chatInfo != null && chatInfo.getLastMessageAt() != null 
-                        ? Instant.parse(chatInfo.getLastMessageAt()) 
+                .lastMessageAt(chatInfo != null && chatInfo.getLastMessageAt() != null
+                        ? Instant.parse(chatInfo.getLastMessageAt())
                         : null)
-                .unreadCount(chatInfo != null ? chatInfo.getUnreadCount() : 0)
+                .unreadCount(chatInfo != null && chatInfo.getUnreadCount() != null ? chatInfo.getUnreadCount() : 0)
+                .infoStale(staleChatRoomIds.contains(match.getChatRoomId()))
                 .build();
     }
+
+    /**
+     * 채팅방 목록 커서 (마지막으로 받은 매칭의 lastActivityAt, id)
+     */
+    private record ActivityCursor(LocalDateTime lastActivityAt, Long matchId) {
+        // 첫 페이지: 모든 매칭보다 뒤 (MySQL DATETIME 최대값)
+        static final ActivityCursor FIRST = new ActivityCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+    }
+
+    /**
+     * 채팅 서비스 서브 배치 요청 (요청한 채팅방 ID + 결과 future)
+     */
+    private record ChatInfoBatch(
+            List<String> chatRoomIds,
+            CompletableFuture<Map<String, ChatServiceClient.ChatRoomInfo>> future
+    ) {
+    }
 }
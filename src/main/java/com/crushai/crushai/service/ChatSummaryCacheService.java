@@ -0,0 +1,369 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.client.ChatServiceClient;
+import com.crushai.crushai.dto.ChatSummaryUpdateRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅방 요약 캐시 서비스 (Redis Hash)
+ *
+ * 채팅 서버가 푸시한 마지막 메시지 / 안 읽은 메시지 수를 채팅방별 Hash 에 저장하여
+ * 채팅 탭 조회 시 채팅 서버 호출 없이 응답할 수 있도록 함
+ *
+ * Key: chat_summary:{chatRoomId}
+ * Fields:
+ * - lastMessage, lastMessageAt (ISO-8601), lastMessageAtMs (순서 비교용)
+ * - unread:{userId} → 해당 유저의 안 읽은 메시지 수
+ * - pending:{userId} → 캐시 미스로 채팅 서버를 조회 중인 표시 (값: 표시한 epoch ms, 그 사이 증감이 오면 음수)
+ *
+ * 유저 기준 캐시 히트 조건: unread:{userId} 필드 존재
+ * - 증감 푸시는 이미 존재하는 필드에만 적용
+ * - 캐시 미스 채우기: 채팅 서버 조회 전에 pending 표시 → 조회 → 그 사이 증감 푸시가 없었을 때만 unread 저장
+ *   (조회 결과에 반영됐는지 알 수 없는 증감이 있으면 저장하지 않고 다음 조회에서 다시 미스 처리)
+ *
+ * 스크립트는 채팅방 키 1개씩 실행하고 여러 채팅방은 파이프라인으로 묶음
+ * (채팅방 키마다 Cluster 슬롯이 다르므로 한 스크립트에 여러 키를 넘기지 않음)
+ */
+@Service
+@Slf4j
+public class ChatSummaryCacheService {
+
+    private static final String KEY_PREFIX = "chat_summary:";
+    private static final String UNREAD_FIELD_PREFIX = "unread:";
+
+    // 이 시간이 지난 pending 표시는 끝나지 않은 조회로 보고 새로 표시 (채팅 서버 조회 마감 시간보다 충분히 길게)
+    private static final long PENDING_STALE_MS = 30_000;
+
+    /**
+     * 채팅 서버 푸시 반영 (채팅방 1개)
+     *
+     * KEYS[1] = 채팅방 키
+     * ARGV = TTL(초), lastMessage, lastMessageAt, lastMessageAtMs, 증감 개수 n, (userId, delta) * n, 초기화 개수 m, userId * m
+     *
+     * - 마지막 메시지는 더 최신일 때만 덮어씀 (순서가 뒤바뀐 푸시 무시)
+     * - 증감은 이미 캐시된 유저 필드에만 적용 (부분 값으로 히트 처리되는 것 방지)
+     *   캐시 미스 조회 중(pending)이면 값 대신 표시만 음수로 바꿔 그 조회 결과를 저장하지 않게 함
+     * - 초기화(읽음)는 절대값 0이므로 항상 적용
+     */
+    private static final RedisScript<Long> APPLY_UPDATE_SCRIPT = new DefaultRedisScript<>("""
+            local key = KEYS[1]
+            local atMs = tonumber(ARGV[4])
+            if atMs and atMs > 0 then
+              local current = tonumber(redis.call('HGET', key, 'lastMessageAtMs') or '0')
+              if atMs >= current then
+                redis.call('HSET', key, 'lastMessage', ARGV[2], 'lastMessageAt', ARGV[3], 'lastMessageAtMs', atMs)
+              end
+            end
+            local i = 5
+            local deltas = tonumber(ARGV[i])
+            i = i + 1
+            for d = 1, deltas do
+              local field = 'unread:' .. ARGV[i]
+              if redis.call('HEXISTS', key, field) == 1 then
+                local value = redis.call('HINCRBY', key, field, tonumber(ARGV[i + 1]))
+                if value < 0 then
+                  redis.call('HSET', key, field, 0)
+                end
+              else
+                local pendingField = 'pending:' .. ARGV[i]
+                local pending = tonumber(redis.call('HGET', key, pendingField) or '0')
+                if pending > 0 then
+                  redis.call('HSET', key, pendingField, -pending)
+                end
+              end
+              i = i + 2
+            end
+            local resets = tonumber(ARGV[i])
+            i = i + 1
+            for r = 1, resets do
+              redis.call('HSET', key, 'unread:' .. ARGV[i], 0)
+              redis.call('HDEL', key, 'pending:' .. ARGV[i])
+              i = i + 1
+            end
+            if redis.call('EXISTS', key) == 1 then
+              redis.call('EXPIRE', key, tonumber(ARGV[1]))
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 캐시 미스 채팅방에 조회 중 표시 (채팅방 1개, 채팅 서버 조회 직전)
+     *
+     * KEYS[1] = 채팅방 키, ARGV = TTL(초), userId, 현재 epoch ms, 오래된 표시 기준 ms
+     * - 이미 unread 가 있으면 표시하지 않음
+     * - 다른 조회가 표시해 둔 경우(증감 여부 포함) 그대로 둠 - 오래된 표시만 새로 씀
+     */
+    private static final RedisScript<Long> MARK_PENDING_SCRIPT = new DefaultRedisScript<>("""
+            local key = KEYS[1]
+            local field = 'pending:' .. ARGV[2]
+            local now = tonumber(ARGV[3])
+            if redis.call('HEXISTS', key, 'unread:' .. ARGV[2]) == 1 then
+              return 0
+            end
+            local pending = tonumber(redis.call('HGET', key, field) or '0')
+            if math.abs(pending) >= now - tonumber(ARGV[4]) then
+              return 0
+            end
+            redis.call('HSET', key, field, now)
+            redis.call('EXPIRE', key, tonumber(ARGV[1]))
+            return 1
+            """, Long.class);
+
+    /**
+     * 캐시 미스 채팅방을 채팅 서버 조회 결과로 채움 (채팅방 1개)
+     *
+     * KEYS[1] = 채팅방 키, ARGV = TTL(초), userId, lastMessage, lastMessageAt, lastMessageAtMs, unreadCount
+     * - unread 는 조회 중 표시가 남아 있고 그 사이 증감이 없었을 때만 설정 (이미 있으면 덮어쓰지 않음)
+     */
+    private static final RedisScript<Long> BACKFILL_SCRIPT = new DefaultRedisScript<>("""
+            local key = KEYS[1]
+            local pendingField = 'pending:' .. ARGV[2]
+            local atMs = tonumber(ARGV[5])
+            if atMs and atMs > 0 then
+              local current = tonumber(redis.call('HGET', key, 'lastMessageAtMs') or '0')
+              if atMs >= current then
+                redis.call('HSET', key, 'lastMessage', ARGV[3], 'lastMessageAt', ARGV[4], 'lastMessageAtMs', atMs)
+              end
+            end
+            local pending = tonumber(redis.call('HGET', key, pendingField) or '0')
+            if pending > 0 then
+              redis.call('HSETNX', key, 'unread:' .. ARGV[2], ARGV[6])
+            end
+            redis.call('HDEL', key, pendingField)
+            redis.call('EXPIRE', key, tonumber(ARGV[1]))
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 마지막 갱신 후 캐시 보관 기간
+    @Value("${chat.summary-cache.ttl-days:30}")
+    private long ttlDays;
+
+    public ChatSummaryCacheService(@Qualifier("geoRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 채팅 서버 푸시 반영
+     *
+     * @param updates 채팅방별 요약 변경분
+     * @return 반영한 채팅방 수
+     */
+    public int applyUpdates(List<ChatSummaryUpdateRequest.Update> updates) {
+        if (updates == null || updates.isEmpty()) {
+            return 0;
+        }
+
+        String ttl = String.valueOf(ttlSeconds());
+        List<String> keys = new ArrayList<>(updates.size());
+        List<List<String>> argsPerKey = new ArrayList<>(updates.size());
+
+        for (ChatSummaryUpdateRequest.Update update : updates) {
+            List<String> args = new ArrayList<>();
+            args.add(ttl);
+
+            long lastMessageAtMs = parseEpochMillis(update.getLastMessageAt());
+            args.add(update.getLastMessage() != null ? update.getLastMessage() : "");
+            args.add(update.getLastMessageAt() != null ? update.getLastMessageAt() : "");
+            args.add(String.valueOf(lastMessageAtMs));
+
+            Map<Long, Integer> deltas = update.getUnreadDeltas() != null ? update.getUnreadDeltas() : Map.of();
+            args.add(String.valueOf(deltas.size()));
+            deltas.forEach((userId, delta) -> {
+                args.add(String.valueOf(userId));
+                args.add(String.valueOf(delta));
+            });
+
+            List<Long> resets = update.getUnreadResets() != null ? update.getUnreadResets() : List.of();
+            args.add(String.valueOf(resets.size()));
+            resets.forEach(userId -> args.add(String.valueOf(userId)));
+
+            keys.add(buildKey(update.getChatRoomId()));
+            argsPerKey.add(args);
+        }
+
+        int applied = evalPerKey(APPLY_UPDATE_SCRIPT, keys, argsPerKey);
+        log.debug("Applied {} chat summary updates", applied);
+        return applied;
+    }
+
+    /**
+     * 캐시된 채팅방 요약 일괄 조회 (파이프라인 1회 왕복)
+     *
+     * @param chatRoomIds 조회할 채팅방 ID 목록
+     * @param userId 조회하는 유저 ID (안 읽은 메시지 수 기준)
+     * @return 캐시 히트한 chatRoomId -> ChatRoomInfo (실패 시 빈 맵 → 전부 미스 처리)
+     */
+    public Map<String, ChatServiceClient.ChatRoomInfo> getSummaries(List<String> chatRoomIds, Long userId) {
+        if (chatRoomIds == null || chatRoomIds.isEmpty()) {
+            return Map.of();
+        }
+
+        String unreadField = UNREAD_FIELD_PREFIX + userId;
+        List<Object> fields = List.of("lastMessage", "lastMessageAt", unreadField);
+
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    for (String chatRoomId : chatRoomIds) {
+                        operations.opsForHash().multiGet(buildKey(chatRoomId), fields);
+                    }
+                    return null;
+                }
+            });
+
+            Map<String, ChatServiceClient.ChatRoomInfo> summaries = new HashMap<>();
+            for (int i = 0; i < chatRoomIds.size(); i++) {
+                @SuppressWarnings("unchecked")
+                List<Object> values = (List<Object>) results.get(i);
+                if (values == null || values.get(2) == null) {
+                    continue;  // 미스
+                }
+
+                String lastMessage = (String) values.get(0);
+                String lastMessageAt = (String) values.get(1);
+                summaries.put(chatRoomIds.get(i), ChatServiceClient.ChatRoomInfo.builder()
+                        .lastMessage(lastMessage == null || lastMessage.isEmpty() ? null : lastMessage)
+                        .lastMessageAt(lastMessageAt == null || lastMessageAt.isEmpty() ? null : lastMessageAt)
+                        .unreadCount(Integer.parseInt((String) values.get(2)))
+                        .build());
+            }
+
+            log.debug("Chat summary cache: {} hits / {} rooms for user {}", summaries.size(), chatRoomIds.size(), userId);
+            return summaries;
+
+        } catch (Exception e) {
+            log.warn("Failed to read chat summary cache: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * 캐시 미스 채팅방에 조회 중 표시 (채팅 서버 조회 전에 호출해야 backfill 에서 unread 가 저장됨)
+     *
+     * @param chatRoomIds 캐시 미스 채팅방 ID 목록
+     * @param userId 조회하는 유저 ID
+     */
+    public void markPending(List<String> chatRoomIds, Long userId) {
+        if (chatRoomIds == null || chatRoomIds.isEmpty()) {
+            return;
+        }
+
+        List<String> args = List.of(
+                String.valueOf(ttlSeconds()),
+                String.valueOf(userId),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(PENDING_STALE_MS));
+
+        try {
+            evalPerKey(MARK_PENDING_SCRIPT,
+                    chatRoomIds.stream().map(this::buildKey).toList(),
+                    Collections.nCopies(chatRoomIds.size(), args));
+        } catch (Exception e) {
+            // 표시하지 못하면 backfill 에서 unread 를 저장하지 않으므로 다음 조회도 미스
+            log.warn("Failed to mark chat summary cache pending: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 채팅 서버에서 조회한 캐시 미스 결과 저장 (파이프라인 1회 왕복)
+     *
+     * @param chatRoomInfoMap chatRoomId -> ChatRoomInfo (채팅 서버 응답)
+     * @param userId 조회한 유저 ID
+     */
+    public void backfill(Map<String, ChatServiceClient.ChatRoomInfo> chatRoomInfoMap, Long userId) {
+        if (chatRoomInfoMap == null || chatRoomInfoMap.isEmpty()) {
+            return;
+        }
+
+        String ttl = String.valueOf(ttlSeconds());
+        List<String> keys = new ArrayList<>(chatRoomInfoMap.size());
+        List<List<String>> argsPerKey = new ArrayList<>(chatRoomInfoMap.size());
+        chatRoomInfoMap.forEach((chatRoomId, info) -> {
+            keys.add(buildKey(chatRoomId));
+            argsPerKey.add(List.of(
+                    ttl,
+                    String.valueOf(userId),
+                    info.getLastMessage() != null ? info.getLastMessage() : "",
+                    info.getLastMessageAt() != null ? info.getLastMessageAt() : "",
+                    String.valueOf(parseEpochMillis(info.getLastMessageAt())),
+                    String.valueOf(info.getUnreadCount() != null ? info.getUnreadCount() : 0)));
+        });
+
+        try {
+            evalPerKey(BACKFILL_SCRIPT, keys, argsPerKey);
+        } catch (Exception e) {
+            // 캐시 저장 실패는 다음 조회 때 다시 미스로 처리되므로 치명적이지 않음
+            log.warn("Failed to backfill chat summary cache: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 채팅방 키마다 스크립트 1회 실행 (파이프라인 1회 왕복)
+     * 스크립트가 여러 채팅방 키를 같이 쓰면 Redis Cluster 에서 슬롯이 달라 CROSSSLOT 오류
+     *
+     * @return 1을 반환한 실행 수
+     */
+    private int evalPerKey(RedisScript<Long> script, List<String> keys, List<List<String>> argsPerKey) {
+        byte[] scriptBytes = bytes(script.getScriptAsString());
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < keys.size(); i++) {
+                List<String> args = argsPerKey.get(i);
+                byte[][] keysAndArgs = new byte[args.size() + 1][];
+                keysAndArgs[0] = bytes(keys.get(i));
+                for (int a = 0; a < args.size(); a++) {
+                    keysAndArgs[a + 1] = bytes(args.get(a));
+                }
+                connection.scriptingCommands().eval(scriptBytes, ReturnType.INTEGER, 1, keysAndArgs);
+            }
+            return null;
+        });
+        return (int) results.stream().filter(result -> Long.valueOf(1).equals(result)).count();
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private long ttlSeconds() {
+        return ttlDays * 24 * 3600;
+    }
+
+    private String buildKey(String chatRoomId) {
+        return KEY_PREFIX + chatRoomId;
+    }
+
+    private long parseEpochMillis(String isoInstant) {
+        if (isoInstant == null || isoInstant.isEmpty()) {
+            return 0L;
+        }
+        try {
+            return Instant.parse(isoInstant).toEpochMilli();
+        } catch (Exception e) {
+            log.warn("Invalid lastMessageAt in chat summary: {}", isoInstant);
+            return 0L;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -160,31 +161,43 @@ public class DeviceService {
     }
     
     /**
-     * 토큰 실패 기록
+     * 토큰 전송 성공 일괄 기록 (푸시 결과 반영용)
      */
     @Transactional
-    public void recordTokenFailure(String deviceToken, String reason) {
-        String normalizedToken = deviceToken.replaceAll("\\s+", "");
-        
-        deviceTokenRepository.findByDeviceToken(normalizedToken)
-            .ifPresent(token -> {
-                token.recordFailure(reason);
-                log.warn("Token failure recorded: {} - {}", maskToken(normalizedToken), reason);
-            });
+    public void recordTokenSuccesses(Collection<String> deviceTokens) {
+        if (deviceTokens.isEmpty()) {
+            return;
+        }
+        int updated = deviceTokenRepository.markUsed(deviceTokens, TokenStatus.ACTIVE, Instant.now());
+        log.debug("Token successes recorded: {}", updated);
     }
-    
+
     /**
-     * 토큰 사용 성공 기록
+     * 토큰 전송 실패 일괄 기록 (연속 실패가 쌓이면 INVALID)
+     *
+     * @param failures 토큰마다 더할 연속 실패 횟수
      */
     @Transactional
-    public void recordTokenSuccess(String deviceToken) {
-        String normalizedToken = deviceToken.replaceAll("\\s+", "");
-        
-        deviceTokenRepository.findByDeviceToken(normalizedToken)
-            .ifPresent(token -> {
-                token.markAsUsed();
-                log.debug("Token success recorded: {}", maskToken(normalizedToken));
-            });
+    public void recordTokenFailures(Collection<String> deviceTokens, int failures, String reason) {
+        if (deviceTokens.isEmpty()) {
+            return;
+        }
+        int updated = deviceTokenRepository.recordFailures(deviceTokens, failures, reason, DeviceToken.MAX_FAILURES,
+                TokenStatus.ACTIVE, TokenStatus.INVALID, Instant.now());
+        log.warn("Token failures recorded: {} - {}", updated, reason);
+    }
+
+    /**
+     * 토큰 즉시 무효화 (APNs 가 만료 / 잘못된 토큰이라고 응답한 경우)
+     */
+    @Transactional
+    public void invalidateTokens(Collection<String> deviceTokens, String reason) {
+        if (deviceTokens.isEmpty()) {
+            return;
+        }
+        int updated = deviceTokenRepository.invalidate(deviceTokens, reason,
+                TokenStatus.ACTIVE, TokenStatus.INVALID, Instant.now());
+        log.info("Tokens invalidated: {} - {}", updated, reason);
     }
     
     /**
@@ -194,14 +207,4 @@ public class DeviceService {
     public boolean hasActiveTokens(Long userId) {
         return deviceTokenRepository.countByUserIdAndStatus(userId, TokenStatus.ACTIVE) > 0;
     }
-    
-    /**
-     * 토큰 마스킹 (로그용)
-     */
-    private String maskToken(String token) {
-        if (token == null || token.length() <= 8) {
-            return "***";
-        }
-        return token.substring(0, 4) + "..." + token.substring(token.length() - 4);
-    }
 }
@@ -0,0 +1,166 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.entity.DeviceToken;
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 디바이스 토큰 사용 / 실패 기록 쓰기 지연 버퍼 (APNs 응답 → device_tokens)
+ *
+ * 푸시마다 토큰을 조회 / 수정하지 않고 토큰별로 메모리에 모았다가 주기적으로 벌크 UPDATE
+ * - 토큰별 집계는 ConcurrentHashMap.compute 로 갱신 (bin 단위 잠금 - 토큰끼리 경합 없음)
+ *   성공 이후의 연속 실패 수와 마지막 실패 사유만 보관하므로 푸시가 많아도 토큰당 항목 1개
+ * - 성공: lastUsedAt 갱신 / 실패 횟수 초기화 (FLUSH_CHUNK_SIZE 개씩 IN 쿼리)
+ * - 실패: (실패 수, 사유) 묶음마다 FLUSH_CHUNK_SIZE 개씩 IN 쿼리로 실패 횟수 증가
+ *   성공 기록을 먼저 반영하므로 "성공 → 실패" 순서도 그대로 유지됨
+ * - INVALID 전환(토큰 무효 응답, 모인 연속 실패가 MAX_FAILURES 도달)은 모으지 않고 짧은 주기로 바로 반영
+ * - 반영 실패 시 그 청크의 기록은 버림 (다음 푸시 결과로 다시 쌓임)
+ * - 스케줄러 스레드를 다른 배치와 나눠 쓰므로 spring.task.scheduling.pool.size 로 풀 크기 지정 (기본 1)
+ */
+@Service
+@Slf4j
+public class DeviceTokenStatsBuffer {
+
+    private static final int FLUSH_CHUNK_SIZE = 1000; // IN 목록 크기 (DeviceTokenCleanupScheduler 청크와 동일)
+
+    private final DeviceService deviceService;
+
+    private final ConcurrentHashMap<String, TokenStats> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> pendingInvalid = new ConcurrentHashMap<>(); // 토큰 → 사유
+
+    public DeviceTokenStatsBuffer(DeviceService deviceService, MeterRegistry meterRegistry) {
+        this.deviceService = deviceService;
+        Gauge.builder("device_token.stats.pending", pending, Map::size).register(meterRegistry);
+        Gauge.builder("device_token.stats.pending-invalid", pendingInvalid, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 토큰별 집계 (flush 전까지)
+     *
+     * @param succeeded 이번 주기에 성공이 있었는지 (있으면 failures 는 마지막 성공 이후 실패 수)
+     * @param failures 연속 실패 수
+     * @param reason 마지막 실패 사유
+     */
+    record TokenStats(boolean succeeded, int failures, String reason) {
+    }
+
+    /**
+     * 전송 성공 기록
+     */
+    public void recordSuccess(String deviceToken) {
+        pending.put(deviceToken, new TokenStats(true, 0, null));
+    }
+
+    /**
+     * 전송 실패 기록 (모인 연속 실패가 MAX_FAILURES 에 도달하면 무효화 대기로 이동)
+     */
+    public void recordFailure(String deviceToken, String reason) {
+        TokenStats stats = pending.compute(deviceToken, (token, current) -> current == null
+                ? new TokenStats(false, 1, reason)
+                : new TokenStats(current.succeeded(), current.failures() + 1, reason));
+
+        if (stats.failures() >= DeviceToken.MAX_FAILURES) {
+            recordInvalid(deviceToken, reason);
+        }
+    }
+
+    /**
+     * 토큰 무효 기록 (다음 무효화 flush 에서 바로 INVALID)
+     */
+    public void recordInvalid(String deviceToken, String reason) {
+        pendingInvalid.put(deviceToken, reason);
+        pending.remove(deviceToken);
+    }
+
+    /**
+     * 모인 성공 / 실패 기록 반영
+     */
+    @Scheduled(fixedDelayString = "${device-token.stats.flush-interval-ms:30000}")
+    public void flushStats() {
+        List<String> successes = new ArrayList<>();
+        Map<TokenStats, List<String>> failureGroups = new HashMap<>();
+
+        for (String token : pending.keySet()) {
+            TokenStats stats = pending.remove(token);
+            if (stats == null) {
+                continue;
+            }
+            if (stats.succeeded()) {
+                successes.add(token);
+            }
+            if (stats.failures() > 0) {
+                failureGroups.computeIfAbsent(new TokenStats(false, stats.failures(), stats.reason()),
+                        key -> new ArrayList<>()).add(token);
+            }
+        }
+
+        for (List<String> chunk : Lists.partition(successes, FLUSH_CHUNK_SIZE)) {
+            try {
+                deviceService.recordTokenSuccesses(chunk);
+            } catch (Exception e) {
+                log.error("Failed to flush {} device token successes", chunk.size(), e);
+            }
+        }
+        failureGroups.forEach((group, tokens) -> {
+            for (List<String> chunk : Lists.partition(tokens, FLUSH_CHUNK_SIZE)) {
+                try {
+                    deviceService.recordTokenFailures(chunk, group.failures(), group.reason());
+                } catch (Exception e) {
+                    log.error("Failed to flush {} device token failures ({})", chunk.size(), group.reason(), e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 무효 토큰 반영 (이후 전송 대상에서 빠지도록 짧은 주기)
+     */
+    @Scheduled(fixedDelayString = "${device-token.stats.invalid-flush-interval-ms:1000}")
+    public void flushInvalidations() {
+        if (pendingInvalid.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<String>> byReason = new HashMap<>();
+        for (String token : pendingInvalid.keySet()) {
+            String reason = pendingInvalid.remove(token);
+            if (reason != null) {
+                byReason.computeIfAbsent(reason, r -> new ArrayList<>()).add(token);
+            }
+        }
+
+        byReason.forEach((reason, tokens) -> {
+            for (List<String> chunk : Lists.partition(tokens, FLUSH_CHUNK_SIZE)) {
+                try {
+                    deviceService.invalidateTokens(chunk, reason);
+                } catch (Exception e) {
+                    log.error("Failed to invalidate {} device tokens ({})", chunk.size(), reason, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 종료 시 남은 기록 반영
+     */
+    @PreDestroy
+    public void flushAll() {
+        flushInvalidations();
+        flushStats();
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+}
@@ -0,0 +1,182 @@
+package com.crushai.crushai.service;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API 호출 제한 (모든 서버 인스턴스 공유, Redis GCRA)
+ *
+ * Key: rate_limit:{api} (API 전체), rate_limit:{api}:user:{userId} (유저별)
+ *      - {api} 는 Redis Cluster 해시 태그 - 한 API 의 키가 같은 슬롯에 있어야 스크립트 1회로 같이 예약 가능
+ * Value: 다음 요청이 허용되는 이론상 시각(TAT, epoch ms)
+ *
+ * - 시각은 Redis TIME 기준이라 서버 간 시계 차이와 무관
+ * - maxWait 안에 자리가 나면 예약 후 남은 시간만 대기, 아니면 예약 없이 바로 false (호출 측에서 대체 처리)
+ *   대기는 호출 스레드를 멈추므로 요청 스레드에서는 Duration.ZERO 로 호출 (대기는 백그라운드 작업에서만)
+ * - API / 유저 예산을 같이 주면 둘 다 통과할 때만 예약 (스크립트 1회, 원자적)
+ * - Redis 장애 시에는 인스턴스별 로컬 제한(API 예산만)으로 대신함
+ */
+@Service
+@Slf4j
+public class DistributedRateLimiter {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+
+    /**
+     * GCRA 예약
+     *
+     * KEYS = 예산별 키, ARGV = 최대 대기 ms, 이후 키 순서대로 (요청 간격 ms, 버스트 허용량)
+     * 반환: 대기해야 할 ms (0 이상) - 하나라도 최대 대기를 넘으면 아무것도 기록하지 않고 -1
+     */
+    private static final RedisScript<Long> GCRA_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local maxWait = tonumber(ARGV[1])
+            local wait = 0
+            local tats = {}
+            for i = 1, #KEYS do
+              local interval = tonumber(ARGV[i * 2])
+              local burst = tonumber(ARGV[i * 2 + 1])
+              local tat = tonumber(redis.call('GET', KEYS[i]) or now)
+              if tat < now then
+                tat = now
+              end
+              local keyWait = tat - burst * interval - now
+              if keyWait > maxWait then
+                return -1
+              end
+              if keyWait > wait then
+                wait = keyWait
+              end
+              tats[i] = tat
+            end
+            for i = 1, #KEYS do
+              local newTat = tats[i] + tonumber(ARGV[i * 2])
+              redis.call('SET', KEYS[i], tostring(newTat), 'PX', math.ceil(newTat - now) + 1000)
+            end
+            return math.ceil(wait)
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // Redis 장애 시 사용하는 API별 로컬 제한
+    private final ConcurrentHashMap<String, RateLimiter> localFallbacks = new ConcurrentHashMap<>();
+
+    /**
+     * 호출 예산
+     *
+     * @param permitsPerSecond 초당 허용 요청 수 (장기 평균)
+     * @param burst 쉬고 있다가 한 번에 더 허용할 요청 수
+     *              (0 이면 요청 간격을 엄격히 지킴 - 대기 없이 호출하면 간격 안의 두 번째 요청은 거절)
+     */
+    public record Budget(double permitsPerSecond, int burst) {
+
+        // 버스트 없음 - 간격을 지켜야 하는 API (Nominatim 1초 1회) 를 maxWait 와 같이 쓸 때
+        public static Budget perSecond(double permits) {
+            return new Budget(permits, 0);
+        }
+
+        // 대기 없이(Duration.ZERO) 호출하는 요청 스레드용 - 동시에 들어온 요청을 burst + 1 건까지 허용
+        public static Budget perSecond(double permits, int burst) {
+            return new Budget(permits, burst);
+        }
+
+        public static Budget perMinute(double permits, int burst) {
+            return new Budget(permits / 60.0, burst);
+        }
+
+        double intervalMs() {
+            return 1000.0 / permitsPerSecond;
+        }
+    }
+
+    public DistributedRateLimiter(@Qualifier("geoRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                  MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * API 전체 예산으로 호출 1회 예약
+     *
+     * @param api API 이름 (예: "nominatim")
+     * @param budget API 전체 예산
+     * @param maxWait 최대 대기 시간 (0 이면 대기하지 않음, 0 보다 크면 호출 스레드에서 대기)
+     * @return 호출해도 되면 true, maxWait 안에 자리가 없으면 false
+     */
+    public boolean tryAcquire(String api, Budget budget, Duration maxWait) {
+        return tryAcquire(api, budget, null, null, maxWait);
+    }
+
+    /**
+     * API 전체 예산 + 유저별 예산으로 호출 1회 예약 (둘 다 통과해야 허용)
+     *
+     * @param api API 이름 (예: "gemini")
+     * @param apiBudget API 전체 예산
+     * @param userId 유저 ID (null 이면 유저 예산 생략)
+     * @param userBudget 유저별 예산
+     * @param maxWait 최대 대기 시간 (0 이면 대기하지 않음, 0 보다 크면 호출 스레드에서 대기)
+     * @return 호출해도 되면 true, maxWait 안에 자리가 없으면 false
+     */
+    public boolean tryAcquire(String api, Budget apiBudget, Long userId, Budget userBudget, Duration maxWait) {
+        List<String> keys = new ArrayList<>(2);
+        List<String> args = new ArrayList<>(5);
+        args.add(String.valueOf(maxWait.toMillis()));
+
+        String apiKey = KEY_PREFIX + "{" + api + "}";
+        keys.add(apiKey);
+        args.add(String.valueOf(apiBudget.intervalMs()));
+        args.add(String.valueOf(apiBudget.burst()));
+        if (userId != null && userBudget != null) {
+            keys.add(apiKey + ":user:" + userId);
+            args.add(String.valueOf(userBudget.intervalMs()));
+            args.add(String.valueOf(userBudget.burst()));
+        }
+
+        Long waitMs;
+        try {
+            waitMs = redisTemplate.execute(GCRA_SCRIPT, keys, args.toArray());
+        } catch (Exception e) {
+            log.warn("Rate limiter unavailable for {}, using local limit: {}", api, e.getMessage());
+            boolean acquired = localFallbacks
+                    .computeIfAbsent(api, name -> RateLimiter.create(apiBudget.permitsPerSecond()))
+                    .tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+            record(api, acquired ? "fallback" : "rejected");
+            return acquired;
+        }
+
+        if (waitMs == null || waitMs < 0) {
+            record(api, "rejected");
+            log.debug("Rate limited: api={}, userId={}", api, userId);
+            return false;
+        }
+
+        record(api, waitMs > 0 ? "delayed" : "allowed");
+        if (waitMs > 0) {
+            try {
+                Thread.sleep(waitMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void record(String api, String result) {
+        meterRegistry.counter("rate_limit.requests", "api", api, "result", result).increment();
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.web.client.RestClient;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
@@ -25,16 +26,40 @@ public class GeminiService {
     @Value("${gemini.api.key}")
     private String geminiApiKey;
 
+    private static final String RATE_LIMIT_API = "gemini";
+
     private final RestClient restClient;
     private final ObjectMapper objectMapper;
-
-    public GeminiService(RestClient.Builder restClientBuilder, ObjectMapper objectMapper) {
+    private final DistributedRateLimiter rateLimiter;
+    private final DistributedRateLimiter.Budget apiBudget;
+    private final DistributedRateLimiter.Budget userBudget;
+
+    public GeminiService(RestClient.Builder restClientBuilder, ObjectMapper objectMapper,
+                         DistributedRateLimiter rateLimiter,
+                         @Value("${rate-limit.gemini.permits-per-second:5}") double permitsPerSecond,
+                         @Value("${rate-limit.gemini.burst:5}") int burst,
+                         @Value("${rate-limit.gemini.user-permits-per-minute:10}") double userPermitsPerMinute,
+                         @Value("${rate-limit.gemini.user-burst:3}") int userBurst) {
         this.restClient = restClientBuilder.baseUrl("https://generativelanguage.googleapis.com").build();
         this.objectMapper = objectMapper;
+        this.rateLimiter = rateLimiter;
+        this.apiBudget = DistributedRateLimiter.Budget.perSecond(permitsPerSecond, burst);
+        this.userBudget = DistributedRateLimiter.Budget.perMinute(userPermitsPerMinute, userBurst);
+    }
+
+    /**
+     * 호출 전 API 전체 / 유저별 예산 확인 (대기하지 않음)
+     *
+     * @throws RateLimitExceededException 예산 초과 시
+     */
+    private void acquirePermit(Long userId) {
+        if (!rateLimiter.tryAcquire(RATE_LIMIT_API, apiBudget, userId, userBudget, Duration.ZERO)) {
+            throw new RateLimitExceededException(RATE_LIMIT_API);
+        }
     }
 
     // 기존 analyzeScreenshot 메서드 (변경 없음)
-    public AnalysisResponse analyzeChatScreenshot(MultipartFile file, String userPrompt) throws IOException {
+    public AnalysisResponse analyzeChatScreenshot(Long userId, MultipartFile file, String userPrompt) throws IOException {
         String jsonSchemaPrompt = """
         Your analysis should be returned as a JSON object with the following structure:
         {
@@ -58,6 +83,8 @@ public class GeminiService {
         Based on the conversation content, rate how interested the other person is in the user from 1 to 100, and thoroughly analyze the reasons by quoting specific parts of the conversation. Ignore unnecessary parts of the conversation (time, date, read receipts, top bar, etc.) and focus only on the conversation content.
         Provide your analysis STRICTLY in the specified JSON format. Do NOT include any additional text outside the JSON block.
         """;
+        acquirePermit(userId);
+
         // RestClient 호출 및 JSON 파싱 로직은 동일
         byte[] fileContent = file.getBytes();
         String encodedString = Base64.getEncoder().encodeToString(fileContent);
@@ -96,7 +123,9 @@ public class GeminiService {
 
 
     // --- 새로운 기능: nextMove 추천 ---
-    public String generateNextMove(MultipartFile screenshotFile, int spicyLevel) throws IOException {
+    public String generateNextMove(Long userId, MultipartFile screenshotFile, int spicyLevel) throws IOException {
+        acquirePermit(userId);
+
         String prompt;
         GeminiRequest request;
 
@@ -1,39 +1,108 @@
 package com.crushai.crushai.service;
 
+import com.crushai.crushai.geo.OfflineReverseGeocoder;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 /**
  * 좌표 → 위치명 변환 서비스 (캐싱 포함)
+ *
+ * 캐시 2단계: 로컬 Caffeine(L1) → Redis "location:" 키(L2, 7일)
+ * 같은 셀의 동시 미스는 L1 의 진행 중 작업을 공유하므로 외부 호출은 1회만 발생 (single-flight)
  */
 @Service
 @Slf4j
 public class GeocodingService {
 
     private final NominatimService nominatimService;
+    private final OfflineGeocodingService offlineGeocodingService;
     private final RedisTemplate<String, String> redisTemplate;
 
     private static final double CACHE_ROUNDING_DEGREE = 0.05; // 약 5km
     private static final int CACHE_TTL_DAYS = 7;
     private static final String CACHE_KEY_PREFIX = "location:";
 
+    // 오프라인 결과의 도시 중심까지 거리가 이보다 멀면 신뢰도가 낮다고 보고 Nominatim 으로 확인
+    @Value("${geocoding.offline.max-distance-km:25}")
+    private double offlineMaxDistanceKm;
+
+    @Value("${geocoding.offline.nominatim-fallback:true}")
+    private boolean nominatimFallback;
+
+    private final AsyncCache<String, CachedName> localCache;
+    private final Timer missWaitTimer;
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+
     public GeocodingService(NominatimService nominatimService,
-                           @Qualifier("geoRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+                           OfflineGeocodingService offlineGeocodingService,
+                           @Qualifier("geoRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                           @Qualifier("geocodingExecutor") Executor geocodingExecutor,
+                           MeterRegistry meterRegistry,
+                           @Value("${geocoding.local-cache.max-size:50000}") long localCacheMaxSize,
+                           @Value("${geocoding.local-cache.ttl:PT6H}") Duration localCacheTtl,
+                           @Value("${geocoding.local-cache.negative-ttl:PT5M}") Duration negativeTtl) {
         this.nominatimService = nominatimService;
+        this.offlineGeocodingService = offlineGeocodingService;
         this.redisTemplate = redisTemplate;
+
+        // 실패(null) 결과는 짧게만 보관하여 같은 셀의 반복 호출만 막음
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localCacheMaxSize)
+                .expireAfter(new Expiry<String, CachedName>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedName value, long currentTime) {
+                        return (value.name() != null ? localCacheTtl : negativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedName value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedName value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .executor(geocodingExecutor)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "geocoding.local");
+        this.missWaitTimer = Timer.builder("geocoding.miss.wait")
+                .description("L1 미스 시 위치명을 받기까지 기다린 시간")
+                .register(meterRegistry);
+        this.redisHitCounter = meterRegistry.counter("geocoding.redis.requests", "result", "hit");
+        this.redisMissCounter = meterRegistry.counter("geocoding.redis.requests", "result", "miss");
     }
 
     /**
      * 좌표를 위치명으로 변환 (캐싱 적용)
-     * 
+     *
      * 1. 좌표를 0.05도 단위로 반올림 (약 5km 그리드)
-     * 2. 캐시 확인
-     * 3. 캐시 미스 시 Nominatim API 호출 후 캐싱
-     * 
+     * 2. 로컬 캐시 확인 (같은 셀을 조회 중인 요청이 있으면 그 결과를 기다림)
+     * 3. Redis 캐시 확인
+     * 4. 캐시 미스 시 오프라인 지오코더로 변환 (네트워크 없음)
+     *    - 데이터가 없거나 가까운 도시가 없으면(신뢰도 낮음) Nominatim API 호출
+     * 5. 결과 캐싱
+     *
      * @param latitude 위도
      * @param longitude 경도
      * @return "Los Angeles, CA" 형식의 위치명, 실패 시 null
@@ -42,26 +111,56 @@ public class GeocodingService {
         // 1. 좌표 반올림 (0.05도 단위)
         double roundedLat = roundCoordinate(latitude);
         double roundedLon = roundCoordinate(longitude);
-        
+
         String cacheKey = buildCacheKey(roundedLat, roundedLon);
-        
-        // 2. 캐시 확인
+
+        // 2. 로컬 캐시 - 미스면 셀당 1개의 조회 작업(3 ~ 5)만 시작, 나머지 요청은 그 결과를 기다림
+        CompletableFuture<CachedName> future = localCache.get(cacheKey, (key, executor) ->
+                CompletableFuture.supplyAsync(() -> new CachedName(loadLocationName(key, latitude, longitude)), executor));
+
+        long startedAt = System.nanoTime();
+        boolean waited = !future.isDone();
+        try {
+            return future.join().name();
+        } catch (Exception e) {
+            log.warn("Failed to resolve location name for {}: {}", cacheKey, e.getMessage());
+            return null;
+        } finally {
+            if (waited) {
+                missWaitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * 좌표가 속한 캐시 셀 키 (같은 키면 같은 위치명)
+     */
+    public String cellKeyOf(double latitude, double longitude) {
+        return buildCacheKey(roundCoordinate(latitude), roundCoordinate(longitude));
+    }
+
+    /**
+     * Redis 캐시 확인 후 미스면 변환 및 캐싱 (셀당 1회, geocodingExecutor 에서 실행)
+     */
+    private String loadLocationName(String cacheKey, double latitude, double longitude) {
         try {
             String cached = redisTemplate.opsForValue().get(cacheKey);
             if (cached != null) {
+                redisHitCounter.increment();
                 log.debug("Cache hit for location: {} → {}", cacheKey, cached);
                 return cached;
             }
         } catch (Exception e) {
             log.warn("Failed to get from cache: {}", e.getMessage());
         }
-        
-        // 3. 캐시 미스 → Nominatim API 호출
+
+        // 캐시 미스 → 오프라인 지오코더, 신뢰도가 낮으면 Nominatim API 호출
+        redisMissCounter.increment();
         log.debug("Cache miss for location: {}", cacheKey);
-        String locationName = nominatimService.getLocationName(latitude, longitude);
-        
+        String locationName = resolveLocationName(latitude, longitude);
+
         if (locationName != null) {
-            // 4. 캐시 저장 (7일 TTL)
+            // 캐시 저장 (7일 TTL)
             try {
                 redisTemplate.opsForValue().set(
                     cacheKey,
@@ -74,13 +173,28 @@ public class GeocodingService {
                 log.warn("Failed to save to cache: {}", e.getMessage());
             }
         }
-        
+
         return locationName;
     }
 
+    private String resolveLocationName(double latitude, double longitude) {
+        Optional<OfflineReverseGeocoder.Place> place = offlineGeocodingService.findNearestPlace(latitude, longitude);
+        if (place.isPresent() && (place.get().distanceKm() <= offlineMaxDistanceKm || !nominatimFallback)) {
+            return place.get().name();
+        }
+
+        if (place.isPresent()) {
+            log.debug("Low confidence offline result {} ({}km), asking Nominatim",
+                    place.get().name(), place.get().distanceKm());
+        }
+        String locationName = nominatimService.getLocationName(latitude, longitude);
+        // Nominatim 실패 시에는 멀더라도 오프라인 결과 사용
+        return locationName != null ? locationName : place.map(OfflineReverseGeocoder.Place::name).orElse(null);
+    }
+
     /**
      * 좌표를 0.05도 단위로 반올림
-     * 
+     *
      * @param coordinate 위도 또는 경도
      * @return 반올림된 좌표
      */
@@ -91,7 +205,7 @@ public class GeocodingService {
 
     /**
      * 캐시 키 생성
-     * 
+     *
      * @param latitude 반올림된 위도
      * @param longitude 반올림된 경도
      * @return 캐시 키 (예: "location:37.50_127.05")
@@ -99,4 +213,10 @@ public class GeocodingService {
     private String buildCacheKey(double latitude, double longitude) {
         return String.format("%s%.2f_%.2f", CACHE_KEY_PREFIX, latitude, longitude);
     }
+
+    /**
+     * 로컬 캐시 값 (name 이 null 이면 실패 결과 - 짧게 보관)
+     */
+    private record CachedName(String name) {
+    }
 }
@@ -0,0 +1,216 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.repository.UserInfoRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 위치명 변환 작업 큐
+ *
+ * 위치 저장 스레드에서 지오코딩 / DB 저장을 하지 않도록 작업을 넘겨받아 전용 스레드 1개에서 처리
+ * - 캐시 셀(0.05도) 단위로 중복 제거: 같은 셀의 유저는 작업 1건에 모아 지오코딩 1회
+ * - 첫 위치 유저(카드에 위치명이 아직 없음)의 작업을 일반 이동보다 먼저 처리
+ * - 변환된 위치명은 같은 이름끼리 모아 UPDATE 1회로 반영
+ * - 처리 스레드가 1개뿐이므로 Nominatim 호출도 동시에 1건을 넘지 않음 (호출 간격은 NominatimService 가 제한)
+ */
+@Service
+@Slf4j
+public class GeocodingWorkQueue {
+
+    // 한 번에 모아서 DB 에 반영할 최대 작업 수
+    private static final int MAX_JOBS_PER_BATCH = 100;
+
+    private final GeocodingService geocodingService;
+    private final UserInfoRepository userInfoRepository;
+    private final int maxPendingUsers;
+
+    // 아래 상태는 모두 this 로 동기화
+    private final Map<String, Job> jobsByCell = new HashMap<>();
+    private final Map<Long, String> cellByUserId = new HashMap<>();
+    private final ArrayDeque<String> firstTimeCells = new ArrayDeque<>();
+    private final ArrayDeque<String> routineCells = new ArrayDeque<>();
+    private long dropped;
+
+    private Thread worker;
+    private volatile boolean running;
+
+    public GeocodingWorkQueue(GeocodingService geocodingService,
+                              UserInfoRepository userInfoRepository,
+                              @Value("${geocoding.queue.max-pending-users:100000}") int maxPendingUsers) {
+        this.geocodingService = geocodingService;
+        this.userInfoRepository = userInfoRepository;
+        this.maxPendingUsers = maxPendingUsers;
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::runWorker, "geocoding-worker");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    /**
+     * 위치명 변환 요청 (바로 반환)
+     *
+     * 같은 유저의 이전 요청이 다른 셀에 남아 있으면 최신 좌표 기준으로 옮김
+     *
+     * @param userId 사용자 ID
+     * @param latitude 위도
+     * @param longitude 경도
+     * @param firstTime 첫 위치 저장 여부 (우선 처리)
+     */
+    public synchronized void submit(Long userId, double latitude, double longitude, boolean firstTime) {
+        String cell = geocodingService.cellKeyOf(latitude, longitude);
+
+        String previousCell = cellByUserId.get(userId);
+        if (previousCell != null && !previousCell.equals(cell)) {
+            Job previous = jobsByCell.get(previousCell);
+            if (previous != null) {
+                previous.userIds.remove(userId);
+                firstTime |= previous.firstTime;  // 아직 위치명을 못 받은 유저는 계속 우선
+            }
+        } else if (previousCell == null && cellByUserId.size() >= maxPendingUsers) {
+            dropped++;
+            log.warn("Geocoding queue full, dropping request for userId: {} (dropped: {})", userId, dropped);
+            return;
+        }
+        cellByUserId.put(userId, cell);
+
+        Job job = jobsByCell.get(cell);
+        if (job == null) {
+            job = new Job(cell, latitude, longitude, firstTime);
+            jobsByCell.put(cell, job);
+            (firstTime ? firstTimeCells : routineCells).add(cell);
+        } else if (firstTime && !job.firstTime) {
+            job.firstTime = true;  // 우선 큐로 승격 (일반 큐의 항목은 꺼낼 때 건너뜀)
+            firstTimeCells.add(cell);
+        }
+        job.userIds.add(userId);
+
+        notifyAll();
+    }
+
+    /**
+     * 대기 중인 유저 수
+     */
+    public synchronized int pendingUsers() {
+        return cellByUserId.size();
+    }
+
+    private void runWorker() {
+        while (running) {
+            try {
+                processBatch(awaitJob());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Geocoding worker failed", e);
+            }
+        }
+    }
+
+    /**
+     * 첫 작업은 대기 후, 이후는 남아 있는 작업만 모아 지오코딩하고 위치명별로 UPDATE 1회씩 반영
+     */
+    private void processBatch(Job first) {
+        // 같은 유저가 배치 안의 여러 작업에 들어 있으면 (이전 셀 작업을 꺼낸 뒤 이동) 나중에 처리한 작업 기준
+        Map<Long, String> nameByUserId = new LinkedHashMap<>();
+
+        Job job = first;
+        int processed = 0;
+        while (job != null) {
+            String locationName = geocodingService.getLocationName(job.latitude, job.longitude);
+            Set<Long> userIds = release(job);
+
+            if (locationName != null) {
+                userIds.forEach(userId -> nameByUserId.put(userId, locationName));
+            } else {
+                userIds.forEach(nameByUserId::remove);  // 앞 작업의 위치명은 이미 이전 위치
+                log.warn("Failed to get location name for {} ({} users)", job.cell, userIds.size());
+            }
+
+            job = ++processed < MAX_JOBS_PER_BATCH ? pollJob() : null;
+        }
+
+        Map<String, Set<Long>> userIdsByName = new HashMap<>();
+        nameByUserId.forEach((userId, locationName) ->
+                userIdsByName.computeIfAbsent(locationName, name -> new LinkedHashSet<>()).add(userId));
+
+        Date now = new Date();
+        userIdsByName.forEach((locationName, userIds) -> {
+            int updated = userInfoRepository.updateLocationName(userIds, locationName, now);
+            log.info("Location name updated: {} users → {}", updated, locationName);
+        });
+    }
+
+    private synchronized Job awaitJob() throws InterruptedException {
+        Job job;
+        while ((job = pollJob()) == null) {
+            wait();
+        }
+        return job;
+    }
+
+    private synchronized Job pollJob() {
+        String cell;
+        while ((cell = firstTimeCells.poll()) != null || (cell = routineCells.poll()) != null) {
+            Job job = jobsByCell.get(cell);
+            if (job == null || job.taken) {
+                continue;  // 이미 처리됨 (승격으로 두 큐에 모두 들어간 경우)
+            }
+            if (job.userIds.isEmpty()) {
+                jobsByCell.remove(cell);  // 모든 유저가 다른 셀로 이동
+                continue;
+            }
+            job.taken = true;
+            return job;
+        }
+        return null;
+    }
+
+    // 작업을 큐에서 제거하고 그때까지 모인 유저를 반환 (지오코딩 중 합류한 유저 포함)
+    private synchronized Set<Long> release(Job job) {
+        jobsByCell.remove(job.cell);
+        for (Long userId : job.userIds) {
+            cellByUserId.remove(userId, job.cell);
+        }
+        return job.userIds;
+    }
+
+    private static final class Job {
+        final String cell;
+        final double latitude;
+        final double longitude;
+        final Set<Long> userIds = new LinkedHashSet<>();
+        boolean firstTime;
+        boolean taken;
+
+        Job(String cell, double latitude, double longitude, boolean firstTime) {
+            this.cell = cell;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.firstTime = firstTime;
+        }
+    }
+}
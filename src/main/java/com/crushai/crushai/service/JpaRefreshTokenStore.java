@@ -0,0 +1,75 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.entity.RefreshEntity;
+import com.crushai.crushai.repository.RefreshRepository;
+import com.crushai.crushai.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * MySQL refresh_tokens 테이블 기반 Refresh Token 저장소 (기본값)
+ */
+@Service
+@ConditionalOnProperty(prefix = "auth", name = "refresh-store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshRepository refreshRepository;
+    private final UserRepository userRepository;
+
+    @Override
+    @Transactional
+    public void save(String tokenHash, StoredRefreshToken token) {
+        refreshRepository.save(RefreshEntity.builder()
+                .user(userRepository.getReferenceById(token.userId()))
+                .tokenHash(tokenHash)
+                .deviceId(token.deviceId())
+                .deviceType(token.deviceType())
+                .deviceName(token.deviceName())
+                .expiresAt(token.expiresAt())
+                .lastUsedAt(Instant.now())
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public Optional<StoredRefreshToken> rotate(Long userId, String oldTokenHash, String newTokenHash, Instant newExpiresAt) {
+        RefreshEntity stored = refreshRepository.findByTokenHash(oldTokenHash).orElse(null);
+        if (stored == null || !stored.getUser().getId().equals(userId)) {
+            return Optional.empty();
+        }
+
+        refreshRepository.delete(stored);
+        if (stored.isExpired()) {
+            return Optional.empty();
+        }
+
+        refreshRepository.save(RefreshEntity.builder()
+                .user(stored.getUser())
+                .tokenHash(newTokenHash)
+                .deviceId(stored.getDeviceId())
+                .deviceType(stored.getDeviceType())
+                .deviceName(stored.getDeviceName())
+                .expiresAt(newExpiresAt)
+                .lastUsedAt(Instant.now())
+                .build());
+
+        return Optional.of(new StoredRefreshToken(stored.getUser().getId(), stored.getDeviceId(),
+                stored.getDeviceType(), stored.getDeviceName(), stored.getExpiresAt()));
+    }
+
+    @Override
+    public void delete(Long userId, String tokenHash) {
+        refreshRepository.deleteByTokenHash(tokenHash);
+    }
+
+    @Override
+    public void deleteAllForUser(Long userId) {
+        refreshRepository.deleteAllByUser_Id(userId);
+    }
+}
@@ -1,13 +1,14 @@
 package com.crushai.crushai.service;
 
-import com.crushai.crushai.client.ChatServiceClient;
 import com.crushai.crushai.dto.*;
 import com.crushai.crushai.entity.*;
 import com.crushai.crushai.enums.MatchType;
 import com.crushai.crushai.enums.SwipeType;
+import com.crushai.crushai.event.MatchCreatedEvent;
 import com.crushai.crushai.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,8 +33,9 @@ public class LikedYouService {
     private final MatchRepository matchRepository;
     private final UserBlockRepository blockRepository;
     private final UserSwipeRepository swipeRepository;
-    private final ChatServiceClient chatServiceClient;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserLocationService userLocationService;
 
     /**
      * 나를 좋아한 유저 목록 조회
@@ -43,7 +45,8 @@ public class LikedYouService {
      * 3. 매칭 관계 필터링
      * 4. 삭제된 유저 필터링
      * 5. 프로필 정보 조회
-     * 6. 조합하여 반환
+     * 6. 나와의 거리 일괄 계산 (Redis 1회)
+     * 7. 조합하여 반환
      * 
      * @param myUserId 내 유저 ID
      * @return Liked You 목록
@@ -93,9 +96,12 @@ public class LikedYouService {
         // 7. 프로필 정보 조회
         Map<Long, UserInfoEntity> userInfoMap = getUserInfoMap(likedUserIds);
 
-        // 8. DTO 조합
+        // 8. 나와의 거리 (프로필이 있는 유저만)
+        Map<Long, Double> distanceMap = userLocationService.getDistancesFrom(myUserId, userInfoMap.keySet());
+
+        // 9. DTO 조합
         List<LikedYouDto> likedYouList = filteredLikes.stream()
-                .map(like -> buildLikedYouDto(like, userInfoMap))
+                .map(like -> buildLikedYouDto(like, userInfoMap, distanceMap))
                 .filter(Objects::nonNull)  // 프로필 정보 없는 유저 제외
                 .collect(Collectors.toList());
 
@@ -154,7 +160,8 @@ public class LikedYouService {
      */
     private LikedYouDto buildLikedYouDto(
             UserLike like,
-            Map<Long, UserInfoEntity> userInfoMap
+            Map<Long, UserInfoEntity> userInfoMap,
+            Map<Long, Double> distanceMap
     ) {
         Long fromUserId = like.getFromUserId();
         UserInfoEntity userInfo = userInfoMap.get(fromUserId);
@@ -175,6 +182,7 @@ public class LikedYouService {
                         ? userInfo.getPhotoUrls().get(0) 
                         : null)
                 .locationName(userInfo.getLocationName())
+                .distanceKm(distanceMap.get(fromUserId))
                 .build();
     }
 
@@ -284,30 +292,15 @@ public class LikedYouService {
                 .matchType(MatchType.SWIPE)
                 .chatRoomId(chatRoomId)
                 .isActive(true)
+                .chatRoomPending(true)
                 .build();
         Match savedMatch = matchRepository.save(match);
 
         log.info("Match created: matchId={}", savedMatch.getId());
 
-        try {
-            String createdChatRoomId = chatServiceClient.createChatRoomWithId(
-                    savedMatch.getChatRoomId(),
-                    savedMatch.getUser1Id(),
-                    savedMatch.getUser2Id(),
-                    savedMatch.getId()
-            );
-            log.info("Chat room created: chatRoomId={}", chatRoomId);
-
-            // 검증: UUID가 일치하는지 확인
-            if (!chatRoomId.equals(createdChatRoomId)) {
-                log.warn("Chat room ID mismatch! Expected: {}, Actual: {}", chatRoomId, createdChatRoomId);
-            }
-
-        } catch (Exception e) {
-            log.error("Failed to create chat room for match {}: {}", 
-                    savedMatch.getId(), e.getMessage());
-            // 채팅방 생성 실패해도 매칭은 유지
-        }
+        // 3. 채팅방 생성은 커밋 후 비동기로 (채팅 서비스 장애 시 재시도, 트랜잭션을 붙잡지 않음)
+        eventPublisher.publishEvent(new MatchCreatedEvent(
+                savedMatch.getId(), chatRoomId, savedMatch.getUser1Id(), savedMatch.getUser2Id()));
 
         // 4. 푸시 알림 전송 (상대방에게)
         try {
@@ -0,0 +1,189 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.dto.NearbyUserDto;
+import com.crushai.crushai.geo.GeoGridIndex;
+import com.crushai.crushai.geo.GeoHashCodec;
+import com.crushai.crushai.geo.LocationMemberCodec;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * user_locations 의 메모리 내 읽기 복제본 (location.grid-index.enabled=true 일 때만 생성)
+ *
+ * - 시작 시 ZSCAN 으로 전체 위치를 읽어 GeoGridIndex 구성 (점수 → 좌표는 GeoHashCodec 으로 디코딩)
+ * - 이후 변경은 UserLocationService 가 발행하는 pub/sub 메시지(user_locations:updates)로 반영
+ * - pub/sub 은 연결이 끊긴 동안의 메시지를 잃으므로 주기적으로 전체 재구축
+ *
+ * 메시지 형식: 항목을 ';' 로 구분, "userId,lon,lat" 는 추가/갱신, "userId" 만 있으면 삭제
+ */
+@Service
+@ConditionalOnProperty(name = "location.grid-index.enabled", havingValue = "true")
+@Slf4j
+public class LocationGridIndexService {
+
+    public static final String UPDATES_CHANNEL = "user_locations:updates";
+
+    private static final String USER_LOCATION_KEY = "user_locations";
+    private static final int SCAN_COUNT = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+
+    @Value("${location.grid-index.cell-size-deg:0.1}")
+    private double cellSizeDeg;
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    private volatile GeoGridIndex index;
+    private volatile GeoGridIndex rebuilding;  // 재구축 중에는 변경을 양쪽에 반영
+    private volatile boolean ready;
+
+    public LocationGridIndexService(@Qualifier("geoRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                    RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = redisTemplate;
+        this.connectionFactory = connectionFactory;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        index = new GeoGridIndex(cellSizeDeg);
+
+        // 재구축 전에 먼저 구독해야 스캔 도중의 변경을 놓치지 않음
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener(this::onMessage, new ChannelTopic(UPDATES_CHANNEL));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @PreDestroy
+    void unsubscribe() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * 주기적 전체 재구축 (기본 10분)
+     */
+    @Scheduled(fixedDelayString = "${location.grid-index.resync-interval-ms:600000}",
+               initialDelayString = "${location.grid-index.resync-interval-ms:600000}")
+    public void resync() {
+        rebuild();
+    }
+
+    /**
+     * ZSCAN 으로 새 인덱스를 만든 뒤 교체
+     *
+     * 스캔과 같은 유저의 변경 메시지가 겹치면 드물게 이전 좌표가 남을 수 있으나 다음 재구축에서 보정됨
+     */
+    synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        GeoGridIndex fresh = new GeoGridIndex(cellSizeDeg);
+        rebuilding = fresh;
+
+        try {
+            ScanOptions options = ScanOptions.scanOptions().count(SCAN_COUNT).build();
+            try (Cursor<ZSetOperations.TypedTuple<String>> cursor =
+                         redisTemplate.opsForZSet().scan(USER_LOCATION_KEY, options)) {
+                while (cursor.hasNext()) {
+                    ZSetOperations.TypedTuple<String> tuple = cursor.next();
+                    String member = tuple.getValue();
+                    if (tuple.getScore() == null || member == null) {
+                        continue;
+                    }
+
+                    long hash = tuple.getScore().longValue();
+                    fresh.upsert(LocationMemberCodec.userId(member),
+                            GeoHashCodec.decodeLongitude(hash), GeoHashCodec.decodeLatitude(hash));
+                }
+            }
+
+            index = fresh;
+            ready = true;
+            log.info("Location grid index rebuilt: {} users in {}ms",
+                    fresh.size(), System.currentTimeMillis() - startedAt);
+
+        } catch (Exception e) {
+            log.error("Failed to rebuild location grid index, keeping previous index", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    /**
+     * 첫 구축이 끝나 검색에 사용할 수 있는지 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean contains(Long userId) {
+        return index.contains(userId);
+    }
+
+    /**
+     * 유저 기준 반경 검색 (자기 자신 제외, 가까운 순)
+     */
+    public List<NearbyUserDto> findNearby(Long userId, double radiusKm, int limit) {
+        return index.findNearby(userId, radiusKm, limit);
+    }
+
+    private void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            for (String entry : payload.split(";")) {
+                if (!entry.isEmpty()) {
+                    apply(entry);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to apply location update message: {}", e.getMessage());
+        }
+    }
+
+    private void apply(String entry) {
+        String[] parts = entry.split(",");
+        long userId = Long.parseLong(parts[0]);
+        GeoGridIndex next = rebuilding;
+
+        if (parts.length == 1) {
+            index.remove(userId);
+            if (next != null) {
+                next.remove(userId);
+            }
+            return;
+        }
+
+        double longitude = Double.parseDouble(parts[1]);
+        double latitude = Double.parseDouble(parts[2]);
+        index.upsert(userId, longitude, latitude);
+        if (next != null) {
+            next.upsert(userId, longitude, latitude);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.crushai.crushai.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 위치 업데이트 쓰기 지연 버퍼 (UserLocationService 전용)
+ *
+ * 유저별 최신 좌표 1건만 보관하고 flush 주기마다 한꺼번에 Redis 에 반영
+ * - 같은 유저의 이전 좌표는 덮어씀 (superseded, 반영할 필요 없음)
+ * - 보관 유저 수가 maxPending 을 넘으면 새 유저의 업데이트는 버림 (메모리 상한, 다음 ping 에 다시 들어옴)
+ * - flush 는 전용 스레드 1개에서 실행 (요청 스레드 / 공용 스케줄러를 점유하지 않음)
+ */
+@Slf4j
+public class LocationWriteBuffer implements AutoCloseable {
+
+    private final ConcurrentHashMap<Long, PendingLocation> pending = new ConcurrentHashMap<>();
+    private final int maxPending;
+    private final Consumer<List<PendingLocation>> flusher;
+    private final ScheduledExecutorService flushExecutor;
+
+    private final AtomicLong superseded = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public LocationWriteBuffer(int maxPending, Duration flushInterval, Consumer<List<PendingLocation>> flusher) {
+        this.maxPending = maxPending;
+        this.flusher = flusher;
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "location-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flushExecutor.scheduleWithFixedDelay(
+                this::flushSafely, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 위치 업데이트 추가
+     *
+     * @return 버퍼에 들어갔으면 true, 상한 초과로 버렸으면 false
+     */
+    public boolean offer(Long userId, double longitude, double latitude) {
+        PendingLocation location = new PendingLocation(userId, longitude, latitude);
+
+        // 이미 대기 중인 유저는 최신 좌표로 교체 (상한과 무관)
+        if (pending.replace(userId, location) != null) {
+            superseded.incrementAndGet();
+            return true;
+        }
+
+        if (pending.size() >= maxPending) {
+            dropped.incrementAndGet();
+            return false;
+        }
+
+        if (pending.put(userId, location) != null) {
+            superseded.incrementAndGet();  // 동시에 들어온 같은 유저 업데이트
+        }
+        return true;
+    }
+
+    /**
+     * 대기 중인 업데이트를 모두 꺼냄 (꺼내는 동안 들어온 업데이트는 다음 flush 로)
+     */
+    public List<PendingLocation> drain() {
+        List<PendingLocation> drained = new ArrayList<>(pending.size());
+        for (Long userId : pending.keySet()) {
+            PendingLocation location = pending.remove(userId);
+            if (location != null) {
+                drained.add(location);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 즉시 flush (flush 스레드와 겹치지 않도록 같은 스레드에서 실행)
+     */
+    public void flushNow() {
+        try {
+            flushExecutor.submit(this::flushSafely).get();
+        } catch (Exception e) {
+            log.warn("Location buffer flush failed: {}", e.getMessage());
+        }
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    public long getSupersededCount() {
+        return superseded.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * 종료 시 남은 업데이트 반영
+     */
+    @Override
+    public void close() {
+        flushNow();
+        flushExecutor.shutdown();
+    }
+
+    private void flushSafely() {
+        try {
+            List<PendingLocation> batch = drain();
+            if (!batch.isEmpty()) {
+                flusher.accept(batch);
+            }
+        } catch (Exception e) {
+            // 버퍼를 비운 뒤 실패한 업데이트는 버림 (클라이언트가 주기적으로 다시 보냄)
+            log.error("Failed to flush location updates", e);
+        }
+    }
+
+    /**
+     * 반영 대기 중인 유저 위치
+     */
+    public record PendingLocation(Long userId, double longitude, double latitude) {
+    }
+}
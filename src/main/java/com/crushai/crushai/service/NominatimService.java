@@ -2,13 +2,14 @@ package com.crushai.crushai.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.util.concurrent.RateLimiter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
+
 /**
  * Nominatim (OpenStreetMap) Reverse Geocoding Service
  * 좌표 → 위치명 변환
@@ -19,18 +20,27 @@ public class NominatimService {
 
     private final RestClient restClient;
     private final ObjectMapper objectMapper;
-    private final RateLimiter rateLimiter;
+    private final DistributedRateLimiter rateLimiter;
+    private final DistributedRateLimiter.Budget budget;
 
     @Value("${nominatim.user-agent:CrushApp/1.0 (contact@crush.com)}")
     private String userAgent;
 
+    // 자리가 날 때까지 기다리는 최대 시간 - 넘으면 호출하지 않고 null (오프라인 결과로 대체)
+    @Value("${rate-limit.nominatim.max-wait:PT2S}")
+    private Duration maxWait;
+
     private static final String NOMINATIM_API_URL = "https://nominatim.openstreetmap.org/reverse";
+    private static final String RATE_LIMIT_API = "nominatim";
 
-    public NominatimService(@Qualifier("nominatimRestClient") RestClient restClient, ObjectMapper objectMapper) {
+    public NominatimService(@Qualifier("nominatimRestClient") RestClient restClient, ObjectMapper objectMapper,
+                            DistributedRateLimiter rateLimiter,
+                            @Value("${rate-limit.nominatim.permits-per-second:1}") double permitsPerSecond) {
         this.restClient = restClient;
         this.objectMapper = objectMapper;
-        // Nominatim Rate Limit: 1 request/sec
-        this.rateLimiter = RateLimiter.create(1.0);
+        this.rateLimiter = rateLimiter;
+        // Nominatim Rate Limit: 1 request/sec (모든 서버 인스턴스 합산)
+        this.budget = DistributedRateLimiter.Budget.perSecond(permitsPerSecond);
     }
 
     /**
@@ -38,12 +48,15 @@ public class NominatimService {
      * 
      * @param latitude 위도
      * @param longitude 경도
-     * @return "Los Angeles, CA" 형식의 위치명, 실패 시 null
+     * @return "Los Angeles, CA" 형식의 위치명, 실패 또는 호출 제한 시 null
      */
     public String getLocationName(double latitude, double longitude) {
         try {
-            // Rate Limiting (1 req/sec)
-            rateLimiter.acquire();
+            // Rate Limiting (1 req/sec, 클러스터 전체)
+            if (!rateLimiter.tryAcquire(RATE_LIMIT_API, budget, maxWait)) {
+                log.warn("Nominatim rate limit reached, skipping ({}, {})", latitude, longitude);
+                return null;
+            }
             
             // API 호출
             String url = String.format(
@@ -0,0 +1,287 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.enums.NotificationDigestType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 알림 묶음 전송 (수신자별 coalescing + 방해 금지 시간 지연)
+ *
+ * Key (type = like ...)
+ * - notif_digest:{type}:sent:{userId}    String, 마지막 전송 후 window 동안 유지 - 있으면 바로 보내지 않고 모음
+ * - notif_digest:{type}:pending:{userId} Hash (count, lastUserId, lastNickname) - 모인 알림
+ * - notif_digest:{type}:due               Sorted Set (member: userId, score: 전송 예정 epoch ms) - 지연 전송 큐
+ * - {type} 은 Redis Cluster 해시 태그 - 스크립트가 쓰는 키는 모두 KEYS 로 넘기고 한 종류의 키는 같은 슬롯에 둠
+ *
+ * 1. window 안의 첫 알림은 바로 전송, 이후 알림은 pending 에 모아 window 가 끝날 때 "N people liked you" 1건으로 전송
+ * 2. 방해 금지 시간(기본 꺼짐)에는 바로 보내지 않고 끝나는 시각으로 예약
+ *    수신자별 시간대가 없으므로 notification.quiet-hours.zone 하나를 모든 수신자에게 적용
+ * 3. 큐는 Redis 에 있으므로 재시작해도 유지되고, 꺼낼 때 스크립트로 큐에서 지우면서 가져가므로
+ *    여러 인스턴스가 같은 묶음을 중복 전송하지 않음
+ *    (꺼낸 뒤 전송 전에 인스턴스가 죽으면 그 묶음은 유실 - 최대 1회 전송)
+ */
+@Service
+@Slf4j
+public class NotificationDigestService {
+
+    private static final String KEY_PREFIX = "notif_digest:";
+    private static final int CLAIM_BATCH_SIZE = 200;
+
+    /**
+     * 알림 1건 기록
+     *
+     * KEYS = sent, pending, due
+     * ARGV = 수신자 ID, 현재 epoch ms, window ms, 지연 전송 시각 epoch ms (방해 금지 시간이 아니면 0), 보낸 유저 ID, 보낸 유저 닉네임
+     * 반환: 1 이면 바로 전송 (window 시작), 0 이면 모아 두었음
+     */
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[2])
+            local deferUntil = tonumber(ARGV[4])
+            if deferUntil == 0 and redis.call('EXISTS', KEYS[1]) == 0 and redis.call('EXISTS', KEYS[2]) == 0 then
+              redis.call('SET', KEYS[1], '1', 'PX', ARGV[3])
+              return 1
+            end
+            redis.call('HINCRBY', KEYS[2], 'count', 1)
+            redis.call('HSET', KEYS[2], 'lastUserId', ARGV[5], 'lastNickname', ARGV[6])
+            local due = deferUntil
+            if due == 0 then
+              local ttl = redis.call('PTTL', KEYS[1])
+              if ttl < 0 then
+                ttl = 0
+              end
+              due = now + ttl
+            end
+            redis.call('ZADD', KEYS[3], 'NX', due, ARGV[1])
+            return 0
+            """, Long.class);
+
+    /**
+     * 전송 시각이 된 묶음 꺼내기
+     *
+     * KEYS = due, 이후 후보 수신자별로 (pending, sent)
+     * ARGV = 현재 epoch ms, window ms, 후보 수신자 ID 목록 (KEYS 순서와 같음)
+     * 아직 큐에 있고 전송 시각이 된 수신자만 큐에서 지우며 꺼냄 - 다른 인스턴스가 먼저 꺼냈거나 미뤘으면 건너뜀
+     * 꺼낸 수신자는 pending 삭제 후 sent 를 다시 걸어 다음 window 동안 다시 모음
+     * 반환: [userId, count, lastUserId, lastNickname, ...]
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local result = {}
+            for i = 3, #ARGV do
+              local userId = ARGV[i]
+              local pendingKey = KEYS[(i - 2) * 2]
+              local sentKey = KEYS[(i - 2) * 2 + 1]
+              local due = redis.call('ZSCORE', KEYS[1], userId)
+              if due and tonumber(due) <= now then
+                redis.call('ZREM', KEYS[1], userId)
+                local digest = redis.call('HMGET', pendingKey, 'count', 'lastUserId', 'lastNickname')
+                redis.call('DEL', pendingKey)
+                if digest[1] then
+                  redis.call('SET', sentKey, '1', 'PX', ARGV[2])
+                  result[#result + 1] = userId
+                  result[#result + 1] = digest[1]
+                  result[#result + 1] = digest[2] or ''
+                  result[#result + 1] = digest[3] or ''
+                end
+              end
+            end
+            return result
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PushNotificationDispatcher dispatcher;
+    private final Map<NotificationDigestType, Duration> windows = new EnumMap<>(NotificationDigestType.class);
+
+    // 방해 금지 시간 (start ~ end, 자정을 넘을 수 있음)
+    private final boolean quietHoursEnabled;
+    private final LocalTime quietStart;
+    private final LocalTime quietEnd;
+    private final ZoneId quietZone;
+
+    public NotificationDigestService(@Qualifier("geoRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                     PushNotificationDispatcher dispatcher,
+                                     Environment environment,
+                                     @Value("${notification.quiet-hours.enabled:false}") boolean quietHoursEnabled,
+                                     @Value("${notification.quiet-hours.start:22:00}") String quietStart,
+                                     @Value("${notification.quiet-hours.end:08:00}") String quietEnd,
+                                     @Value("${notification.quiet-hours.zone:America/Los_Angeles}") String quietZone) {
+        this.redisTemplate = redisTemplate;
+        this.dispatcher = dispatcher;
+        this.quietHoursEnabled = quietHoursEnabled;
+        this.quietStart = LocalTime.parse(quietStart);
+        this.quietEnd = LocalTime.parse(quietEnd);
+        this.quietZone = ZoneId.of(quietZone);
+        for (NotificationDigestType type : NotificationDigestType.values()) {
+            windows.put(type, environment.getProperty(
+                    "notification.digest." + type.getKey() + ".window", Duration.class, type.getDefaultWindow()));
+        }
+    }
+
+    /**
+     * 알림 기록
+     *
+     * @param type 알림 종류
+     * @param recipientId 받는 유저 ID
+     * @param fromUserId 보낸 유저 ID
+     * @param fromNickname 보낸 유저 닉네임
+     * @return true 면 호출 측에서 바로 전송 (window 의 첫 알림 또는 Redis 장애), false 면 묶음으로 나중에 전송
+     */
+    public boolean record(NotificationDigestType type, Long recipientId, Long fromUserId, String fromNickname) {
+        Instant now = Instant.now();
+        Instant deferUntil = quietHoursEndIfActive(now);
+        String prefix = prefix(type);
+
+        try {
+            Long sendNow = redisTemplate.execute(RECORD_SCRIPT,
+                    List.of(prefix + "sent:" + recipientId, prefix + "pending:" + recipientId, prefix + "due"),
+                    String.valueOf(recipientId),
+                    String.valueOf(now.toEpochMilli()),
+                    String.valueOf(windows.get(type).toMillis()),
+                    String.valueOf(deferUntil != null ? deferUntil.toEpochMilli() : 0),
+                    String.valueOf(fromUserId),
+                    fromNickname);
+            return sendNow != null && sendNow == 1;
+        } catch (Exception e) {
+            log.warn("Failed to record {} notification digest for user {}, sending immediately: {}",
+                    type.getKey(), recipientId, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 전송 시각이 된 묶음 전송 (모든 인스턴스에서 실행, 꺼내기는 원자적)
+     */
+    @Scheduled(fixedDelayString = "${notification.digest.poll-interval-ms:10000}", initialDelay = 10000)
+    public void deliverDueDigests() {
+        Instant now = Instant.now();
+        Instant deferUntil = quietHoursEndIfActive(now);
+
+        for (NotificationDigestType type : NotificationDigestType.values()) {
+            try {
+                if (deferUntil != null) {
+                    postponeDue(type, now, deferUntil);
+                } else {
+                    deliverDue(type, now);
+                }
+            } catch (Exception e) {
+                log.error("Failed to deliver {} notification digests", type.getKey(), e);
+            }
+        }
+    }
+
+    private void deliverDue(NotificationDigestType type, Instant now) {
+        String prefix = prefix(type);
+        String dueKey = prefix + "due";
+        Set<String> due;
+        do {
+            due = redisTemplate.opsForZSet().rangeByScore(dueKey, 0, now.toEpochMilli(), 0, CLAIM_BATCH_SIZE);
+            if (due == null || due.isEmpty()) {
+                return;
+            }
+
+            List<String> keys = new ArrayList<>(1 + due.size() * 2);
+            List<String> args = new ArrayList<>(2 + due.size());
+            keys.add(dueKey);
+            args.add(String.valueOf(now.toEpochMilli()));
+            args.add(String.valueOf(windows.get(type).toMillis()));
+            for (String recipientId : due) {
+                keys.add(prefix + "pending:" + recipientId);
+                keys.add(prefix + "sent:" + recipientId);
+                args.add(recipientId);
+            }
+
+            List<?> claimed = redisTemplate.execute(CLAIM_SCRIPT, keys, args.toArray());
+            if (claimed == null || claimed.isEmpty()) {
+                continue;
+            }
+
+            Map<Long, PushNotificationDispatcher.PushMessage> messages = new HashMap<>();
+            for (int i = 0; i + 3 < claimed.size(); i += 4) {
+                Long recipientId = Long.parseLong((String) claimed.get(i));
+                int count = Integer.parseInt((String) claimed.get(i + 1));
+                messages.put(recipientId, digestMessage(type, count, (String) claimed.get(i + 2), (String) claimed.get(i + 3)));
+            }
+            dispatcher.dispatchAll(messages);
+            log.info("Delivered {} {} notification digests", messages.size(), type.getKey());
+
+        } while (due.size() >= CLAIM_BATCH_SIZE);
+    }
+
+    // 방해 금지 시간에 전송 시각이 된 묶음은 끝나는 시각으로 미룸
+    private void postponeDue(NotificationDigestType type, Instant now, Instant deferUntil) {
+        String dueKey = prefix(type) + "due";
+        Set<String> due = redisTemplate.opsForZSet().rangeByScore(dueKey, 0, now.toEpochMilli());
+        if (due == null || due.isEmpty()) {
+            return;
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> postponed = new HashSet<>();
+        for (String recipientId : due) {
+            postponed.add(ZSetOperations.TypedTuple.of(recipientId, (double) deferUntil.toEpochMilli()));
+        }
+        redisTemplate.opsForZSet().add(dueKey, postponed);
+        log.debug("Postponed {} {} notification digests to {}", due.size(), type.getKey(), deferUntil);
+    }
+
+    private PushNotificationDispatcher.PushMessage digestMessage(NotificationDigestType type, int count,
+                                                                 String lastUserId, String lastNickname) {
+        String nickname = lastNickname.isEmpty() ? "Someone" : lastNickname;
+        return switch (type) {
+            case LIKE -> count == 1
+                    ? new PushNotificationDispatcher.PushMessage("New Like! 💕", nickname + " likes you!", "like", lastUserId)
+                    : new PushNotificationDispatcher.PushMessage(count + " people liked you! 💕",
+                            nickname + " and " + (count - 1) + " others like you!", "like_digest", lastUserId);
+        };
+    }
+
+    /**
+     * 방해 금지 시간이면 끝나는 시각, 아니면 null
+     */
+    Instant quietHoursEndIfActive(Instant now) {
+        if (!quietHoursEnabled || quietStart.equals(quietEnd)) {
+            return null;
+        }
+
+        ZonedDateTime local = now.atZone(quietZone);
+        LocalTime time = local.toLocalTime();
+        boolean wrapsMidnight = quietStart.isAfter(quietEnd);
+        boolean quiet = wrapsMidnight
+                ? !time.isBefore(quietStart) || time.isBefore(quietEnd)
+                : !time.isBefore(quietStart) && time.isBefore(quietEnd);
+        if (!quiet) {
+            return null;
+        }
+
+        ZonedDateTime end = local.with(quietEnd);
+        if (!end.isAfter(local)) {
+            end = end.plusDays(1);
+        }
+        return end.toInstant();
+    }
+
+    private String prefix(NotificationDigestType type) {
+        return KEY_PREFIX + "{" + type.getKey() + "}:";
+    }
+}
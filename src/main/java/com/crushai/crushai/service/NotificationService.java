@@ -1,65 +1,67 @@
 package com.crushai.crushai.service;
 
+import com.crushai.crushai.dto.ChatMessageNotificationRequest;
 import com.crushai.crushai.entity.UserEntity;
-import com.eatthepath.pushy.apns.ApnsClient;
-import com.eatthepath.pushy.apns.PushNotificationResponse;
-import com.eatthepath.pushy.apns.util.SimpleApnsPushNotification;
-import com.eatthepath.pushy.apns.util.SimpleApnsPayloadBuilder;
-import com.eatthepath.pushy.apns.util.TokenUtil;
+import com.crushai.crushai.enums.NotificationDigestType;
+import com.crushai.crushai.repository.UserInfoRepository;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
-import java.util.concurrent.ExecutionException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * 알림 내용 구성 후 PushNotificationDispatcher 로 전송 (수신자의 모든 활성 디바이스)
+ */
 @Service
 @Slf4j
 public class NotificationService {
 
-    private final Optional<ApnsClient> apnsClient;
-    
-    @Value("${apns.topic}")
-    private String apnsTopic; // iOS 앱의 Bundle ID
-    
-    // ApnsClient가 없을 수 있음 (개발 초기에는 설정 안됨)
-    @Autowired
-    public NotificationService(Optional<ApnsClient> apnsClient) {
-        this.apnsClient = apnsClient;
-        if (apnsClient.isEmpty()) {
-            log.warn("ApnsClient is not configured. Push notifications will not be sent.");
-        } else {
-            log.info("ApnsClient is configured. Push notifications are enabled.");
-        }
+    private final PushNotificationDispatcher dispatcher;
+    private final NotificationDigestService notificationDigestService;
+    private final UserInfoRepository userInfoRepository;
+
+    private static final int PREVIEW_MAX_LENGTH = 100;
+
+    public NotificationService(PushNotificationDispatcher dispatcher,
+                               NotificationDigestService notificationDigestService,
+                               UserInfoRepository userInfoRepository) {
+        this.dispatcher = dispatcher;
+        this.notificationDigestService = notificationDigestService;
+        this.userInfoRepository = userInfoRepository;
     }
     
     /**
      * 좋아요 알림 전송
+     * 
+     * 묶음 기간(window) 안의 첫 좋아요만 바로 보내고, 이후 좋아요는 모아서 "N people liked you" 1건으로 전송
+     * 방해 금지 시간에는 끝날 때까지 모아 둠 (NotificationDigestService)
      */
     public void sendLikeNotification(UserEntity toUser, UserEntity fromUser) {
         log.info("Sending like notification to user: {} from user: {}", 
                  toUser.getId(), fromUser.getId());
         
-        if (apnsClient.isEmpty()) {
-            log.warn("APNs not configured. Notification not sent.");
-            return;
-        }
-        
-        String deviceToken = toUser.getApnsToken();
-        if (deviceToken == null || deviceToken.isEmpty()) {
-            log.warn("User {} has no APNs token", toUser.getId());
-            return;
-        }
-        
         String fromNickname = fromUser.getUserInfo() != null 
             ? fromUser.getUserInfo().getNickname() 
             : "Someone";
         
+        if (!notificationDigestService.record(NotificationDigestType.LIKE, toUser.getId(), fromUser.getId(), fromNickname)) {
+            log.debug("Like notification for user {} coalesced into digest", toUser.getId());
+            return;
+        }
+        
         String title = "New Like! 💕";
         String body = fromNickname + " likes you!";
         
-        sendPushNotification(deviceToken, title, body, "like", fromUser.getId().toString());
+        dispatcher.dispatch(toUser.getId(),
+            new PushNotificationDispatcher.PushMessage(title, body, "like", fromUser.getId().toString()));
     }
     
     /**
@@ -69,17 +71,6 @@ public class NotificationService {
         log.info("Sending match notification to user: {} about match with: {}", 
                  user.getId(), matchedUser.getId());
         
-        if (apnsClient.isEmpty()) {
-            log.warn("APNs not configured. Notification not sent.");
-            return;
-        }
-        
-        String deviceToken = user.getApnsToken();
-        if (deviceToken == null || deviceToken.isEmpty()) {
-            log.warn("User {} has no APNs token", user.getId());
-            return;
-        }
-        
         String matchedNickname = matchedUser.getUserInfo() != null 
             ? matchedUser.getUserInfo().getNickname() 
             : "Someone";
@@ -87,66 +78,8 @@ public class NotificationService {
         String title = "It's a Match! 🎉";
         String body = "You and " + matchedNickname + " liked each other!";
         
-        sendPushNotification(deviceToken, title, body, "match", matchedUser.getId().toString());
-    }
-    
-    /**
-     * APNs 푸시 알림 전송
-     */
-    private void sendPushNotification(String deviceToken, String title, String body, 
-                                     String notificationType, String userId) {
-        if (apnsClient.isEmpty()) {
-            log.warn("APNs client not configured. Notification not sent.");
-            return;
-        }
-        
-        try {
-            // 디바이스 토큰 정리 (공백, < > 제거)
-            String sanitizedToken = TokenUtil.sanitizeTokenString(deviceToken);
-            
-            // 페이로드 빌드
-            SimpleApnsPayloadBuilder payloadBuilder = new SimpleApnsPayloadBuilder();
-            payloadBuilder.setAlertTitle(title);
-            payloadBuilder.setAlertBody(body);
-            payloadBuilder.setSound("default");
-            payloadBuilder.setBadgeNumber(1); // TODO: 실제 읽지 않은 알림 수로 교체
-            
-            // Custom data 추가
-            payloadBuilder.addCustomProperty("type", notificationType);
-            payloadBuilder.addCustomProperty("userId", userId);
-            
-            String payload = payloadBuilder.build();
-            
-            // 푸시 알림 생성
-            SimpleApnsPushNotification pushNotification = new SimpleApnsPushNotification(
-                sanitizedToken,
-                apnsTopic,
-                payload
-            );
-            
-            // 비동기로 전송
-            apnsClient.get().sendNotification(pushNotification).whenComplete((response, cause) -> {
-                if (response != null) {
-                    if (response.isAccepted()) {
-                        log.info("Push notification accepted by APNs gateway for token: {}", 
-                                sanitizedToken.substring(0, 8) + "...");
-                    } else {
-                        log.error("Notification rejected by APNs gateway: {}", 
-                                 response.getRejectionReason());
-                        
-                        response.getTokenInvalidationTimestamp().ifPresent(timestamp -> {
-                            log.error("Token is invalid as of {}", timestamp);
-                            // TODO: 토큰 무효화 처리 (DB에서 제거)
-                        });
-                    }
-                } else {
-                    log.error("Failed to send push notification", cause);
-                }
-            });
-            
-        } catch (Exception e) {
-            log.error("Error sending push notification", e);
-        }
+        dispatcher.dispatch(user.getId(),
+            new PushNotificationDispatcher.PushMessage(title, body, "match", matchedUser.getId().toString()));
     }
     
     /**
@@ -156,24 +89,88 @@ public class NotificationService {
         log.info("Sending chat message notification to user: {} from user: {}", 
                  toUser.getId(), fromUser.getId());
         
-        if (apnsClient.isEmpty()) {
-            log.warn("APNs not configured. Notification not sent.");
-            return;
-        }
-        
-        String deviceToken = toUser.getApnsToken();
-        if (deviceToken == null || deviceToken.isEmpty()) {
-            log.warn("User {} has no APNs token", toUser.getId());
-            return;
-        }
-        
         String fromNickname = fromUser.getUserInfo() != null 
             ? fromUser.getUserInfo().getNickname() 
             : "Someone";
         
         String title = fromNickname;
-        String body = message.length() > 100 ? message.substring(0, 100) + "..." : message;
+        String body = truncate(message);
         
-        sendPushNotification(deviceToken, title, body, "chat", fromUser.getId().toString());
+        dispatcher.dispatch(toUser.getId(),
+            new PushNotificationDispatcher.PushMessage(title, body, "chat", fromUser.getId().toString()));
+    }
+
+    /**
+     * 채팅 메시지 알림 일괄 전송 (채팅 서버 내부 API, notificationExecutor 에서 비동기 실행)
+     *
+     * - 보낸 유저 닉네임은 배치 전체에서 쿼리 1회, 디바이스 토큰도 dispatchAll 1회로 조회
+     * - 같은 수신자의 메시지는 푸시 1건으로 합침
+     *   - 보낸 유저 1명: 제목 = 닉네임, 본문 = 마지막 메시지 (여러 개면 "N new messages: ..." 형태)
+     *   - 보낸 유저 여러 명: "N new messages 💬" / "From A, B and others"
+     */
+    @Async("notificationExecutor")
+    public void sendChatMessageNotifications(List<ChatMessageNotificationRequest.Message> messages) {
+        // 수신자 → 받은 메시지 (요청 순서 유지, 자기 자신에게 보낸 메시지 제외)
+        Map<Long, List<ChatMessageNotificationRequest.Message>> byRecipient = new LinkedHashMap<>();
+        Set<Long> senderIds = new HashSet<>();
+        for (ChatMessageNotificationRequest.Message message : messages) {
+            if (message.getRecipientId().equals(message.getSenderId())) {
+                continue;
+            }
+            byRecipient.computeIfAbsent(message.getRecipientId(), id -> new ArrayList<>()).add(message);
+            senderIds.add(message.getSenderId());
+        }
+        if (byRecipient.isEmpty()) {
+            return;
+        }
+
+        Map<Long, String> nicknames = new HashMap<>();
+        try {
+            userInfoRepository.findNicknames(senderIds)
+                    .forEach(view -> nicknames.put(view.getId(), view.getNickname()));
+        } catch (Exception e) {
+            log.error("Failed to load nicknames for {} chat senders", senderIds.size(), e);
+        }
+
+        Map<Long, PushNotificationDispatcher.PushMessage> pushes = new HashMap<>();
+        byRecipient.forEach((recipientId, received) -> pushes.put(recipientId, chatMessage(received, nicknames)));
+
+        int sent = dispatcher.dispatchAll(pushes);
+        log.info("Chat message notifications: {} messages -> {} recipients, {} devices",
+                messages.size(), pushes.size(), sent);
+    }
+
+    private PushNotificationDispatcher.PushMessage chatMessage(List<ChatMessageNotificationRequest.Message> received,
+                                                               Map<Long, String> nicknames) {
+        ChatMessageNotificationRequest.Message last = received.get(received.size() - 1);
+        String lastPreview = truncate(last.getPreview() != null ? last.getPreview() : "");
+
+        // 보낸 유저 (최근에 보낸 순)
+        Set<Long> senders = new LinkedHashSet<>();
+        for (int i = received.size() - 1; i >= 0; i--) {
+            senders.add(received.get(i).getSenderId());
+        }
+
+        String title;
+        String body;
+        if (senders.size() == 1) {
+            title = nicknames.getOrDefault(last.getSenderId(), "Someone");
+            body = received.size() == 1 ? lastPreview : received.size() + " new messages: " + lastPreview;
+        } else {
+            List<String> names = senders.stream()
+                    .limit(2)
+                    .map(id -> nicknames.getOrDefault(id, "Someone"))
+                    .toList();
+            title = received.size() + " new messages 💬";
+            body = senders.size() == 2
+                    ? "From " + names.get(0) + " and " + names.get(1)
+                    : "From " + names.get(0) + ", " + names.get(1) + " and others";
+        }
+
+        return new PushNotificationDispatcher.PushMessage(title, body, "chat", last.getSenderId().toString());
+    }
+
+    private String truncate(String message) {
+        return message.length() > PREVIEW_MAX_LENGTH ? message.substring(0, PREVIEW_MAX_LENGTH) + "..." : message;
     }
 }
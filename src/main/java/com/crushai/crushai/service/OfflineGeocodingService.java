@@ -0,0 +1,67 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.geo.OfflineReverseGeocoder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 오프라인 역지오코딩 서비스
+ *
+ * 시작 시 geocoding.offline.cities-file / admin1-file (GeoNames 덤프) 을 읽어 메모리에 KD-tree 구성
+ * 파일이 설정되지 않았거나 없으면 비활성화 (GeocodingService 가 Nominatim 만 사용)
+ */
+@Service
+@Slf4j
+public class OfflineGeocodingService {
+
+    @Value("${geocoding.offline.cities-file:}")
+    private String citiesFile;
+
+    @Value("${geocoding.offline.admin1-file:}")
+    private String admin1File;
+
+    private volatile OfflineReverseGeocoder geocoder;
+
+    @PostConstruct
+    void load() {
+        if (citiesFile.isBlank() || admin1File.isBlank()) {
+            log.info("Offline geocoder disabled (geocoding.offline.cities-file / admin1-file not set)");
+            return;
+        }
+
+        Path cities = Path.of(citiesFile);
+        Path admin1 = Path.of(admin1File);
+        if (!Files.isReadable(cities) || !Files.isReadable(admin1)) {
+            log.warn("Offline geocoder disabled, gazetteer files not found: {}, {}", cities, admin1);
+            return;
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            geocoder = OfflineReverseGeocoder.load(cities, admin1);
+            log.info("Offline geocoder loaded {} places in {}ms", geocoder.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("Failed to load offline geocoder, falling back to Nominatim only", e);
+        }
+    }
+
+    public boolean isAvailable() {
+        return geocoder != null;
+    }
+
+    /**
+     * 가장 가까운 도시 검색
+     *
+     * @return 위치명과 도시 중심까지 거리 (데이터가 없으면 empty)
+     */
+    public Optional<OfflineReverseGeocoder.Place> findNearestPlace(double latitude, double longitude) {
+        OfflineReverseGeocoder current = geocoder;
+        return current != null ? current.nearest(latitude, longitude) : Optional.empty();
+    }
+}
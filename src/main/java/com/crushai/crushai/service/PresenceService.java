@@ -0,0 +1,141 @@
+package com.crushai.crushai.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저 마지막 활동 시각 인덱스 (Redis Sorted Set)
+ *
+ * Key: user_last_seen
+ * Member: userId (10진수 문자열), Score: 마지막 활동 epoch 초
+ *
+ * 위치 저장 / 인증된 요청마다 갱신되며, 반경 검색에서 최근 활동 유저만 남기는 데 사용
+ * 인증 요청은 매우 잦으므로 유저별로 일정 간격(touch-interval) 안의 갱신은 생략
+ */
+@Service
+@Slf4j
+public class PresenceService {
+
+    public static final String LAST_SEEN_KEY = "user_last_seen";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 유저별 마지막으로 Redis 에 기록한 시각 (epoch 초) - 쓰기 생략 판단용
+    private final ConcurrentHashMap<Long, Long> lastWritten = new ConcurrentHashMap<>();
+
+    @Value("${presence.touch-interval:PT1M}")
+    private Duration touchInterval;
+
+    public PresenceService(@Qualifier("geoRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 활동 기록 (요청 경로에서 호출, 실패해도 예외를 던지지 않음)
+     *
+     * @param userId 유저 ID
+     */
+    public void touch(Long userId) {
+        long now = Instant.now().getEpochSecond();
+        Long previous = lastWritten.get(userId);
+        if (previous != null && now - previous < touchInterval.getSeconds()) {
+            return;
+        }
+
+        lastWritten.put(userId, now);
+        try {
+            redisTemplate.opsForZSet().add(LAST_SEEN_KEY, String.valueOf(userId), now);
+        } catch (Exception e) {
+            log.warn("Failed to record last seen for userId {}: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 경로(위치 flush 스크립트 등)에서 Redis 에 이미 기록한 경우 로컬 생략 기준만 갱신
+     */
+    public void markWritten(Collection<Long> userIds, long epochSecond) {
+        for (Long userId : userIds) {
+            lastWritten.put(userId, epochSecond);
+        }
+    }
+
+    /**
+     * 주어진 유저 중 since 이후 활동한 유저만 반환 (ZMSCORE 1회)
+     *
+     * @param userIds 후보 유저 ID
+     * @param since 활동 기준 시각
+     * @return 최근 활동 유저 ID (조회 실패 시 필터링하지 않고 전체 반환)
+     */
+    public Set<Long> filterActiveSince(List<Long> userIds, Instant since) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+
+        try {
+            List<Double> scores = redisTemplate.opsForZSet().score(
+                    LAST_SEEN_KEY, userIds.stream().map(String::valueOf).toArray());
+
+            long sinceEpoch = since.getEpochSecond();
+            Set<Long> active = new HashSet<>();
+            for (int i = 0; i < userIds.size(); i++) {
+                Double score = scores != null ? scores.get(i) : null;
+                if (score != null && score >= sinceEpoch) {
+                    active.add(userIds.get(i));
+                }
+            }
+            return active;
+
+        } catch (Exception e) {
+            log.warn("Failed to read last seen scores, skipping activity filter: {}", e.getMessage());
+            return new HashSet<>(userIds);
+        }
+    }
+
+    /**
+     * before 이전에 마지막으로 활동한 유저 ID 조회 (오래된 순, 최대 limit 명)
+     */
+    public List<Long> findInactiveBefore(Instant before, int limit) {
+        Set<String> members = redisTemplate.opsForZSet()
+                .rangeByScore(LAST_SEEN_KEY, Double.NEGATIVE_INFINITY, before.getEpochSecond(), 0, limit);
+        if (members == null) {
+            return List.of();
+        }
+
+        List<Long> userIds = new ArrayList<>(members.size());
+        for (String member : members) {
+            userIds.add(Long.valueOf(member));
+        }
+        return userIds;
+    }
+
+    /**
+     * 활동 기록 삭제
+     */
+    public void remove(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(LAST_SEEN_KEY, userIds.stream().map(String::valueOf).toArray());
+        userIds.forEach(lastWritten::remove);
+    }
+
+    /**
+     * 로컬 생략 기준 정리 (touch-interval 이 지난 항목은 더 이상 필요 없음)
+     */
+    public void pruneLocalState() {
+        long cutoff = Instant.now().getEpochSecond() - touchInterval.getSeconds();
+        lastWritten.values().removeIf(written -> written < cutoff);
+    }
+}
@@ -0,0 +1,230 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.entity.DeviceToken;
+import com.crushai.crushai.entity.TokenStatus;
+import com.crushai.crushai.repository.DeviceTokenRepository;
+import com.eatthepath.pushy.apns.ApnsClient;
+import com.eatthepath.pushy.apns.PushNotificationResponse;
+import com.eatthepath.pushy.apns.util.SimpleApnsPayloadBuilder;
+import com.eatthepath.pushy.apns.util.SimpleApnsPushNotification;
+import com.eatthepath.pushy.apns.util.TokenUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 푸시 알림 전송 (device_tokens 의 ACTIVE 토큰 전체 대상)
+ *
+ * - 수신자들의 토큰을 쿼리 1회로 조회해 Pushy 비동기 API 로 전송
+ * - 동시에 응답을 기다리는 전송 수를 max-in-flight 로 제한 (초과 시 acquire-timeout 까지 대기 후 버림)
+ *   대기 시간 / 응답 대기 수 / 버린 수는 apns.dispatch.* 메트릭으로 확인
+ * - APNs 응답은 DeviceTokenStatsBuffer 에 토큰별로 모았다가 일괄 반영
+ *   - 성공: lastUsedAt 갱신 / 실패 횟수 초기화
+ *   - 토큰 무효 응답(Unregistered, BadDeviceToken 등): 바로 INVALID - 이후 전송 대상에서 빠짐
+ *   - 그 외 거절: 실패 횟수 증가 (3회 연속 시 INVALID)
+ *   - 전송 자체 실패(연결 오류 등)는 토큰 문제가 아니므로 기록하지 않음
+ */
+@Service
+@Slf4j
+public class PushNotificationDispatcher {
+
+    // 토큰 자체가 더 이상 쓸 수 없다는 의미의 거절 사유
+    private static final Set<String> INVALID_TOKEN_REASONS = Set.of(
+            "BadDeviceToken", "Unregistered", "DeviceTokenNotForTopic", "ExpiredToken");
+
+    private final Optional<ApnsClient> apnsClient;
+    private final DeviceTokenRepository deviceTokenRepository;
+    private final DeviceTokenStatsBuffer tokenStatsBuffer;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final Duration acquireTimeout;
+    private final Timer acquireTimer;
+    private final Counter droppedCounter;
+
+    @Value("${apns.topic}")
+    private String apnsTopic; // iOS 앱의 Bundle ID
+
+    /**
+     * 전송할 알림 내용 (수신자의 모든 디바이스에 같은 페이로드)
+     *
+     * @param title 제목
+     * @param body 본문
+     * @param type 알림 종류 (like, match, chat ...)
+     * @param userId 관련 유저 ID (앱에서 화면 이동용)
+     */
+    public record PushMessage(String title, String body, String type, String userId) {
+    }
+
+    public PushNotificationDispatcher(Optional<ApnsClient> apnsClient,
+                                      DeviceTokenRepository deviceTokenRepository,
+                                      DeviceTokenStatsBuffer tokenStatsBuffer,
+                                      @Value("${apns.dispatch.max-in-flight:2000}") int maxInFlight,
+                                      @Value("${apns.dispatch.acquire-timeout:PT1S}") Duration acquireTimeout,
+                                      MeterRegistry meterRegistry) {
+        this.apnsClient = apnsClient;
+        this.deviceTokenRepository = deviceTokenRepository;
+        this.tokenStatsBuffer = tokenStatsBuffer;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.acquireTimeout = acquireTimeout;
+        this.acquireTimer = Timer.builder("apns.dispatch.acquire")
+                .description("전송 창(max-in-flight)에 자리가 나기까지 기다린 시간")
+                .register(meterRegistry);
+        this.droppedCounter = meterRegistry.counter("apns.dispatch.dropped");
+        Gauge.builder("apns.dispatch.in-flight", this, PushNotificationDispatcher::inFlightCount)
+                .register(meterRegistry);
+        if (apnsClient.isEmpty()) {
+            log.warn("ApnsClient is not configured. Push notifications will not be sent.");
+        } else {
+            log.info("ApnsClient is configured. Push notifications are enabled.");
+        }
+    }
+
+    /**
+     * 한 유저의 모든 활성 디바이스로 전송
+     */
+    public void dispatch(Long recipientId, PushMessage message) {
+        dispatchAll(Map.of(recipientId, message));
+    }
+
+    /**
+     * 여러 유저에게 각자의 알림 전송 (토큰 조회 1회)
+     *
+     * @param messagesByRecipient 수신자 ID → 알림 내용
+     * @return 전송을 시작한 디바이스 수
+     */
+    public int dispatchAll(Map<Long, PushMessage> messagesByRecipient) {
+        if (apnsClient.isEmpty()) {
+            log.warn("APNs not configured. Notification not sent.");
+            return 0;
+        }
+        if (messagesByRecipient.isEmpty()) {
+            return 0;
+        }
+
+        List<DeviceToken> tokens;
+        try {
+            tokens = deviceTokenRepository.findByUserIdInAndStatus(messagesByRecipient.keySet(), TokenStatus.ACTIVE);
+        } catch (Exception e) {
+            log.error("Failed to load device tokens for {} recipients", messagesByRecipient.size(), e);
+            return 0;
+        }
+
+        Map<PushMessage, String> payloads = new HashMap<>();
+        int sent = 0;
+        for (DeviceToken token : tokens) {
+            PushMessage message = messagesByRecipient.get(token.getUserId());
+            String payload = payloads.computeIfAbsent(message, this::buildPayload);
+            if (send(token.getDeviceToken(), payload)) {
+                sent++;
+            }
+        }
+
+        if (tokens.size() < messagesByRecipient.size()) {
+            log.debug("{} of {} recipients have no active device token",
+                    messagesByRecipient.size() - tokens.stream().map(DeviceToken::getUserId).distinct().count(),
+                    messagesByRecipient.size());
+        }
+        return sent;
+    }
+
+    /**
+     * 응답을 기다리는 중인 전송 수
+     */
+    public int inFlightCount() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    private boolean send(String deviceToken, String payload) {
+        long startedAt = System.nanoTime();
+        try {
+            boolean acquired = inFlight.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            acquireTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                droppedCounter.increment();
+                log.warn("APNs in-flight window full, dropping notification for token: {}", maskToken(deviceToken));
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        try {
+            SimpleApnsPushNotification notification = new SimpleApnsPushNotification(
+                    TokenUtil.sanitizeTokenString(deviceToken), apnsTopic, payload);
+
+            apnsClient.get().sendNotification(notification).whenComplete((response, cause) -> {
+                try {
+                    onResponse(deviceToken, response, cause);
+                } finally {
+                    inFlight.release();
+                }
+            });
+            return true;
+
+        } catch (Exception e) {
+            inFlight.release();
+            log.error("Error sending push notification", e);
+            return false;
+        }
+    }
+
+    private void onResponse(String deviceToken, PushNotificationResponse<?> response, Throwable cause) {
+        if (response == null) {
+            log.error("Failed to send push notification to token: {}", maskToken(deviceToken), cause);
+            return;
+        }
+
+        if (response.isAccepted()) {
+            tokenStatsBuffer.recordSuccess(deviceToken);
+            return;
+        }
+
+        String reason = response.getRejectionReason().orElse("Unknown");
+        boolean invalid = response.getTokenInvalidationTimestamp().isPresent() || INVALID_TOKEN_REASONS.contains(reason);
+        log.warn("Notification rejected by APNs gateway: {} (token: {})", reason, maskToken(deviceToken));
+        if (invalid) {
+            tokenStatsBuffer.recordInvalid(deviceToken, reason);
+        } else {
+            tokenStatsBuffer.recordFailure(deviceToken, reason);
+        }
+    }
+
+    private String buildPayload(PushMessage message) {
+        SimpleApnsPayloadBuilder payloadBuilder = new SimpleApnsPayloadBuilder();
+        payloadBuilder.setAlertTitle(message.title());
+        payloadBuilder.setAlertBody(message.body());
+        payloadBuilder.setSound("default");
+        payloadBuilder.setBadgeNumber(1); // TODO: 실제 읽지 않은 알림 수로 교체
+
+        // Custom data 추가
+        payloadBuilder.addCustomProperty("type", message.type());
+        payloadBuilder.addCustomProperty("userId", message.userId());
+
+        return payloadBuilder.build();
+    }
+
+    /**
+     * 토큰 마스킹 (로그용)
+     */
+    private String maskToken(String token) {
+        if (token == null || token.length() <= 8) {
+            return "***";
+        }
+        return token.substring(0, 4) + "..." + token.substring(token.length() - 4);
+    }
+}
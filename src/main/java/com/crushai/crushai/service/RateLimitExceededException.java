@@ -0,0 +1,11 @@
+package com.crushai.crushai.service;
+
+/**
+ * 외부 API 호출 제한에 걸려 요청을 처리하지 않았을 때 (컨트롤러에서 429 로 응답)
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    public RateLimitExceededException(String api) {
+        super("Rate limit exceeded: " + api);
+    }
+}
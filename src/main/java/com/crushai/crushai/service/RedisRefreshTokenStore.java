@@ -0,0 +1,176 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.entity.DeviceType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis 기반 Refresh Token 저장소 (auth.refresh-store=redis)
+ *
+ * Key ({userId} 는 Redis Cluster 해시 태그 - 한 유저의 키는 같은 슬롯이라 스크립트 1회로 같이 처리)
+ * - refresh:{userId}:token:{tokenHash} Hash (userId, deviceId, deviceType, deviceName, expiresAt), 토큰 만료 시각에 삭제 (PEXPIREAT)
+ * - refresh:{userId}:tokens            Set (tokenHash) - 전체 로그아웃용, 가장 늦은 토큰 만료 시각에 삭제
+ *
+ * 키에 userId 가 들어가므로 교체 / 삭제는 검증된 토큰 claims 의 userId 로 호출
+ * 스크립트가 쓰는 키는 모두 KEYS 로 넘김 (ARGV 로 키를 만들면 Cluster 에서 라우팅 불가)
+ * 만료는 Redis 가 처리하므로 정리 배치 불필요 (만료된 토큰의 해시가 유저 Set 에 남아도 Set 과 함께 만료)
+ * 교체(rotate)는 스크립트 1회로 원자적 - 같은 토큰으로 동시에 재발급해도 한 요청만 성공
+ */
+@Service
+@ConditionalOnProperty(prefix = "auth", name = "refresh-store", havingValue = "redis")
+@Slf4j
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "refresh:";
+
+    /**
+     * KEYS = token, user
+     * ARGV = tokenHash, userId, deviceId, deviceType, deviceName, expiresAt epoch ms, 현재 epoch ms
+     */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], 'userId', ARGV[2], 'deviceId', ARGV[3], 'deviceType', ARGV[4],
+                       'deviceName', ARGV[5], 'expiresAt', ARGV[6])
+            redis.call('PEXPIREAT', KEYS[1], ARGV[6])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[6]) - tonumber(ARGV[7]) then
+              redis.call('PEXPIREAT', KEYS[2], ARGV[6])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS = 기존 token, 새 token, user
+     * ARGV = 기존 tokenHash, 새 tokenHash, 새 expiresAt epoch ms, 현재 epoch ms
+     * 반환: 기존 토큰 [userId, deviceId, deviceType, deviceName, expiresAt], 없으면 빈 배열
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local stored = redis.call('HMGET', KEYS[1], 'userId', 'deviceId', 'deviceType', 'deviceName', 'expiresAt')
+            if not stored[1] then
+              return {}
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SREM', KEYS[3], ARGV[1])
+            redis.call('HSET', KEYS[2], 'userId', stored[1], 'deviceId', stored[2] or '', 'deviceType', stored[3] or '',
+                       'deviceName', stored[4] or '', 'expiresAt', ARGV[3])
+            redis.call('PEXPIREAT', KEYS[2], ARGV[3])
+            redis.call('SADD', KEYS[3], ARGV[2])
+            if redis.call('PTTL', KEYS[3]) < tonumber(ARGV[3]) - tonumber(ARGV[4]) then
+              redis.call('PEXPIREAT', KEYS[3], ARGV[3])
+            end
+            return {stored[1], stored[2] or '', stored[3] or '', stored[4] or '', stored[5] or ''}
+            """, List.class);
+
+    /**
+     * KEYS = user, 이후 삭제할 token 키들
+     * ARGV = KEYS[2..] 순서대로 tokenHash
+     * 반환: 삭제한 토큰 수 (Set 이 비면 Set 도 삭제)
+     */
+    private static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>("""
+            local deleted = 0
+            for i = 2, #KEYS do
+              deleted = deleted + redis.call('DEL', KEYS[i])
+              redis.call('SREM', KEYS[1], ARGV[i - 1])
+            end
+            if redis.call('SCARD', KEYS[1]) == 0 then
+              redis.call('DEL', KEYS[1])
+            end
+            return deleted
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public RedisRefreshTokenStore(@Qualifier("geoRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        log.info("Refresh tokens are stored in Redis.");
+    }
+
+    @Override
+    public void save(String tokenHash, StoredRefreshToken token) {
+        redisTemplate.execute(SAVE_SCRIPT,
+                List.of(tokenKey(token.userId(), tokenHash), userKey(token.userId())),
+                tokenHash,
+                String.valueOf(token.userId()),
+                nullToEmpty(token.deviceId()),
+                token.deviceType() != null ? token.deviceType().name() : "",
+                nullToEmpty(token.deviceName()),
+                String.valueOf(token.expiresAt().toEpochMilli()),
+                String.valueOf(System.currentTimeMillis()));
+    }
+
+    @Override
+    public Optional<StoredRefreshToken> rotate(Long userId, String oldTokenHash, String newTokenHash, Instant newExpiresAt) {
+        List<?> stored = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(tokenKey(userId, oldTokenHash), tokenKey(userId, newTokenHash), userKey(userId)),
+                oldTokenHash,
+                newTokenHash,
+                String.valueOf(newExpiresAt.toEpochMilli()),
+                String.valueOf(System.currentTimeMillis()));
+
+        if (stored == null || stored.size() < 5) {
+            return Optional.empty();
+        }
+
+        String deviceType = (String) stored.get(2);
+        String expiresAt = (String) stored.get(4);
+        return Optional.of(new StoredRefreshToken(
+                Long.parseLong((String) stored.get(0)),
+                emptyToNull((String) stored.get(1)),
+                deviceType.isEmpty() ? null : DeviceType.valueOf(deviceType),
+                emptyToNull((String) stored.get(3)),
+                expiresAt.isEmpty() ? null : Instant.ofEpochMilli(Long.parseLong(expiresAt))));
+    }
+
+    @Override
+    public void delete(Long userId, String tokenHash) {
+        deleteTokens(userId, List.of(tokenHash));
+    }
+
+    @Override
+    public void deleteAllForUser(Long userId) {
+        // Set 을 먼저 읽고 토큰 키를 KEYS 로 넘김 (그 사이 새로 로그인한 토큰은 남음)
+        Set<String> tokenHashes = redisTemplate.opsForSet().members(userKey(userId));
+        if (tokenHashes == null || tokenHashes.isEmpty()) {
+            return;
+        }
+
+        long deleted = deleteTokens(userId, List.copyOf(tokenHashes));
+        log.debug("Deleted {} refresh tokens for user {}", deleted, userId);
+    }
+
+    private long deleteTokens(Long userId, List<String> tokenHashes) {
+        List<String> keys = new ArrayList<>(tokenHashes.size() + 1);
+        keys.add(userKey(userId));
+        tokenHashes.forEach(tokenHash -> keys.add(tokenKey(userId, tokenHash)));
+
+        Long deleted = redisTemplate.execute(DELETE_SCRIPT, keys, tokenHashes.toArray());
+        return deleted != null ? deleted : 0;
+    }
+
+    private static String tokenKey(Long userId, String tokenHash) {
+        return KEY_PREFIX + "{" + userId + "}:token:" + tokenHash;
+    }
+
+    private static String userKey(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}:tokens";
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
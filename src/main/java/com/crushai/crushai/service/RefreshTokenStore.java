@@ -0,0 +1,49 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.entity.DeviceType;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Refresh Token 저장소 (토큰 원문 대신 SHA-256 해시로 보관)
+ *
+ * auth.refresh-store 로 구현 선택
+ * - jpa (기본): refresh_tokens 테이블 (RefreshRepository), 만료 토큰은 RefreshTokenCleaner 가 정리
+ * - redis: 토큰별 Hash + TTL, 유저별 Set - 만료는 Redis 가 처리하므로 정리 배치 없음
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 저장된 토큰 정보
+     */
+    record StoredRefreshToken(Long userId, String deviceId, DeviceType deviceType, String deviceName,
+                              Instant expiresAt) {
+    }
+
+    /**
+     * 새 토큰 저장 (로그인)
+     */
+    void save(String tokenHash, StoredRefreshToken token);
+
+    /**
+     * 토큰 교체 (재발급, Rotation) - 기존 토큰 삭제와 새 토큰 저장을 한 번에 처리
+     * 디바이스 정보는 기존 토큰의 값을 이어받음
+     *
+     * @param userId 검증된 토큰 claims 의 userId (저장된 토큰의 유저와 다르면 없는 토큰으로 처리)
+     * @return 교체된 기존 토큰 정보, 없거나 만료되었으면 empty (새 토큰도 저장하지 않음)
+     */
+    Optional<StoredRefreshToken> rotate(Long userId, String oldTokenHash, String newTokenHash, Instant newExpiresAt);
+
+    /**
+     * 토큰 삭제 (현재 디바이스 로그아웃)
+     *
+     * @param userId 검증된 토큰 claims 의 userId
+     */
+    void delete(Long userId, String tokenHash);
+
+    /**
+     * 유저의 모든 토큰 삭제 (전체 로그아웃, 탈퇴)
+     */
+    void deleteAllForUser(Long userId);
+}
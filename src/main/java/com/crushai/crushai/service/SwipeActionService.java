@@ -1,15 +1,16 @@
 package com.crushai.crushai.service;
 
-import com.crushai.crushai.client.ChatServiceClient;
 import com.crushai.crushai.dto.AsyncAction;
 import com.crushai.crushai.dto.MatchedUserDto;
 import com.crushai.crushai.dto.SwipeActionResponse;
 import com.crushai.crushai.entity.*;
 import com.crushai.crushai.enums.MatchType;
 import com.crushai.crushai.enums.SwipeType;
+import com.crushai.crushai.event.MatchCreatedEvent;
 import com.crushai.crushai.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,8 +27,8 @@ public class SwipeActionService {
     private final UserSwipeRepository swipeRepository;
     private final UserLikeRepository likeRepository;
     private final MatchRepository matchRepository;
-    private final ChatServiceClient chatServiceClient;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Swipe 액션 처리
@@ -216,6 +217,7 @@ public class SwipeActionService {
             .matchType(MatchType.SWIPE)
             .chatRoomId(chatRoomId)  // UUID 미리 저장
             .isActive(true)
+            .chatRoomPending(true)
             .build();
         
         Match savedMatch = matchRepository.save(match);
@@ -225,28 +227,9 @@ public class SwipeActionService {
         notificationService.sendMatchNotification(currentUser, matchedUser);
         notificationService.sendMatchNotification(matchedUser, currentUser);
         
-        // 4. 채팅방 생성 (UUID 전달)
-        try {
-            String createdChatRoomId = chatServiceClient.createChatRoomWithId(
-                chatRoomId,  // 지정한 UUID 전달
-                currentUserId,
-                matchedUserId,
-                savedMatch.getId()
-            );
-            
-            log.info("Chat room created with UUID: {}", createdChatRoomId);
-            
-            // 검증: UUID가 일치하는지 확인
-            if (!chatRoomId.equals(createdChatRoomId)) {
-                log.warn("Chat room ID mismatch! Expected: {}, Actual: {}", chatRoomId, createdChatRoomId);
-            }
-            
-        } catch (Exception e) {
-            log.error("Failed to create chat room for match: {}", savedMatch.getId(), e);
-            // 채팅방 생성 실패해도 매칭은 유지
-            // UUID가 이미 Match에 저장되어 있으므로 나중에 재시도 가능
-            // TODO: 재시도 로직 추가 (배치 작업 등)
-        }
+        // 4. 채팅방 생성은 커밋 후 비동기로 (채팅 서비스 장애 시 재시도, 트랜잭션을 붙잡지 않음)
+        eventPublisher.publishEvent(new MatchCreatedEvent(
+            savedMatch.getId(), chatRoomId, currentUserId, matchedUserId));
         
         // 5. 응답 생성 - 매칭된 상대방의 정보 반환
         UserInfoEntity matchedUserInfo = matchedUser.getUserInfo();
@@ -11,9 +11,11 @@ import com.crushai.crushai.enums.Gender;
 import com.crushai.crushai.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Period;
 import java.time.ZoneId;
@@ -33,6 +35,11 @@ public class SwipeFeedService {
     
     private static final int INITIAL_BATCH_SIZE = 15;
     private static final int REFILL_BATCH_SIZE = 10;
+    private static final int CANDIDATE_SEARCH_LIMIT = 100;
+
+    // 이 기간 안에 활동한 유저만 피드 후보로 사용
+    @Value("${swipe.feed.active-within-days:30}")
+    private long activeWithinDays;
     
     /**
      * 초기 Swipe 피드 가져오기 (필터 적용)
@@ -114,10 +121,12 @@ public class SwipeFeedService {
             ? currentUserInfo.getShowMeGender()
             : Arrays.asList(Gender.values());
         
-        // 5. 거리 필터: Redis Geo로 반경 내 유저 조회
+        // 5. 거리 필터: Redis Geo로 반경 내 유저 조회 (최근 활동 유저만)
         List<NearbyUserDto> nearbyUsers = userLocationService.getUsersWithinRadius(
             userId, 
-            filter.getMaxDistanceKm()
+            filter.getMaxDistanceKm(),
+            CANDIDATE_SEARCH_LIMIT,
+            Duration.ofDays(activeWithinDays)
         );
         
         // 거리 필터링 (minDistance 이상)
@@ -1,17 +1,14 @@
 package com.crushai.crushai.service;
 
-import com.crushai.crushai.entity.RefreshEntity;
-import com.crushai.crushai.entity.UserEntity;
 import com.crushai.crushai.jwt.JWTUtil;
-import com.crushai.crushai.repository.RefreshRepository;
 import com.crushai.crushai.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
@@ -19,6 +16,7 @@ import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -26,7 +24,7 @@ import java.util.Map;
 public class TokenService {
 
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final UserRepository userRepository;
 
     /**
@@ -35,16 +33,16 @@ public class TokenService {
      * @param refreshToken 클라이언트로부터 받은 refresh token
      * @return 새로운 access token과 refresh token
      */
-    @Transactional
     public ResponseEntity<?> reissueTokens(String refreshToken) {
         if (refreshToken == null || refreshToken.trim().isEmpty()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(Map.of("error", "refresh token is missing"));
         }
 
-        // 1. 토큰 만료 검사
+        // 1. 토큰 검증 (서명 / 만료, 한 번만 파싱)
+        Claims claims;
         try {
-            jwtUtil.isExpired(refreshToken);
+            claims = jwtUtil.parseClaims(refreshToken);
         } catch (ExpiredJwtException e) {
             log.warn("Expired refresh token attempted: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -52,70 +50,43 @@ public class TokenService {
         }
 
         // 2. refresh 토큰 타입 확인
-        String category = jwtUtil.getCategory(refreshToken);
+        String category = claims.get("category", String.class);
         if (!"refreshToken".equals(category)) {
             log.warn("Invalid token category: {}", category);
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(Map.of("error", "invalid token type"));
         }
 
-        // 3. 토큰 해시 생성 및 DB 존재 확인
-        String tokenHash = hashToken(refreshToken);
-        RefreshEntity storedToken = refreshRepository.findByTokenHash(tokenHash)
-            .orElse(null);
-
-        if (storedToken == null) {
-            log.warn("Refresh token not found in database");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                .body(Map.of("error", "refresh token not found"));
-        }
-
-        // 4. 토큰 만료 확인
-        if (storedToken.isExpired()) {
-            log.warn("Stored token is expired for user: {}", storedToken.getUser().getId());
-            refreshRepository.delete(storedToken);
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                .body(Map.of("error", "refresh token expired"));
-        }
-
-        // 5. 사용자 정보 추출
-        String username = jwtUtil.getUsername(refreshToken);
-        String role = jwtUtil.getRole(refreshToken);
-        Long userId = jwtUtil.getUserId(refreshToken);
+        // 3. 사용자 정보 추출
+        String username = claims.get("email", String.class);
+        String role = claims.get("role", String.class);
+        Long userId = claims.get("userId", Long.class);
 
         if (role.startsWith("ROLE_")) {
             role = role.substring(5);
         }
 
-        // 6. 새로운 토큰 생성
+        // 4. 새로운 토큰 생성
         long accessExpirationMs = 3600_000L;  // 1시간
         long refreshExpirationMs = 14L * 24 * 3600_000L; // 14일
         
         String newAccessToken = jwtUtil.createJwt("accessToken", username, role, userId, accessExpirationMs);
         String newRefreshToken = jwtUtil.createJwt("refreshToken", username, role, userId, refreshExpirationMs);
 
-        // 7. 기존 토큰 삭제 및 새 토큰 저장 (Rotation 방식)
-        refreshRepository.delete(storedToken);
-        
-        String newTokenHash = hashToken(newRefreshToken);
-        Instant expiresAt = Instant.now().plusMillis(refreshExpirationMs);
-        
-        RefreshEntity newRefreshEntity = RefreshEntity.builder()
-            .user(storedToken.getUser())
-            .tokenHash(newTokenHash)
-            .deviceId(storedToken.getDeviceId())
-            .deviceType(storedToken.getDeviceType())
-            .deviceName(storedToken.getDeviceName())
-            .expiresAt(expiresAt)
-            .lastUsedAt(Instant.now())
-            .build();
-        
-        refreshRepository.save(newRefreshEntity);
+        // 5. 기존 토큰을 새 토큰으로 교체 (Rotation 방식, 저장소에서 원자적으로 처리)
+        Optional<RefreshTokenStore.StoredRefreshToken> storedToken = refreshTokenStore.rotate(
+            userId, hashToken(refreshToken), hashToken(newRefreshToken), Instant.now().plusMillis(refreshExpirationMs));
+
+        if (storedToken.isEmpty()) {
+            log.warn("Refresh token not found or expired in store for user: {}", userId);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(Map.of("error", "refresh token not found"));
+        }
 
         log.info("Token reissued successfully for user: {}, device: {}", 
-            userId, storedToken.getDeviceId());
+            userId, storedToken.get().deviceId());
 
-        // 8. 응답 생성
+        // 6. 응답 생성
         Map<String, String> tokens = new HashMap<>();
         tokens.put("accessToken", newAccessToken);
         tokens.put("refreshToken", newRefreshToken);
@@ -1,65 +1,216 @@
 package com.crushai.crushai.service;
 
 import com.crushai.crushai.dto.NearbyUserDto;
-import com.crushai.crushai.repository.UserRepository;
+import com.crushai.crushai.geo.GeoDistance;
+import com.crushai.crushai.geo.LocationMemberCodec;
+import com.google.common.collect.Lists;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.geo.*;
 import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.zset.Tuple;
 import org.springframework.data.redis.core.GeoOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 public class UserLocationService {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final GeocodingService geocodingService;
-    private final UserRepository userRepository;
+    private final GeocodingWorkQueue geocodingWorkQueue;
+    private final PresenceService presenceService;
 
     private static final String USER_LOCATION_KEY = "user_locations";
     private static final int DEFAULT_SEARCH_LIMIT = 100;
     private static final double LOCATION_NAME_UPDATE_THRESHOLD_KM = 15.0; // 15km
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    /**
+     * 위치 일괄 반영
+     *
+     * KEYS = user_locations
+     * ARGV = 변경 알림 채널, 이후 (member, longitude, latitude) 반복
+     * 반환: member 별 이전 좌표 "lon,lat" (없으면 "") - 15km 이동 판단용
+     * 마지막 활동 시각(user_last_seen)은 Cluster 에서 슬롯이 달라 스크립트 밖에서 같은 파이프라인으로 ZADD
+     * 이전 형식 member("user:{id}")만 있으면 그 좌표를 이전 좌표로 쓰고 삭제 (member 형식 이전)
+     * 변경 내용은 "{id},lon,lat" 를 ';' 로 이어 1회 PUBLISH (메모리 격자 인덱스 동기화용)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> GEO_ADD_RETURN_PREVIOUS_SCRIPT = new DefaultRedisScript<>("""
+            local key = KEYS[1]
+            local previous = {}
+            local updates = {}
+            for i = 2, #ARGV, 3 do
+              local member = ARGV[i]
+              local pos = redis.call('GEOPOS', key, member)[1]
+              if not pos then
+                local legacy = 'user:' .. member
+                pos = redis.call('GEOPOS', key, legacy)[1]
+                if pos then
+                  redis.call('ZREM', key, legacy)
+                end
+              end
+              if pos then
+                previous[#previous + 1] = pos[1] .. ',' .. pos[2]
+              else
+                previous[#previous + 1] = ''
+              end
+              redis.call('GEOADD', key, ARGV[i + 1], ARGV[i + 2], member)
+              updates[#updates + 1] = member .. ',' .. ARGV[i + 1] .. ',' .. ARGV[i + 2]
+            end
+            redis.call('PUBLISH', ARGV[1], table.concat(updates, ';'))
+            return previous
+            """, List.class);
+
+    // 같은 유저 업데이트를 모아 반영하는 주기 / 최대 보관 유저 수
+    @Value("${location.write-buffer.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${location.write-buffer.max-pending:50000}")
+    private int maxPending;
+
+    private LocationWriteBuffer writeBuffer;
+
+    // location.grid-index.enabled=true 일 때만 존재
+    private final ObjectProvider<LocationGridIndexService> gridIndexProvider;
 
     public UserLocationService(
             @Qualifier("geoRedisTemplate") RedisTemplate<String, String> redisTemplate,
-            GeocodingService geocodingService,
-            UserRepository userRepository) {
+            GeocodingWorkQueue geocodingWorkQueue,
+            PresenceService presenceService,
+            ObjectProvider<LocationGridIndexService> gridIndexProvider) {
         this.redisTemplate = redisTemplate;
-        this.geocodingService = geocodingService;
-        this.userRepository = userRepository;
+        this.geocodingWorkQueue = geocodingWorkQueue;
+        this.presenceService = presenceService;
+        this.gridIndexProvider = gridIndexProvider;
+    }
+
+    @PostConstruct
+    void initWriteBuffer() {
+        writeBuffer = new LocationWriteBuffer(maxPending, Duration.ofMillis(flushIntervalMs), this::flushLocations);
+    }
+
+    @PreDestroy
+    void closeWriteBuffer() {
+        writeBuffer.close();  // 남은 업데이트 반영
     }
 
     /**
      * 유저 위치 저장 (비동기)
      * 
-     * Fire-and-forget 방식으로 백그라운드에서 처리
+     * Fire-and-forget 방식: 쓰기 지연 버퍼에 넣고 바로 반환
+     * flush 주기 안에 같은 유저가 여러 번 보내면 마지막 좌표만 반영
      * 
      * @param userId 사용자 ID
      * @param longitude 경도
      * @param latitude 위도
      */
-    @Async
     public void saveUserLocationAsync(Long userId, double longitude, double latitude) {
-        try {
-            saveUserLocation(userId, longitude, latitude);
-        } catch (Exception e) {
-            log.error("Async location save failed for userId: {}", userId, e);
-            // 비동기 처리이므로 예외를 던지지 않음
+        if (!writeBuffer.offer(userId, longitude, latitude)) {
+            log.warn("Location write buffer full, dropping update for userId: {}", userId);
         }
     }
 
+    /**
+     * 버퍼에 쌓인 위치 즉시 반영 (테스트 / 종료 시)
+     */
+    public void flushPendingLocations() {
+        writeBuffer.flushNow();
+    }
+
+    /**
+     * 버퍼에서 꺼낸 위치 일괄 반영 (flush 스레드)
+     *
+     * 1. 500명 단위로 파이프라인 1회 왕복 (Lua 스크립트: 이전 좌표 조회 + GEOADD, ZADD: 마지막 활동 시각)
+     * 2. 첫 위치이거나 15km 이상 이동한 유저만 locationName 업데이트
+     */
+    private void flushLocations(List<LocationWriteBuffer.PendingLocation> locations) {
+        long now = Instant.now().getEpochSecond();
+        byte[] geoAddScript = bytes(GEO_ADD_RETURN_PREVIOUS_SCRIPT.getScriptAsString());
+
+        for (List<LocationWriteBuffer.PendingLocation> chunk : Lists.partition(locations, FLUSH_CHUNK_SIZE)) {
+            byte[][] keysAndArgs = new byte[chunk.size() * 3 + 2][];
+            keysAndArgs[0] = bytes(USER_LOCATION_KEY);
+            keysAndArgs[1] = bytes(LocationGridIndexService.UPDATES_CHANNEL);
+            Set<Tuple> lastSeen = new HashSet<>(chunk.size());
+            int a = 2;
+            for (LocationWriteBuffer.PendingLocation location : chunk) {
+                String member = LocationMemberCodec.member(location.userId());
+                keysAndArgs[a++] = bytes(member);
+                keysAndArgs[a++] = bytes(String.valueOf(location.longitude()));
+                keysAndArgs[a++] = bytes(String.valueOf(location.latitude()));
+                lastSeen.add(Tuple.of(bytes(String.valueOf(location.userId())), (double) now));
+            }
+
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.scriptingCommands().eval(geoAddScript, ReturnType.MULTI, 1, keysAndArgs);
+                connection.zSetCommands().zAdd(bytes(PresenceService.LAST_SEEN_KEY), lastSeen);
+                return null;
+            });
+            List<?> previous = (List<?>) results.get(0);
+            presenceService.markWritten(
+                    chunk.stream().map(LocationWriteBuffer.PendingLocation::userId).toList(), now);
+
+            for (int i = 0; i < chunk.size(); i++) {
+                LocationWriteBuffer.PendingLocation location = chunk.get(i);
+                String previousPosition = previous != null && i < previous.size() ? (String) previous.get(i) : "";
+
+                if (isLocationNameUpdateNeeded(previousPosition, location)) {
+                    geocodingWorkQueue.submit(location.userId(), location.latitude(), location.longitude(),
+                            previousPosition == null || previousPosition.isEmpty());
+                }
+            }
+        }
+
+        log.debug("Flushed {} location updates (superseded: {}, dropped: {})",
+                locations.size(), writeBuffer.getSupersededCount(), writeBuffer.getDroppedCount());
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private boolean isLocationNameUpdateNeeded(String previousPosition, LocationWriteBuffer.PendingLocation location) {
+        if (previousPosition == null || previousPosition.isEmpty()) {
+            return true;  // 첫 위치 저장
+        }
+
+        String[] lonLat = previousPosition.split(",");
+        double distance = calculateDistance(
+                Double.parseDouble(lonLat[1]), Double.parseDouble(lonLat[0]),
+                location.latitude(), location.longitude()
+        );
+        return distance >= LOCATION_NAME_UPDATE_THRESHOLD_KM;
+    }
+
     /**
      * 유저 위치 저장 및 위치명 업데이트
      * 
      * 1. Redis에서 기존 위치 조회
      * 2. 거리 계산 (기존 vs 새 위치)
      * 3. Redis 좌표 업데이트 (항상)
-     * 4. 15km 이상 차이나면 locationName 업데이트 (캐시 확인 → API 호출)
+     * 4. 15km 이상 차이나면 locationName 업데이트 요청 (GeocodingWorkQueue 에서 비동기 처리)
      * 
      * @param userId 사용자 ID
      * @param longitude 경도 (-180 ~ 180)
@@ -69,7 +220,7 @@ public class UserLocationService {
     public void saveUserLocation(Long userId, double longitude, double latitude) {
         try {
             GeoOperations<String, String> geoOps = redisTemplate.opsForGeo();
-            String memberName = "user:" + userId;
+            String memberName = LocationMemberCodec.member(userId);
 
             // 1. 기존 위치 조회
             Point oldLocation = getUserLocation(userId);
@@ -80,6 +231,10 @@ public class UserLocationService {
                     new Point(longitude, latitude),
                     memberName
             );
+            geoOps.remove(USER_LOCATION_KEY, LocationMemberCodec.legacyMember(userId));  // 이전 형식 정리
+
+            presenceService.touch(userId);
+            publishLocationUpdate(userId + "," + longitude + "," + latitude);
 
             if (result != null) {
                 log.info("User location saved: userId={}, lon={}, lat={}, isNew={}", 
@@ -99,11 +254,11 @@ public class UserLocationService {
                 log.debug("Location distance for userId {}: {}km", userId, distance);
                 
                 if (distance >= LOCATION_NAME_UPDATE_THRESHOLD_KM) {
-                    updateLocationName(userId, latitude, longitude);
+                    geocodingWorkQueue.submit(userId, latitude, longitude, false);
                 }
             } else {
-                // 첫 위치 저장 시 locationName 업데이트
-                updateLocationName(userId, latitude, longitude);
+                // 첫 위치 저장 시 locationName 업데이트 (우선 처리)
+                geocodingWorkQueue.submit(userId, latitude, longitude, true);
             }
 
         } catch (Exception e) {
@@ -112,37 +267,6 @@ public class UserLocationService {
         }
     }
     
-    /**
-     * 사용자의 위치명 업데이트 (캐싱 활용)
-     * 
-     * @param userId 사용자 ID
-     * @param latitude 위도
-     * @param longitude 경도
-     */
-    private void updateLocationName(Long userId, double latitude, double longitude) {
-        try {
-            // GeocodingService를 통해 위치명 조회 (캐싱 포함)
-            String locationName = geocodingService.getLocationName(latitude, longitude);
-            
-            if (locationName != null) {
-                // DB 업데이트
-                userRepository.findById(userId).ifPresent(user -> {
-                    if (user.getUserInfo() != null) {
-                        user.getUserInfo().updateLocationName(locationName);
-                        userRepository.save(user);
-                        log.info("Location name updated: userId={}, locationName={}", userId, locationName);
-                    }
-                });
-            } else {
-                log.warn("Failed to get location name for userId: {}", userId);
-            }
-            
-        } catch (Exception e) {
-            log.error("Error updating location name for userId: {}", userId, e);
-            // locationName 업데이트 실패는 치명적이지 않으므로 예외를 던지지 않음
-        }
-    }
-    
     /**
      * 두 좌표 사이의 거리 계산 (Haversine Formula)
      * 
@@ -153,18 +277,20 @@ public class UserLocationService {
      * @return 거리 (km)
      */
     private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final int EARTH_RADIUS_KM = 6371;
-        
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        
-        return EARTH_RADIUS_KM * c;
+        return GeoDistance.haversineKm(lat1, lon1, lat2, lon2);
+    }
+
+    /**
+     * 위치 변경 알림 발행 (메모리 격자 인덱스 동기화용, 실패해도 다음 재구축에서 보정되므로 무시)
+     *
+     * @param payload "userId,lon,lat" (추가/갱신) 또는 "userId" (삭제) 를 ';' 로 이은 문자열
+     */
+    private void publishLocationUpdate(String payload) {
+        try {
+            redisTemplate.convertAndSend(LocationGridIndexService.UPDATES_CHANNEL, payload);
+        } catch (Exception e) {
+            log.warn("Failed to publish location update: {}", e.getMessage());
+        }
     }
 
     /**
@@ -175,9 +301,11 @@ public class UserLocationService {
     public void deleteUserLocation(Long userId) {
         try {
             GeoOperations<String, String> geoOps = redisTemplate.opsForGeo();
-            String memberName = "user:" + userId;
-            
-            Long removed = geoOps.remove(USER_LOCATION_KEY, memberName);
+
+            Long removed = geoOps.remove(USER_LOCATION_KEY,
+                    LocationMemberCodec.member(userId), LocationMemberCodec.legacyMember(userId));
+            presenceService.remove(List.of(userId));
+            publishLocationUpdate(String.valueOf(userId));
             
             if (removed != null && removed > 0) {
                 log.info("User location deleted: userId={}", userId);
@@ -203,28 +331,96 @@ public class UserLocationService {
         return getUsersWithinRadius(userId, radiusKm, DEFAULT_SEARCH_LIMIT);
     }
 
+    /**
+     * 여러 유저의 위치 일괄 삭제 (ZREM 1회, 장기 미접속 정리용)
+     * 이전 중에는 두 member 형식이 섞여 있으므로 둘 다 삭제
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 삭제된 위치 수
+     */
+    public long deleteUserLocations(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        String[] members = new String[userIds.size() * 2];
+        for (int i = 0; i < userIds.size(); i++) {
+            members[i * 2] = LocationMemberCodec.member(userIds.get(i));
+            members[i * 2 + 1] = LocationMemberCodec.legacyMember(userIds.get(i));
+        }
+        Long removed = redisTemplate.opsForGeo().remove(USER_LOCATION_KEY, members);
+        publishLocationUpdate(userIds.stream().map(String::valueOf).collect(Collectors.joining(";")));
+        return removed != null ? removed : 0;
+    }
+
+    /**
+     * 반경 내 유저 검색 (최근 activeWithin 안에 활동한 유저만)
+     *
+     * 비활성 유저를 걸러내도 limit 을 채울 수 있도록 2배까지 조회 후 필터링
+     *
+     * @param userId 중심이 되는 유저 ID (자기 자신 제외)
+     * @param radiusKm 검색 반경 (킬로미터)
+     * @param limit 최대 결과 개수
+     * @param activeWithin 최근 활동 기준 기간
+     * @return 반경 내 최근 활동 유저 정보 리스트 (거리순 정렬)
+     */
+    public List<NearbyUserDto> getUsersWithinRadius(Long userId, double radiusKm, int limit, Duration activeWithin) {
+        List<NearbyUserDto> nearbyUsers = getUsersWithinRadius(userId, radiusKm, limit * 2);
+        if (nearbyUsers.isEmpty()) {
+            return nearbyUsers;
+        }
+
+        Set<Long> activeUserIds = presenceService.filterActiveSince(
+                nearbyUsers.stream().map(NearbyUserDto::userId).toList(),
+                Instant.now().minus(activeWithin));
+
+        List<NearbyUserDto> activeUsers = nearbyUsers.stream()
+                .filter(user -> activeUserIds.contains(user.userId()))
+                .limit(limit)
+                .toList();
+
+        log.debug("Active within {}: {} of {} nearby users", activeWithin, activeUsers.size(), nearbyUsers.size());
+        return activeUsers;
+    }
+
     /**
      * userId 기준으로 현재 위치를 가져와서, 반경 내 유저 검색 (결과 개수 제한)
      *
+     * 메모리 격자 인덱스가 켜져 있고 준비되었으면 Redis 왕복 없이 인덱스에서 검색
+     * (인덱스에 아직 반영되지 않은 유저는 Redis 로 검색, Redis 장애 시에는 인덱스로 대체)
+     *
      * @param userId 중심이 되는 유저 ID (자기 자신 제외)
      * @param radiusKm 검색 반경 (킬로미터)
      * @param limit 최대 결과 개수
      * @return 반경 내 유저 정보 리스트 (거리순 정렬)
      */
     public List<NearbyUserDto> getUsersWithinRadius(Long userId, double radiusKm, int limit) {
+        LocationGridIndexService gridIndex = gridIndexProvider.getIfAvailable();
+        if (gridIndex != null && gridIndex.isReady() && gridIndex.contains(userId)) {
+            return gridIndex.findNearby(userId, radiusKm, limit);
+        }
+
+        try {
+            return searchRedisWithinRadius(userId, radiusKm, limit);
+        } catch (RuntimeException e) {
+            if (gridIndex != null && gridIndex.isReady()) {
+                log.warn("Redis radius search failed for userId {}, serving from grid index", userId);
+                return gridIndex.findNearby(userId, radiusKm, limit);
+            }
+            throw e;
+        }
+    }
+
+    private List<NearbyUserDto> searchRedisWithinRadius(Long userId, double radiusKm, int limit) {
         try {
             GeoOperations<String, String> geoOps = redisTemplate.opsForGeo();
-            String memberName = "user:" + userId;
 
             // 1. 유저 현재 위치 조회
-            List<Point> points = geoOps.position(USER_LOCATION_KEY, memberName);
-            if (points == null || points.isEmpty() || points.get(0) == null) {
+            Point userPoint = findPosition(geoOps, userId);
+            if (userPoint == null) {
                 log.debug("No location found for userId: {}", userId);
                 return List.of();
             }
 
-            Point userPoint = points.get(0);
-
             // 2. Circle 객체 생성 (반경 검색)
             Circle circle = new Circle(userPoint, new Distance(radiusKm, Metrics.KILOMETERS));
 
@@ -245,23 +441,23 @@ public class UserLocationService {
                 return List.of();
             }
 
-            // 5. 자기 자신 제외 후 DTO 변환
-            List<NearbyUserDto> nearbyUsers = results.getContent().stream()
-                    .filter(result -> !result.getContent().getName().equals(memberName))
-                    .map(result -> {
-                        String name = result.getContent().getName();
-                        Long uid = Long.valueOf(name.replace("user:", ""));
-                        double distance = result.getDistance().getValue(); // km
-                        Point point = result.getContent().getPoint();
-
-                        return new NearbyUserDto(
-                                uid,
-                                distance,
-                                point.getX(), // longitude
-                                point.getY()  // latitude
-                        );
-                    })
-                    .toList();
+            // 5. 자기 자신 제외 후 DTO 변환 (member 는 두 형식 모두 가능)
+            List<NearbyUserDto> nearbyUsers = new ArrayList<>(results.getContent().size());
+            for (GeoResult<RedisGeoCommands.GeoLocation<String>> result : results.getContent()) {
+                long uid = LocationMemberCodec.userId(result.getContent().getName());
+                if (uid == userId) {
+                    continue;
+                }
+
+                double distance = result.getDistance().getValue(); // km
+                Point point = result.getContent().getPoint();
+                nearbyUsers.add(new NearbyUserDto(
+                        uid,
+                        distance,
+                        point.getX(), // longitude
+                        point.getY()  // latitude
+                ));
+            }
 
             log.info("Found {} users within {}km of userId: {}", nearbyUsers.size(), radiusKm, userId);
             return nearbyUsers;
@@ -272,28 +468,89 @@ public class UserLocationService {
         }
     }
 
+    /**
+     * 기준 유저와 여러 유저 사이의 거리 일괄 계산 (Liked You / 채팅방 카드용)
+     *
+     * 기준 유저와 대상 유저 좌표를 GEOPOS 1회로 함께 조회한 뒤 로컬에서 Haversine 계산
+     * (카드마다 Redis 를 호출하지 않음, 이전 중에는 두 member 형식을 함께 조회)
+     *
+     * @param viewerId 기준 유저 ID
+     * @param userIds 대상 유저 ID 목록
+     * @return 유저 ID → 거리 (km), 위치가 없는 유저는 제외 (조회 실패 / 기준 유저 위치 없음 시 빈 맵)
+     */
+    public Map<Long, Double> getDistancesFrom(Long viewerId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> targetIds = List.copyOf(userIds);
+        String[] members = new String[(targetIds.size() + 1) * 2];
+        members[0] = LocationMemberCodec.member(viewerId);
+        members[1] = LocationMemberCodec.legacyMember(viewerId);
+        for (int i = 0; i < targetIds.size(); i++) {
+            members[(i + 1) * 2] = LocationMemberCodec.member(targetIds.get(i));
+            members[(i + 1) * 2 + 1] = LocationMemberCodec.legacyMember(targetIds.get(i));
+        }
+
+        try {
+            List<Point> points = redisTemplate.opsForGeo().position(USER_LOCATION_KEY, members);
+            if (points == null) {
+                return Map.of();
+            }
+
+            Point viewer = firstNonNull(points.get(0), points.get(1));
+            if (viewer == null) {
+                return Map.of();
+            }
+
+            Map<Long, Double> distances = new HashMap<>();
+            for (int i = 0; i < targetIds.size(); i++) {
+                Point target = firstNonNull(points.get((i + 1) * 2), points.get((i + 1) * 2 + 1));
+                if (target != null) {
+                    distances.put(targetIds.get(i),
+                            calculateDistance(viewer.getY(), viewer.getX(), target.getY(), target.getX()));
+                }
+            }
+            return distances;
+
+        } catch (Exception e) {
+            log.warn("Failed to calculate distances from userId {}: {}", viewerId, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private Point firstNonNull(Point current, Point legacy) {
+        return current != null ? current : legacy;
+    }
+
     /**
      * 특정 사용자의 현재 위치 조회
      * 
+     * 이전 중에는 두 member 형식을 GEOPOS 1회로 함께 조회 (새 형식 우선)
+     * 
      * @param userId 사용자 ID
      * @return Point 객체 (없으면 null)
      */
     public Point getUserLocation(Long userId) {
         try {
-            GeoOperations<String, String> geoOps = redisTemplate.opsForGeo();
-            String memberName = "user:" + userId;
-
-            List<Point> points = geoOps.position(USER_LOCATION_KEY, memberName);
-            
-            if (points != null && !points.isEmpty() && points.get(0) != null) {
-                return points.get(0);
-            }
-            
-            return null;
-            
+            return findPosition(redisTemplate.opsForGeo(), userId);
         } catch (Exception e) {
             log.error("Error getting user location for userId: {}", userId, e);
             return null;
         }
     }
+
+    private Point findPosition(GeoOperations<String, String> geoOps, Long userId) {
+        List<Point> points = geoOps.position(USER_LOCATION_KEY,
+                LocationMemberCodec.member(userId), LocationMemberCodec.legacyMember(userId));
+
+        if (points != null) {
+            for (Point point : points) {
+                if (point != null) {
+                    return point;
+                }
+            }
+        }
+        return null;
+    }
 }
@@ -22,30 +22,33 @@ import java.util.stream.Collectors;
 @Slf4j
 public class UserService {
     private final UserRepository userRepository;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final MatchRepository matchRepository;
     private final UserSwipeRepository userSwipeRepository;
     private final UserLikeRepository userLikeRepository;
     private final UserLocationService userLocationService;
     private final DeviceTokenRepository deviceTokenRepository;
     private final ChatServiceClient chatServiceClient;
+    private final AuthPrincipalCache principalCache;
 
     public UserService(UserRepository userRepository, 
-                      RefreshRepository refreshRepository,
+                      RefreshTokenStore refreshTokenStore,
                       MatchRepository matchRepository,
                       UserSwipeRepository userSwipeRepository,
                       UserLikeRepository userLikeRepository,
                        UserLocationService userLocationService,
                        DeviceTokenRepository deviceTokenRepository,
-                       ChatServiceClient chatServiceClient) {
+                       ChatServiceClient chatServiceClient,
+                       AuthPrincipalCache principalCache) {
         this.userRepository = userRepository;
-        this.refreshRepository = refreshRepository;
+        this.refreshTokenStore = refreshTokenStore;
         this.matchRepository = matchRepository;
         this.userSwipeRepository = userSwipeRepository;
         this.userLikeRepository = userLikeRepository;
         this.userLocationService = userLocationService;
         this.deviceTokenRepository = deviceTokenRepository;
         this.chatServiceClient = chatServiceClient;
+        this.principalCache = principalCache;
     }
 
     public UserInfoResponse getUser(Long userId) {
@@ -90,10 +93,11 @@ public class UserService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + userId));
 
         // 2. 해당 유저의 모든 리프레시 토큰을 삭제합니다.
-        refreshRepository.deleteAllByUser_Id(userId);
+        refreshTokenStore.deleteAllForUser(userId);
 
         // 3. 유저의 delYn 플래그를 true로 변경합니다.
         user.deleteUser(Instant.now().plus(30, ChronoUnit.DAYS));
+        principalCache.invalidateAfterCommit(userId);
         
         log.info("User {} marked for deletion. Will be deleted after 30 days.", user.getId());
     }
@@ -214,7 +218,7 @@ public class UserService {
 
     private void cleanupUserRefreshTokens(List<Long> userIdsToDelete) {
         for (Long userId : userIdsToDelete) {
-            refreshRepository.deleteAllByUser_Id(userId);
+            refreshTokenStore.deleteAllForUser(userId);
 
             log.debug("User {} refresh token deleted", userId);
         }
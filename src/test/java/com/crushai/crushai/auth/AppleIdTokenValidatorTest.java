@@ -0,0 +1,177 @@
+package com.crushai.crushai.auth;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AppleIdTokenValidatorTest {
+
+    private static final String CLIENT_ID = "com.crushai.test";
+
+    private static RSAKey oldKey;
+    private static RSAKey newKey;
+
+    @BeforeAll
+    static void generateKeys() throws Exception {
+        oldKey = new RSAKeyGenerator(2048).keyID("old").generate();
+        newKey = new RSAKeyGenerator(2048).keyID("new").generate();
+    }
+
+    private static String identityToken(RSAKey key) throws Exception {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer("https://appleid.apple.com")
+                .audience(CLIENT_ID)
+                .subject("apple-user")
+                .expirationTime(new Date(System.currentTimeMillis() + 60_000))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+
+    private static JWKSet publicKeys(RSAKey... keys) {
+        List<JWK> publicKeys = new ArrayList<>();
+        for (RSAKey key : keys) {
+            publicKeys.add(key.toPublicJWK());
+        }
+        return new JWKSet(publicKeys);
+    }
+
+    @Test
+    @DisplayName("캐시된 키로 검증하고 로그인마다 JWKS 를 조회하지 않는다")
+    void verify_usesCachedKeys() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        AppleIdTokenValidator validator = new AppleIdTokenValidator(() -> {
+            fetches.incrementAndGet();
+            return publicKeys(oldKey);
+        }, Duration.ofMinutes(1), Duration.ofSeconds(1));
+
+        validator.refreshKeys();
+        Map<String, Object> first = validator.verify(identityToken(oldKey), CLIENT_ID);
+        Map<String, Object> second = validator.verify(identityToken(oldKey), CLIENT_ID);
+
+        assertThat(first).containsEntry("sub", "apple-user");
+        assertThat(second).containsEntry("sub", "apple-user");
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("모르는 kid 면 다시 가져온다 (Apple 키 교체)")
+    void verify_refetchesOnUnknownKeyId() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        AppleIdTokenValidator validator = new AppleIdTokenValidator(() -> fetches.incrementAndGet() == 1
+                ? publicKeys(oldKey)
+                : publicKeys(oldKey, newKey), Duration.ZERO, Duration.ofSeconds(1));
+
+        validator.refreshKeys();
+
+        assertThat(validator.verify(identityToken(newKey), CLIENT_ID)).containsEntry("sub", "apple-user");
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("최소 간격 안에서는 모르는 kid 로 다시 가져오지 않는다")
+    void verify_throttlesRefetchOnUnknownKeyId() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        AppleIdTokenValidator validator = new AppleIdTokenValidator(() -> {
+            fetches.incrementAndGet();
+            return publicKeys(oldKey);
+        }, Duration.ofMinutes(1), Duration.ofSeconds(1));
+
+        validator.refreshKeys();
+
+        assertThat(validator.verify(identityToken(newKey), CLIENT_ID)).isNull();
+        assertThat(validator.verify(identityToken(newKey), CLIENT_ID)).isNull();
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 로그인은 JWKS 조회 1회를 같이 기다린다")
+    void verify_singleFlightFetch() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        AppleIdTokenValidator validator = new AppleIdTokenValidator(() -> {
+            fetches.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return publicKeys(oldKey);
+        }, Duration.ofMinutes(1), Duration.ofSeconds(5));
+
+        String token = identityToken(oldKey);
+        int logins = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(logins);
+        try {
+            List<Future<Map<String, Object>>> results = new ArrayList<>();
+            for (int i = 0; i < logins; i++) {
+                results.add(executor.submit(() -> validator.verify(token, CLIENT_ID)));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<Map<String, Object>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).containsEntry("sub", "apple-user");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("갱신에 실패하면 기존 키를 그대로 사용한다")
+    void refreshKeys_keepsCachedKeysOnFailure() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        AppleIdTokenValidator validator = new AppleIdTokenValidator(() -> {
+            if (fetches.incrementAndGet() > 1) {
+                throw new IOException("connect timed out");
+            }
+            return publicKeys(oldKey);
+        }, Duration.ZERO, Duration.ofSeconds(1));
+
+        validator.refreshKeys();
+        validator.refreshKeys();
+
+        assertThat(validator.verify(identityToken(oldKey), CLIENT_ID)).containsEntry("sub", "apple-user");
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("기동 시 조회가 실패하면 최소 간격 안이어도 다음 로그인에서 바로 다시 가져온다")
+    void verify_refetchesAfterFailedFetch() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        AppleIdTokenValidator validator = new AppleIdTokenValidator(() -> {
+            if (fetches.incrementAndGet() == 1) {
+                throw new IOException("connect timed out");
+            }
+            return publicKeys(oldKey);
+        }, Duration.ofMinutes(1), Duration.ofSeconds(1));
+
+        validator.refreshKeys();
+
+        assertThat(validator.verify(identityToken(oldKey), CLIENT_ID)).containsEntry("sub", "apple-user");
+        assertThat(fetches).hasValue(2);
+    }
+}
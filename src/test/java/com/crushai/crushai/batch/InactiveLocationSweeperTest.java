@@ -0,0 +1,112 @@
+package com.crushai.crushai.batch;
+
+import com.crushai.crushai.service.PresenceService;
+import com.crushai.crushai.service.UserLocationService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * InactiveLocationSweeper 테스트
+ *
+ * @Async 프록시를 거치지 않도록 직접 생성해서 호출
+ *
+ * ⚠️ 사전 준비: Docker로 Redis를 실행해야 합니다. (docker-compose up -d redis)
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class InactiveLocationSweeperTest {
+
+    private static final String USER_LOCATION_KEY = "user_locations";
+    private static final String SEEDED_FLAG_KEY = "user_last_seen:seeded";
+    private static final String SEED_LOCK_KEY = "user_last_seen:seeded:lock";
+
+    @Autowired
+    @Qualifier("geoRedisTemplate")
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private PresenceService presenceService;
+
+    @Autowired
+    private UserLocationService userLocationService;
+
+    private InactiveLocationSweeper sweeper;
+
+    @BeforeEach
+    void cleanData() {
+        try {
+            redisTemplate.delete(List.of(USER_LOCATION_KEY, PresenceService.LAST_SEEN_KEY, SEEDED_FLAG_KEY, SEED_LOCK_KEY));
+        } catch (Exception e) {
+            Assumptions.abort("Redis 서버가 필요합니다: " + e.getMessage());
+        }
+        sweeper = new InactiveLocationSweeper(presenceService, userLocationService, redisTemplate);
+        ReflectionTestUtils.setField(sweeper, "retentionDays", 90L);
+    }
+
+    private void addLocation(String member) {
+        redisTemplate.opsForGeo().add(USER_LOCATION_KEY, new Point(127.0, 37.5), member);
+    }
+
+    private void setLastSeen(String userId, Instant at) {
+        redisTemplate.opsForZSet().add(PresenceService.LAST_SEEN_KEY, userId, at.getEpochSecond());
+    }
+
+    @Test
+    @DisplayName("retention 이상 미접속 유저의 위치(두 형식 모두)와 활동 기록만 삭제")
+    void testSweepRemovesOnlyInactiveUsers() {
+        addLocation("1");
+        addLocation("user:2");
+        addLocation("3");
+        setLastSeen("1", Instant.now().minus(Duration.ofDays(91)));
+        setLastSeen("2", Instant.now().minus(Duration.ofDays(120)));
+        setLastSeen("3", Instant.now().minus(Duration.ofDays(1)));
+
+        sweeper.sweepInactiveLocations();
+
+        Assertions.assertNull(redisTemplate.opsForZSet().score(USER_LOCATION_KEY, "1"));
+        Assertions.assertNull(redisTemplate.opsForZSet().score(USER_LOCATION_KEY, "user:2"));
+        Assertions.assertNotNull(redisTemplate.opsForZSet().score(USER_LOCATION_KEY, "3"));
+        Assertions.assertEquals(1L, redisTemplate.opsForZSet().zCard(PresenceService.LAST_SEEN_KEY));
+    }
+
+    @Test
+    @DisplayName("활동 기록이 없는 위치만 현재 시각으로 채우고, 끝난 뒤에 완료 플래그를 남김")
+    void testSeedMissingLastSeen() {
+        Instant lastWeek = Instant.now().minus(Duration.ofDays(7));
+        addLocation("1");
+        addLocation("user:2");
+        addLocation("not-a-user");
+        addLocation("3");
+        setLastSeen("3", lastWeek);
+
+        sweeper.seedMissingLastSeen();
+
+        Assertions.assertNotNull(redisTemplate.opsForZSet().score(PresenceService.LAST_SEEN_KEY, "1"));
+        Assertions.assertNotNull(redisTemplate.opsForZSet().score(PresenceService.LAST_SEEN_KEY, "2"));
+        Assertions.assertEquals((double) lastWeek.getEpochSecond(),
+                redisTemplate.opsForZSet().score(PresenceService.LAST_SEEN_KEY, "3"));
+        Assertions.assertTrue(Boolean.TRUE.equals(redisTemplate.hasKey(SEEDED_FLAG_KEY)));
+        Assertions.assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey(SEED_LOCK_KEY)));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 실행 중(잠금)이면 건너뛰고 완료 플래그도 남기지 않음")
+    void testSeedSkipsWhileLocked() {
+        addLocation("1");
+        redisTemplate.opsForValue().set(SEED_LOCK_KEY, Instant.now().toString(), Duration.ofMinutes(1));
+
+        sweeper.seedMissingLastSeen();
+
+        Assertions.assertNull(redisTemplate.opsForZSet().score(PresenceService.LAST_SEEN_KEY, "1"));
+        Assertions.assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey(SEEDED_FLAG_KEY)));
+    }
+}
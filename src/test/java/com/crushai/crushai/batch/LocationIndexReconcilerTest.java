@@ -0,0 +1,95 @@
+package com.crushai.crushai.batch;
+
+import com.crushai.crushai.repository.UserRepository;
+import com.crushai.crushai.service.PresenceService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * LocationIndexReconciler 테스트
+ *
+ * user 테이블은 목으로 대체 (1: 활성, 2: 탈퇴 유예, 3: 없음, 4: 활성 - 이전 형식만)
+ *
+ * ⚠️ 사전 준비: Docker로 Redis를 실행해야 합니다. (docker-compose up -d redis)
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LocationIndexReconcilerTest {
+
+    private static final String USER_LOCATION_KEY = "user_locations";
+
+    @Autowired
+    @Qualifier("geoRedisTemplate")
+    private RedisTemplate<String, String> redisTemplate;
+
+    private LocationIndexReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        try {
+            redisTemplate.delete(List.of(USER_LOCATION_KEY, PresenceService.LAST_SEEN_KEY));
+        } catch (Exception e) {
+            Assumptions.abort("Redis 서버가 필요합니다: " + e.getMessage());
+        }
+
+        UserRepository userRepository = mock(UserRepository.class);
+        given(userRepository.findActiveOnboardedIds(anyCollection())).willAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().filter(Set.of(1L, 4L)::contains).toList();
+        });
+        reconciler = new LocationIndexReconciler(userRepository, redisTemplate);
+    }
+
+    private void addLocation(String member) {
+        redisTemplate.opsForGeo().add(USER_LOCATION_KEY, new Point(127.0, 37.5), member);
+    }
+
+    @Test
+    @DisplayName("활성 유저만 남기고 탈퇴 / 고아 / 형식 오류 member 제거 (두 형식이 같이 있으면 둘 다)")
+    void testReconcile() {
+        addLocation("1");
+        addLocation("2");
+        addLocation("user:2");   // 같은 유저의 이전 형식 - 같은 청크에서 둘 다 제거되어야 함
+        addLocation("3");
+        addLocation("user:4");
+        addLocation("not-a-user");
+        long now = Instant.now().getEpochSecond();
+        redisTemplate.opsForZSet().add(PresenceService.LAST_SEEN_KEY, "2", now);
+        redisTemplate.opsForZSet().add(PresenceService.LAST_SEEN_KEY, "3", now);
+        redisTemplate.opsForZSet().add(PresenceService.LAST_SEEN_KEY, "1", now);
+
+        LocationIndexReconciler.Report report = reconciler.reconcile();
+
+        Assertions.assertEquals(6, report.scanned());
+        Assertions.assertEquals(4, report.removed());
+        Assertions.assertEquals(1, report.malformed());
+        Assertions.assertEquals(Set.of("1", "user:4"), redisTemplate.opsForZSet().range(USER_LOCATION_KEY, 0, -1));
+        Assertions.assertEquals(Set.of("1"), redisTemplate.opsForZSet().range(PresenceService.LAST_SEEN_KEY, 0, -1));
+    }
+
+    @Test
+    @DisplayName("전부 활성 유저면 아무것도 지우지 않음")
+    void testReconcileKeepsActiveUsers() {
+        addLocation("1");
+        addLocation("user:4");
+
+        LocationIndexReconciler.Report report = reconciler.reconcile();
+
+        Assertions.assertEquals(2, report.scanned());
+        Assertions.assertEquals(0, report.removed());
+        Assertions.assertEquals(2L, redisTemplate.opsForZSet().zCard(USER_LOCATION_KEY));
+    }
+}
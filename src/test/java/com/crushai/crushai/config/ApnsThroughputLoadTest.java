@@ -0,0 +1,168 @@
+package com.crushai.crushai.config;
+
+import com.crushai.crushai.entity.DeviceToken;
+import com.crushai.crushai.entity.DeviceType;
+import com.crushai.crushai.entity.TokenStatus;
+import com.crushai.crushai.repository.DeviceTokenRepository;
+import com.crushai.crushai.service.DeviceService;
+import com.crushai.crushai.service.DeviceTokenStatsBuffer;
+import com.crushai.crushai.service.PushNotificationDispatcher;
+import com.eatthepath.pushy.apns.ApnsClient;
+import com.eatthepath.pushy.apns.auth.ApnsSigningKey;
+import com.eatthepath.pushy.apns.server.AcceptAllPushNotificationHandlerFactory;
+import com.eatthepath.pushy.apns.server.MockApnsServer;
+import com.eatthepath.pushy.apns.server.MockApnsServerBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.net.ServerSocket;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * APNs 전송 처리량 측정 (Pushy MockApnsServer 대상, 외부 네트워크 없음)
+ *
+ * 기본 test 에서는 제외됨 - 실행: ./gradlew loadTest
+ * 연결 수 / 이벤트 루프 스레드 / in-flight 창을 바꿔 가며 apns.* 설정값을 정할 때 사용
+ */
+@Tag("load")
+class ApnsThroughputLoadTest {
+
+    private static final int RECIPIENTS = 5_000;
+    private static final int DEVICES_PER_RECIPIENT = 2;
+    private static final int CONCURRENT_CONNECTIONS = 4;
+    private static final int EVENT_LOOP_THREADS = 4;
+    private static final int MAX_IN_FLIGHT = 2_000;
+
+    private NioEventLoopGroup serverEventLoopGroup;
+    private NioEventLoopGroup clientEventLoopGroup;
+    private MockApnsServer server;
+    private ApnsClient client;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        File certificate = new File(getClass().getResource("/apns/mock-server.crt").toURI());
+        File privateKey = new File(getClass().getResource("/apns/mock-server.key").toURI());
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        serverEventLoopGroup = new NioEventLoopGroup(2);
+        server = new MockApnsServerBuilder()
+                .setServerCredentials(certificate, privateKey, null)
+                .setHandlerFactory(new AcceptAllPushNotificationHandlerFactory())
+                .setEventLoopGroup(serverEventLoopGroup)
+                .build();
+        server.start(port).get();
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        ApnsSigningKey signingKey = new ApnsSigningKey("KEYID12345", "TEAMID1234",
+                (ECPrivateKey) generator.generateKeyPair().getPrivate());
+
+        clientEventLoopGroup = new NioEventLoopGroup(EVENT_LOOP_THREADS);
+        client = ApnsConfig.clientBuilder(clientEventLoopGroup, CONCURRENT_CONNECTIONS,
+                        new ApnsMetricsListener(meterRegistry))
+                .setApnsServer("localhost", port)
+                .setTrustedServerCertificateChain(certificate)
+                .setSigningKey(signingKey)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (client != null) {
+            client.close().get();
+        }
+        if (server != null) {
+            server.shutdown().get();
+        }
+        if (clientEventLoopGroup != null) {
+            clientEventLoopGroup.shutdownGracefully().await();
+        }
+        if (serverEventLoopGroup != null) {
+            serverEventLoopGroup.shutdownGracefully().await();
+        }
+    }
+
+    @Test
+    @DisplayName("다중 디바이스 알림 일괄 전송 처리량")
+    @SuppressWarnings("unchecked")
+    void testDispatchThroughput() throws Exception {
+        List<DeviceToken> tokens = new ArrayList<>(RECIPIENTS * DEVICES_PER_RECIPIENT);
+        Map<Long, PushNotificationDispatcher.PushMessage> messages = new HashMap<>();
+        for (long userId = 1; userId <= RECIPIENTS; userId++) {
+            messages.put(userId, new PushNotificationDispatcher.PushMessage(
+                    "New Like! 💕", "Someone likes you!", "like", String.valueOf(userId + 1)));
+            for (int device = 0; device < DEVICES_PER_RECIPIENT; device++) {
+                tokens.add(DeviceToken.builder()
+                        .userId(userId)
+                        .deviceToken(String.format("%062x%02x", userId, device))
+                        .deviceType(DeviceType.IOS)
+                        .status(TokenStatus.ACTIVE)
+                        .build());
+            }
+        }
+
+        DeviceTokenRepository deviceTokenRepository = mock(DeviceTokenRepository.class);
+        DeviceService deviceService = mock(DeviceService.class);
+        DeviceTokenStatsBuffer tokenStatsBuffer = new DeviceTokenStatsBuffer(deviceService, meterRegistry);
+        given(deviceTokenRepository.findByUserIdInAndStatus(anyCollection(), eq(TokenStatus.ACTIVE))).willReturn(tokens);
+
+        PushNotificationDispatcher dispatcher = new PushNotificationDispatcher(Optional.of(client),
+                deviceTokenRepository, tokenStatsBuffer, MAX_IN_FLIGHT, Duration.ofSeconds(30), meterRegistry);
+        ReflectionTestUtils.setField(dispatcher, "apnsTopic", "com.crushai.test");
+
+        long startedAt = System.nanoTime();
+        int sent = dispatcher.dispatchAll(messages);
+        while (dispatcher.inFlightCount() > 0) {
+            Thread.sleep(5);
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+
+        tokenStatsBuffer.flushStats();
+
+        System.out.printf("APNs mock throughput: %d notifications in %.2fs (%.0f/s), connections=%d, in-flight=%d%n",
+                sent, seconds, sent / seconds, CONCURRENT_CONNECTIONS, MAX_IN_FLIGHT);
+        System.out.printf("acknowledged mean: %.2fms (max %.2fms), acquire max: %.2fms%n",
+                meterRegistry.get("apns.notifications.acknowledged").timer().mean(TimeUnit.MILLISECONDS),
+                meterRegistry.get("apns.notifications.acknowledged").timer().max(TimeUnit.MILLISECONDS),
+                meterRegistry.get("apns.dispatch.acquire").timer().max(TimeUnit.MILLISECONDS));
+
+        assertThat(sent).isEqualTo(tokens.size());
+        assertThat(meterRegistry.get("apns.notifications.sent").counter().count()).isEqualTo(tokens.size());
+
+        ArgumentCaptor<Collection<String>> successes = ArgumentCaptor.forClass(Collection.class);
+        verify(deviceService, atLeastOnce()).recordTokenSuccesses(successes.capture());
+        assertThat(successes.getAllValues().stream().mapToInt(Collection::size).sum()).isEqualTo(tokens.size());
+    }
+}
@@ -0,0 +1,295 @@
+package com.crushai.crushai.config;
+
+import com.crushai.crushai.entity.DeviceToken;
+import com.crushai.crushai.entity.DeviceType;
+import com.crushai.crushai.entity.Role;
+import com.crushai.crushai.entity.TokenStatus;
+import com.crushai.crushai.entity.UserEntity;
+import com.crushai.crushai.entity.UserInfoEntity;
+import com.crushai.crushai.repository.DeviceTokenRepository;
+import com.crushai.crushai.repository.UserInfoRepository;
+import com.crushai.crushai.service.DeviceTokenStatsBuffer;
+import com.crushai.crushai.service.NotificationDigestService;
+import com.crushai.crushai.service.NotificationService;
+import com.crushai.crushai.service.PushNotificationDispatcher;
+import com.eatthepath.pushy.apns.ApnsClient;
+import com.eatthepath.pushy.apns.auth.ApnsSigningKey;
+import com.eatthepath.pushy.apns.server.MockApnsServer;
+import com.eatthepath.pushy.apns.server.MockApnsServerBuilder;
+import com.eatthepath.pushy.apns.server.PushNotificationHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 좋아요 / 매칭 알림 파이프라인 부하 측정 (NotificationService → PushNotificationDispatcher → Pushy → MockApnsServer)
+ *
+ * 기본 test 에서는 제외됨 - 실행: ./gradlew loadTest
+ * 초당 좋아요 / 매칭 수, 실행 시간, 수신자 / 디바이스 수는 시스템 프로퍼티로 조절
+ *   -Dload.like-rate=500 -Dload.match-rate=100 -Dload.duration=PT10S -Dload.recipients=2000 -Dload.devices-per-recipient=3
+ * (gradle 에서는 loadTest { systemProperties System.properties.findAll { it.key.startsWith('load.') } } 등으로 전달)
+ *
+ * 리포트
+ * - end-to-end 지연: NotificationService 호출 → MockApnsServer 도착 (디바이스별 p50 / p95 / p99 / max)
+ * - APNs 응답 대기 수 (apns.dispatch.in-flight) 최대 / 평균
+ * - 힙 사용량 시작 / 최대 / 종료
+ * 좋아요 묶음(NotificationDigestService)은 mock - 모든 좋아요가 바로 전송되는 최악의 경우를 측정
+ */
+@Tag("load")
+class NotificationPipelineLoadTest {
+
+    private static final int LIKE_RATE = Integer.getInteger("load.like-rate", 500);
+    private static final int MATCH_RATE = Integer.getInteger("load.match-rate", 100);
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT10S"));
+    private static final int RECIPIENTS = Integer.getInteger("load.recipients", 2_000);
+    private static final int DEVICES_PER_RECIPIENT = Integer.getInteger("load.devices-per-recipient", 3);
+    private static final int CONCURRENT_CONNECTIONS = 4;
+    private static final int EVENT_LOOP_THREADS = 4;
+    private static final int MAX_IN_FLIGHT = 2_000;
+    private static final long TICK_MILLIS = 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    // 알림마다 보낸 유저 ID 를 새로 발급하고 호출 시각을 기록 - 서버에서 페이로드의 userId 로 찾아 지연 계산
+    private final AtomicLong senderSequence = new AtomicLong(1_000_000_000L);
+    private final Map<Long, Long> startedAt = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Long> latenciesNanos = new ConcurrentLinkedQueue<>();
+
+    private NioEventLoopGroup serverEventLoopGroup;
+    private NioEventLoopGroup clientEventLoopGroup;
+    private MockApnsServer server;
+    private ApnsClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        File certificate = new File(getClass().getResource("/apns/mock-server.crt").toURI());
+        File privateKey = new File(getClass().getResource("/apns/mock-server.key").toURI());
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        PushNotificationHandler recordingHandler = (headers, payload) -> recordDelivery(payload.toString(StandardCharsets.UTF_8));
+
+        serverEventLoopGroup = new NioEventLoopGroup(2);
+        server = new MockApnsServerBuilder()
+                .setServerCredentials(certificate, privateKey, null)
+                .setHandlerFactory(sslSession -> recordingHandler)
+                .setEventLoopGroup(serverEventLoopGroup)
+                .build();
+        server.start(port).get();
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        ApnsSigningKey signingKey = new ApnsSigningKey("KEYID12345", "TEAMID1234",
+                (ECPrivateKey) generator.generateKeyPair().getPrivate());
+
+        clientEventLoopGroup = new NioEventLoopGroup(EVENT_LOOP_THREADS);
+        client = ApnsConfig.clientBuilder(clientEventLoopGroup, CONCURRENT_CONNECTIONS,
+                        new ApnsMetricsListener(meterRegistry))
+                .setApnsServer("localhost", port)
+                .setTrustedServerCertificateChain(certificate)
+                .setSigningKey(signingKey)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (client != null) {
+            client.close().get();
+        }
+        if (server != null) {
+            server.shutdown().get();
+        }
+        if (clientEventLoopGroup != null) {
+            clientEventLoopGroup.shutdownGracefully().await();
+        }
+        if (serverEventLoopGroup != null) {
+            serverEventLoopGroup.shutdownGracefully().await();
+        }
+    }
+
+    @Test
+    @DisplayName("좋아요 / 매칭 알림 처리량과 end-to-end 지연")
+    void testNotificationPipeline() throws Exception {
+        Map<Long, List<DeviceToken>> tokensByUser = new HashMap<>();
+        for (long userId = 1; userId <= RECIPIENTS; userId++) {
+            List<DeviceToken> tokens = new ArrayList<>(DEVICES_PER_RECIPIENT);
+            for (int device = 0; device < DEVICES_PER_RECIPIENT; device++) {
+                tokens.add(DeviceToken.builder()
+                        .userId(userId)
+                        .deviceToken(String.format("%062x%02x", userId, device))
+                        .deviceType(DeviceType.IOS)
+                        .status(TokenStatus.ACTIVE)
+                        .build());
+            }
+            tokensByUser.put(userId, tokens);
+        }
+
+        DeviceTokenRepository deviceTokenRepository = mock(DeviceTokenRepository.class);
+        given(deviceTokenRepository.findByUserIdInAndStatus(anyCollection(), eq(TokenStatus.ACTIVE)))
+                .willAnswer(invocation -> {
+                    Collection<Long> userIds = invocation.getArgument(0);
+                    return userIds.stream().flatMap(id -> tokensByUser.getOrDefault(id, List.of()).stream()).toList();
+                });
+        NotificationDigestService notificationDigestService = mock(NotificationDigestService.class);
+        given(notificationDigestService.record(any(), anyLong(), anyLong(), anyString())).willReturn(true);
+
+        PushNotificationDispatcher dispatcher = new PushNotificationDispatcher(Optional.of(client),
+                deviceTokenRepository, mock(DeviceTokenStatsBuffer.class), MAX_IN_FLIGHT, Duration.ofSeconds(1), meterRegistry);
+        ReflectionTestUtils.setField(dispatcher, "apnsTopic", "com.crushai.test");
+        NotificationService notificationService = new NotificationService(dispatcher, notificationDigestService,
+                mock(UserInfoRepository.class));
+
+        // 응답 대기 수 / 힙 사용량 샘플링
+        AtomicInteger maxInFlight = new AtomicInteger();
+        AtomicLong inFlightSum = new AtomicLong();
+        AtomicInteger samples = new AtomicInteger();
+        AtomicLong peakHeap = new AtomicLong();
+        long heapAtStart = memory.getHeapMemoryUsage().getUsed();
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            int inFlight = dispatcher.inFlightCount();
+            maxInFlight.accumulateAndGet(inFlight, Math::max);
+            inFlightSum.addAndGet(inFlight);
+            samples.incrementAndGet();
+            peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+        }, 0, 50, TimeUnit.MILLISECONDS);
+
+        // 좋아요 / 매칭 생성 - tick 마다 목표 누적 수까지 채움 (rate 가 tick 당 1건 미만이어도 맞춰짐)
+        AtomicInteger likes = new AtomicInteger();
+        AtomicInteger matches = new AtomicInteger();
+        ScheduledExecutorService drivers = Executors.newScheduledThreadPool(2);
+        long runStartedAt = System.nanoTime();
+        drivers.scheduleAtFixedRate(() -> {
+            long due = LIKE_RATE * (System.nanoTime() - runStartedAt) / 1_000_000_000L;
+            while (likes.get() < due) {
+                likes.incrementAndGet();
+                notificationService.sendLikeNotification(user(randomRecipient()), user(nextSender()));
+            }
+        }, 0, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        drivers.scheduleAtFixedRate(() -> {
+            long due = MATCH_RATE * (System.nanoTime() - runStartedAt) / 1_000_000_000L;
+            while (matches.get() < due) {
+                matches.incrementAndGet();
+                // 매칭은 양쪽 모두에게 알림
+                notificationService.sendMatchNotification(user(randomRecipient()), user(nextSender()));
+                notificationService.sendMatchNotification(user(randomRecipient()), user(nextSender()));
+            }
+        }, 0, TICK_MILLIS, TimeUnit.MILLISECONDS);
+
+        Thread.sleep(DURATION.toMillis());
+        drivers.shutdown();
+        drivers.awaitTermination(10, TimeUnit.SECONDS);
+        while (dispatcher.inFlightCount() > 0) {
+            Thread.sleep(5);
+        }
+        double seconds = (System.nanoTime() - runStartedAt) / 1e9;
+        sampler.shutdown();
+        sampler.awaitTermination(1, TimeUnit.SECONDS);
+        long heapAtEnd = memory.getHeapMemoryUsage().getUsed();
+
+        long[] latencies = latenciesNanos.stream().mapToLong(Long::longValue).sorted().toArray();
+        int notifications = likes.get() + matches.get() * 2;
+        long dropped = (long) meterRegistry.get("apns.dispatch.dropped").counter().count();
+
+        System.out.printf("Notification pipeline: %d likes/s, %d matches/s for %s, %d recipients x %d devices%n",
+                LIKE_RATE, MATCH_RATE, DURATION, RECIPIENTS, DEVICES_PER_RECIPIENT);
+        System.out.printf("notifications: %d (%.0f/s), deliveries: %d (%.0f/s), dropped: %d%n",
+                notifications, notifications / seconds, latencies.length, latencies.length / seconds, dropped);
+        System.out.printf("end-to-end latency: p50 %.2fms, p95 %.2fms, p99 %.2fms, max %.2fms%n",
+                percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.95),
+                percentileMillis(latencies, 0.99), percentileMillis(latencies, 1.0));
+        System.out.printf("in-flight: max %d, mean %.1f (window %d)%n",
+                maxInFlight.get(), samples.get() == 0 ? 0.0 : (double) inFlightSum.get() / samples.get(), MAX_IN_FLIGHT);
+        System.out.printf("heap used: start %dMB, peak %dMB, end %dMB%n",
+                heapAtStart >> 20, peakHeap.get() >> 20, heapAtEnd >> 20);
+
+        assertThat(notifications).isPositive();
+        assertThat((long) latencies.length).isEqualTo((long) notifications * DEVICES_PER_RECIPIENT - dropped);
+    }
+
+    private void recordDelivery(String payload) {
+        long receivedAt = System.nanoTime();
+        try {
+            long senderId = Long.parseLong(objectMapper.readTree(payload).get("userId").asText());
+            Long sentAt = startedAt.get(senderId);
+            if (sentAt != null) {
+                latenciesNanos.add(receivedAt - sentAt);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Unexpected payload: " + payload, e);
+        }
+    }
+
+    private long randomRecipient() {
+        return ThreadLocalRandom.current().nextLong(1, RECIPIENTS + 1);
+    }
+
+    private long nextSender() {
+        long senderId = senderSequence.incrementAndGet();
+        startedAt.put(senderId, System.nanoTime());
+        return senderId;
+    }
+
+    private UserEntity user(long userId) {
+        UserEntity user = new UserEntity("load" + userId + "@test.com", Role.USER);
+        ReflectionTestUtils.setField(user, "id", userId);
+        user.setUserInfo(UserInfoEntity.builder()
+                .nickname("user" + userId)
+                .photoUrls(List.of())
+                .build());
+        return user;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+}
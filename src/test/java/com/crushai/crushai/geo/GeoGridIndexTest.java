@@ -0,0 +1,125 @@
+package com.crushai.crushai.geo;
+
+import com.crushai.crushai.dto.NearbyUserDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoGridIndexTest {
+
+    @Test
+    @DisplayName("반경 검색 결과가 전수 비교 결과와 같음 (거리순)")
+    void findNearbyMatchesBruteForce() {
+        GeoGridIndex index = new GeoGridIndex(0.1);
+        Random random = new Random(7);
+        int users = 20_000;
+        double[] lats = new double[users];
+        double[] lons = new double[users];
+        for (int i = 0; i < users; i++) {
+            lats[i] = 37.0 + random.nextDouble();
+            lons[i] = 126.5 + random.nextDouble();
+            index.upsert(i, lons[i], lats[i]);
+        }
+
+        for (int q = 0; q < 20; q++) {
+            int center = random.nextInt(users);
+            double radiusKm = 1 + random.nextDouble() * 20;
+
+            List<Long> expected = new ArrayList<>();
+            List<Double> distances = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                double distance = GeoDistance.haversineKm(lats[center], lons[center], lats[i], lons[i]);
+                if (i != center && distance <= radiusKm) {
+                    expected.add((long) i);
+                    distances.add(distance);
+                }
+            }
+
+            List<NearbyUserDto> nearby = index.findNearby(center, radiusKm, Integer.MAX_VALUE);
+
+            assertThat(nearby).extracting(NearbyUserDto::userId).containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(nearby).isSortedAccordingTo(Comparator.comparingDouble(NearbyUserDto::distanceKm));
+        }
+    }
+
+    @Test
+    @DisplayName("이동 / 삭제가 검색 결과에 반영됨")
+    void upsertMovesAndRemoveDeletes() {
+        GeoGridIndex index = new GeoGridIndex(0.1);
+        index.upsert(1L, 127.0, 37.5);
+        index.upsert(2L, 127.01, 37.51);
+
+        assertThat(index.findNearby(1L, 5.0, 10)).extracting(NearbyUserDto::userId).containsExactly(2L);
+
+        index.upsert(2L, 127.5, 37.8);  // 약 50km 이동
+        assertThat(index.findNearby(1L, 5.0, 10)).isEmpty();
+
+        index.upsert(2L, 127.01, 37.51);
+        index.remove(2L);
+        assertThat(index.findNearby(1L, 5.0, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.findNearby(2L, 5.0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("추가 / 이동 / 삭제를 반복해도 유저 수와 검색 결과가 맞음")
+    void churnKeepsIndexConsistent() {
+        GeoGridIndex index = new GeoGridIndex(0.1);
+        Random random = new Random(11);
+        Map<Long, double[]> expected = new HashMap<>();
+
+        for (int step = 0; step < 50_000; step++) {
+            long userId = random.nextInt(2_000);
+            if (random.nextInt(3) < 2) {
+                double lon = 126.5 + random.nextDouble();
+                double lat = 37.0 + random.nextDouble();
+                index.upsert(userId, lon, lat);
+                expected.put(userId, new double[]{lon, lat});
+            } else {
+                index.remove(userId);
+                expected.remove(userId);
+            }
+            assertThat(index.contains(userId)).isEqualTo(expected.containsKey(userId));
+        }
+        assertThat(index.size()).isEqualTo(expected.size());
+
+        double[] center = expected.values().iterator().next();
+        List<Long> inRadius = new ArrayList<>();
+        expected.forEach((userId, position) -> {
+            if (GeoDistance.haversineKm(center[1], center[0], position[1], position[0]) <= 10.0) {
+                inRadius.add(userId);
+            }
+        });
+        assertThat(index.findNearby(center[0], center[1], 10.0, Integer.MAX_VALUE))
+                .extracting(NearbyUserDto::userId).containsExactlyInAnyOrderElementsOf(inRadius);
+    }
+
+    @Test
+    @DisplayName("경도 ±180 경계를 넘어 검색")
+    void findNearbyAcrossAntimeridian() {
+        GeoGridIndex index = new GeoGridIndex(0.1);
+        index.upsert(1L, 179.99, 10.0);
+        index.upsert(2L, -179.99, 10.0);
+
+        assertThat(index.findNearby(1L, 10.0, 10)).extracting(NearbyUserDto::userId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Redis GEO 점수 디코딩 (GEOADD 13.361389 38.115556 → 3479099956230698)")
+    void decodesRedisGeoScore() {
+        long score = 3479099956230698L;
+
+        assertThat(GeoHashCodec.encode(38.115556, 13.361389)).isEqualTo(score);
+        assertThat(GeoHashCodec.decodeLongitude(score)).isCloseTo(13.361389, within(1e-5));
+        assertThat(GeoHashCodec.decodeLatitude(score)).isCloseTo(38.115556, within(1e-5));
+    }
+}
@@ -0,0 +1,29 @@
+package com.crushai.crushai.geo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LocationMemberCodecTest {
+
+    @Test
+    @DisplayName("새 형식 / 이전 형식 member 모두 userId 로 파싱")
+    void parsesBothFormats() {
+        assertThat(LocationMemberCodec.member(42L)).isEqualTo("42");
+        assertThat(LocationMemberCodec.legacyMember(42L)).isEqualTo("user:42");
+
+        assertThat(LocationMemberCodec.userId("42")).isEqualTo(42L);
+        assertThat(LocationMemberCodec.userId("user:42")).isEqualTo(42L);
+        assertThat(LocationMemberCodec.isLegacy("user:42")).isTrue();
+        assertThat(LocationMemberCodec.isLegacy("42")).isFalse();
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않으면 NumberFormatException")
+    void rejectsMalformedMember() {
+        assertThrows(NumberFormatException.class, () -> LocationMemberCodec.userId("user:"));
+        assertThrows(NumberFormatException.class, () -> LocationMemberCodec.userId("guest:1"));
+    }
+}
@@ -0,0 +1,65 @@
+package com.crushai.crushai.geo;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class OfflineReverseGeocoderTest {
+
+    // GeoNames cities 파일 형식 (geonameid, name, asciiname, alternatenames, lat, lon, class, code, country, cc2, admin1, ...)
+    private static final String CITIES = String.join("\n",
+            "5368361\tLos Angeles\tLos Angeles\t\t34.05223\t-118.24368\tP\tPPLA2\tUS\t\tCA\t037\t\t\t3971883",
+            "5391959\tSan Francisco\tSan Francisco\t\t37.77493\t-122.41942\tP\tPPLA2\tUS\t\tCA\t075\t\t\t864816",
+            "5128581\tNew York City\tNew York City\t\t40.71427\t-74.00597\tP\tPPL\tUS\t\tNY\t\t\t\t8175133",
+            "1835848\tSeoul\tSeoul\t\t37.566\t126.9784\tP\tPPLC\tKR\t\t11\t\t\t\t10349312",
+            "1838524\tBusan\tBusan\t\t35.10168\t129.03004\tP\tPPLA\tKR\t\t10\t\t\t\t3678555",
+            "2193733\tAuckland\tAuckland\t\t-36.84853\t174.76349\tP\tPPLA\tNZ\t\tE7\t\t\t\t417910",
+            "4035413\tApia\tApia\t\t-13.83333\t-171.76666\tP\tPPLC\tWS\t\t11\t\t\t\t40407");
+
+    private static final String ADMIN1 = String.join("\n",
+            "US.CA\tCalifornia\tCalifornia\t5332921",
+            "KR.11\tSeoul\tSeoul\t1835847",
+            "KR.10\tBusan\tBusan\t1838519",
+            "NZ.E7\tAuckland\tAuckland\t2193734");
+
+    private static OfflineReverseGeocoder geocoder;
+
+    @BeforeAll
+    static void load() throws Exception {
+        geocoder = OfflineReverseGeocoder.load(
+                new BufferedReader(new StringReader(CITIES)), new BufferedReader(new StringReader(ADMIN1)));
+    }
+
+    @Test
+    @DisplayName("가장 가까운 도시를 \"City, ST\" 형식으로 반환")
+    void findsNearestCity() {
+        OfflineReverseGeocoder.Place place = geocoder.nearest(34.10, -118.30).orElseThrow();
+
+        assertThat(place.name()).isEqualTo("Los Angeles, CA");
+        assertThat(place.distanceKm()).isCloseTo(
+                GeoDistance.haversineKm(34.10, -118.30, 34.05223, -118.24368), within(1e-6));
+    }
+
+    @Test
+    @DisplayName("미국 외 지역은 1단계 행정구역명 사용 (도시명과 같으면 생략)")
+    void formatsNonUsNames() {
+        assertThat(geocoder.nearest(37.50, 127.05).orElseThrow().name()).isEqualTo("Seoul");
+        assertThat(geocoder.nearest(-36.9, 174.8).orElseThrow().name()).isEqualTo("Auckland");
+        assertThat(geocoder.nearest(40.7, -74.0).orElseThrow().name()).isEqualTo("New York City, NY");
+    }
+
+    @Test
+    @DisplayName("경도 ±180 경계 너머의 도시도 찾음")
+    void searchesAcrossAntimeridian() {
+        // 서경 179.9도 - 가장 가까운 도시는 경계 너머 동경의 오클랜드가 아니라 같은 쪽 아피아
+        assertThat(geocoder.nearest(-14.0, -179.9).orElseThrow().name()).isEqualTo("Apia");
+        // 동경 179.9도, 남위 35도 - 오클랜드가 더 가까움
+        assertThat(geocoder.nearest(-35.0, 179.9).orElseThrow().name()).isEqualTo("Auckland");
+    }
+}
@@ -0,0 +1,95 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.entity.LoginType;
+import com.crushai.crushai.entity.Role;
+import com.crushai.crushai.entity.UserEntity;
+import com.crushai.crushai.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AuthPrincipalCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private AuthPrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new AuthPrincipalCache(userRepository, new SimpleMeterRegistry(), 1000, Duration.ofMinutes(1));
+    }
+
+    private UserEntity user(Long userId, Role role) {
+        UserEntity user = new UserEntity("user" + userId + "@test.com", role, LoginType.GOOGLE);
+        ReflectionTestUtils.setField(user, "id", userId);
+        return user;
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 DB 를 다시 조회하지 않는다")
+    void get_cachesPrincipal() {
+        given(userRepository.findById(1L)).willReturn(Optional.of(user(1L, Role.USER)));
+
+        Optional<AuthPrincipalCache.Principal> first = principalCache.get(1L);
+        Optional<AuthPrincipalCache.Principal> second = principalCache.get(1L);
+
+        assertThat(first).contains(new AuthPrincipalCache.Principal(1L, "user1@test.com", Role.USER));
+        assertThat(second).isEqualTo(first);
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("탈퇴한 유저는 empty, invalidate 후에는 DB 기준으로 다시 로딩")
+    void invalidate_reloadsFromDatabase() {
+        UserEntity deleted = user(1L, Role.USER);
+        deleted.deleteUser(Instant.now().plus(Duration.ofDays(30)));
+        given(userRepository.findById(1L)).willReturn(Optional.of(deleted));
+
+        assertThat(principalCache.get(1L)).isEmpty();
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(user(1L, Role.PREMIUM)));
+        assertThat(principalCache.get(1L)).isEmpty(); // 캐시된 결과
+
+        principalCache.invalidate(1L);
+        assertThat(principalCache.get(1L)).map(AuthPrincipalCache.Principal::role).contains(Role.PREMIUM);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후에 제거")
+    void invalidateAfterCommit_waitsForCommit() {
+        given(userRepository.findById(1L)).willReturn(Optional.of(user(1L, Role.USER)));
+        principalCache.get(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            principalCache.invalidateAfterCommit(1L);
+            principalCache.get(1L);
+            verify(userRepository, times(1)).findById(1L); // 커밋 전에는 캐시 유지
+
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        principalCache.get(1L);
+        verify(userRepository, times(2)).findById(1L);
+    }
+}
@@ -5,7 +5,6 @@ import com.crushai.crushai.entity.LoginType;
 import com.crushai.crushai.entity.Role;
 import com.crushai.crushai.entity.UserEntity;
 import com.crushai.crushai.jwt.JWTUtil;
-import com.crushai.crushai.repository.RefreshRepository;
 import com.crushai.crushai.repository.UserRepository;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +29,7 @@ import static org.mockito.Mockito.*;
 
 import com.crushai.crushai.auth.AppleIdTokenValidator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,7 +41,7 @@ class AuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private RefreshRepository refreshRepository;
+    private RefreshTokenStore refreshTokenStore;
 
     @Mock
     private JWTUtil jwtUtil;
@@ -58,6 +58,12 @@ class AuthServiceTest {
     @Mock
     private AppleIdTokenValidator appleValidator;
 
+    @Mock
+    private DistributedRateLimiter rateLimiter;
+
+    @Mock
+    private AuthPrincipalCache principalCache;
+
     @Mock
     private ObjectMapper objectMapper;
 
@@ -68,7 +74,7 @@ class AuthServiceTest {
         when(restClientBuilder.baseUrl(anyString())).thenReturn(restClientBuilder);
         when(restClientBuilder.build()).thenReturn(restClient);
 
-        authService = new AuthService(userRepository, refreshRepository, jwtUtil, googleValidator, appleValidator, restClientBuilder, objectMapper);
+        authService = new AuthService(userRepository, refreshTokenStore, jwtUtil, googleValidator, appleValidator, restClientBuilder, objectMapper, rateLimiter, principalCache);
     }
 
     private GoogleIdToken.Payload mockGooglePayload(String email, String googleId) {
@@ -141,7 +147,12 @@ class AuthServiceTest {
         // isReactivated 플래그가 true로 반환되는지 확인
         assertThat(tokens.get("isReactivated")).isEqualTo("true");
 
+        // 복구 상태가 저장된 뒤 인증 캐시가 비워졌는지 확인
+        InOrder inOrder = inOrder(userRepository, principalCache);
+        inOrder.verify(userRepository).save(deletedUser);
+        inOrder.verify(principalCache).invalidate(deletedUser.getId());
+
         // refresh token이 저장되었는지 확인
-        verify(refreshRepository).save(any());
+        verify(refreshTokenStore).save(any(), any());
     }
 }
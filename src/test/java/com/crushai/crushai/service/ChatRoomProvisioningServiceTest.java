@@ -0,0 +1,112 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.client.ChatServiceClient;
+import com.crushai.crushai.entity.Match;
+import com.crushai.crushai.enums.MatchType;
+import com.crushai.crushai.repository.MatchRepository;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomProvisioningServiceTest {
+
+    @Mock
+    private ChatServiceClient chatServiceClient;
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @InjectMocks
+    private ChatRoomProvisioningService provisioningService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(provisioningService, "retryBatchSize", 100);
+        ReflectionTestUtils.setField(provisioningService, "retryIntervalMs", 60_000L);
+        ReflectionTestUtils.setField(provisioningService, "maxAttempts", 20);
+        given(chatServiceClient.isChatRoomCreationAvailable()).willReturn(true);
+    }
+
+    private Match pending(Long matchId, int attempts) {
+        return Match.builder()
+                .id(matchId)
+                .user1Id(1L)
+                .user2Id(matchId + 100)
+                .matchType(MatchType.SWIPE)
+                .chatRoomId("room-" + matchId)
+                .isActive(true)
+                .chatRoomPending(true)
+                .chatRoomAttempts(attempts)
+                .build();
+    }
+
+    @Test
+    @DisplayName("실패한 매칭은 실패 기록 후 건너뛰고 뒤의 매칭을 계속 재시도한다")
+    void retry_failedMatchDoesNotBlockOthers() {
+        given(matchRepository.findChatRoomPending(any(), any(), eq(20), any()))
+                .willReturn(List.of(pending(1L, 2), pending(2L, 0)));
+        given(chatServiceClient.createChatRoomWithId("room-1", 1L, 101L, 1L))
+                .willThrow(new RuntimeException("Failed to create chat room: 400 Bad Request"));
+        given(chatServiceClient.createChatRoomWithId("room-2", 1L, 102L, 2L)).willReturn("room-2");
+
+        int created = provisioningService.retryPendingChatRooms();
+
+        assertThat(created).isEqualTo(1);
+        verify(matchRepository).markChatRoomCreated(2L);
+
+        // 3번째 실패 → 재시도 주기 * 4 뒤로 미룸
+        ArgumentCaptor<LocalDateTime> nextRetryAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(matchRepository).recordChatRoomFailure(eq(1L), nextRetryAt.capture());
+        assertThat(nextRetryAt.getValue())
+                .isAfter(LocalDateTime.now(Match.TIME_ZONE).plusMinutes(3))
+                .isBefore(LocalDateTime.now(Match.TIME_ZONE).plusMinutes(5));
+    }
+
+    @Test
+    @DisplayName("서킷이 열리면 이번 회차를 중단하고 실패로 기록하지 않는다")
+    void retry_stopsOnCircuitOpen() {
+        given(matchRepository.findChatRoomPending(any(), any(), anyInt(), any()))
+                .willReturn(List.of(pending(1L, 0), pending(2L, 0)));
+        given(chatServiceClient.createChatRoomWithId("room-1", 1L, 101L, 1L))
+                .willThrow(new RuntimeException("Chat service unavailable",
+                        CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("test"))));
+
+        int created = provisioningService.retryPendingChatRooms();
+
+        assertThat(created).isZero();
+        verify(chatServiceClient, never()).createChatRoomWithId(eq("room-2"), any(), any(), any());
+        verify(matchRepository, never()).recordChatRoomFailure(any(), any());
+    }
+
+    @Test
+    @DisplayName("최근 매칭(커밋 후 생성 진행 중)은 재시도 대상에서 제외한다")
+    void retry_excludesRecentMatches() {
+        given(matchRepository.findChatRoomPending(any(), any(), anyInt(), any())).willReturn(List.of());
+
+        provisioningService.retryPendingChatRooms();
+
+        ArgumentCaptor<LocalDateTime> createdBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(matchRepository).findChatRoomPending(createdBefore.capture(), any(), eq(20), any());
+        assertThat(createdBefore.getValue()).isBefore(LocalDateTime.now(Match.TIME_ZONE).minusSeconds(59));
+    }
+}
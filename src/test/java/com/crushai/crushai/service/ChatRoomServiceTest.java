@@ -0,0 +1,285 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.client.ChatServiceClient;
+import com.crushai.crushai.config.ChatServiceResilienceConfig;
+import com.crushai.crushai.dto.ChatRoomPageResponse;
+import com.crushai.crushai.dto.ChatRoomResponse;
+import com.crushai.crushai.dto.ChatSummaryUpdateRequest;
+import com.crushai.crushai.entity.Match;
+import com.crushai.crushai.entity.Role;
+import com.crushai.crushai.entity.UserEntity;
+import com.crushai.crushai.entity.UserInfoEntity;
+import com.crushai.crushai.enums.MatchType;
+import com.crushai.crushai.repository.MatchRepository;
+import com.crushai.crushai.repository.UserRepository;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ChatRoomService 테스트
+ *
+ * 채팅 서비스는 로컬 스텁 HTTP 서버로 대체 (batch-info 요청 본문을 기록)
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatRoomServiceTest {
+
+    private static final Long MY_USER_ID = 1L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 11, 24, 10, 0);
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ChatSummaryCacheService chatSummaryCacheService;
+
+    @Mock
+    private UserLocationService userLocationService;
+
+    private HttpServer stubChatService;
+    private final List<String> batchInfoRequests = new CopyOnWriteArrayList<>();
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private ChatRoomService chatRoomService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubChatService = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubChatService.createContext("/api/internal/chat/rooms/batch-info", exchange -> {
+            batchInfoRequests.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+
+            byte[] body = """
+                    {"room-b": {"lastMessage": "from chat service", "lastMessageAt": "2024-11-23T15:30:00Z", "unreadCount": 2}}
+                    """.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        stubChatService.start();
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + stubChatService.getAddress().getPort())
+                .build();
+
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        ChatServiceClient chatServiceClient = new ChatServiceClient(
+                webClient, circuitBreakerRegistry, BulkheadRegistry.ofDefaults(), new SimpleMeterRegistry());
+
+        chatRoomService = new ChatRoomService(
+                matchRepository, userRepository, chatServiceClient, chatSummaryCacheService, userLocationService);
+        ReflectionTestUtils.setField(chatRoomService, "infoBatchSize", 50);
+        ReflectionTestUtils.setField(chatRoomService, "infoDeadlineMs", 3000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubChatService.stop(0);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 채팅방만 채팅 서비스에 조회하고, 조회 결과를 캐시에 저장한다")
+    void getMyChatRooms_requestsOnlyCacheMisses() {
+        // given
+        given(matchRepository.findActivePageAsUser1(eq(MY_USER_ID), any(), any(), any()))
+                .willReturn(List.of(match(10L, 2L, "room-a", NOW)));
+        given(matchRepository.findActivePageAsUser2(eq(MY_USER_ID), any(), any(), any()))
+                .willReturn(List.of(match(11L, 3L, "room-b", NOW.minusHours(1))));
+        given(userRepository.findAllById(anyList()))
+                .willReturn(List.of(user(2L, "alice"), user(3L, "bob")));
+        given(chatSummaryCacheService.getSummaries(List.of("room-a", "room-b"), MY_USER_ID))
+                .willReturn(Map.of("room-a", ChatServiceClient.ChatRoomInfo.builder()
+                        .lastMessage("from cache")
+                        .lastMessageAt("2024-11-24T10:00:00Z")
+                        .unreadCount(1)
+                        .build()));
+        given(userLocationService.getDistancesFrom(eq(MY_USER_ID), any()))
+                .willReturn(Map.of(2L, 1.5));
+
+        // when
+        List<ChatRoomResponse> chatRooms = chatRoomService.getMyChatRooms(MY_USER_ID, null, 20).getChatRooms();
+
+        // then: room-b 만 조회 중 표시 후 채팅 서비스에 요청
+        verify(chatSummaryCacheService).markPending(List.of("room-b"), MY_USER_ID);
+        assertThat(batchInfoRequests).hasSize(1);
+        assertThat(batchInfoRequests.get(0)).contains("room-b").doesNotContain("room-a");
+
+        assertThat(chatRooms).extracting(ChatRoomResponse::getChatRoomId).containsExactly("room-a", "room-b");
+        assertThat(chatRooms.get(0).getLastMessage()).isEqualTo("from cache");
+        assertThat(chatRooms.get(1).getLastMessage()).isEqualTo("from chat service");
+        assertThat(chatRooms.get(1).getUnreadCount()).isEqualTo(2);
+        assertThat(chatRooms).noneMatch(ChatRoomResponse::isInfoStale);
+
+        // 거리는 위치가 있는 상대방만
+        assertThat(chatRooms.get(0).getOtherUser().getDistanceKm()).isEqualTo(1.5);
+        assertThat(chatRooms.get(1).getOtherUser().getDistanceKm()).isNull();
+
+        verify(chatSummaryCacheService).backfill(
+                eq(Map.of("room-b", ChatServiceClient.ChatRoomInfo.builder()
+                        .lastMessage("from chat service")
+                        .lastMessageAt("2024-11-23T15:30:00Z")
+                        .unreadCount(2)
+                        .build())),
+                eq(MY_USER_ID));
+    }
+
+    @Test
+    @DisplayName("모든 채팅방이 캐시에 있으면 채팅 서비스를 호출하지 않는다")
+    void getMyChatRooms_allCached_skipsChatService() {
+        // given
+        given(matchRepository.findActivePageAsUser1(eq(MY_USER_ID), any(), any(), any()))
+                .willReturn(List.of(match(10L, 2L, "room-a", NOW)));
+        given(matchRepository.findActivePageAsUser2(eq(MY_USER_ID), any(), any(), any()))
+                .willReturn(List.of());
+        given(userRepository.findAllById(anyList()))
+                .willReturn(List.of(user(2L, "alice")));
+        given(chatSummaryCacheService.getSummaries(List.of("room-a"), MY_USER_ID))
+                .willReturn(Map.of("room-a", ChatServiceClient.ChatRoomInfo.builder()
+                        .lastMessage("from cache")
+                        .lastMessageAt("2024-11-24T10:00:00Z")
+                        .unreadCount(0)
+                        .build()));
+
+        // when
+        List<ChatRoomResponse> chatRooms = chatRoomService.getMyChatRooms(MY_USER_ID, null, 20).getChatRooms();
+
+        // then
+        assertThat(batchInfoRequests).isEmpty();
+        assertThat(chatRooms).hasSize(1);
+        assertThat(chatRooms.get(0).getLastMessage()).isEqualTo("from cache");
+        verify(chatSummaryCacheService).backfill(Map.of(), MY_USER_ID);
+    }
+
+    @Test
+    @DisplayName("양쪽 매칭을 마지막 활동 순으로 병합하고, 다음 페이지 커서로 이어서 조회한다")
+    void getMyChatRooms_paginatesByLastActivity() {
+        // given: 내가 user1 인 매칭 2개, user2 인 매칭 1개
+        Match newest = match(10L, 2L, "room-a", NOW);
+        Match middle = match(12L, 3L, "room-b", NOW.minusHours(1));
+        Match oldest = match(11L, 4L, "room-c", NOW.minusHours(2));
+        given(matchRepository.findActivePageAsUser1(eq(MY_USER_ID), any(), any(), any()))
+                .willReturn(List.of(newest, oldest));
+        given(matchRepository.findActivePageAsUser2(eq(MY_USER_ID), any(), any(), any()))
+                .willReturn(List.of(middle));
+        given(userRepository.findAllById(anyList()))
+                .willReturn(List.of(user(2L, "alice"), user(3L, "bob")));
+        given(chatSummaryCacheService.getSummaries(anyList(), eq(MY_USER_ID)))
+                .willReturn(Map.of(
+                        "room-a", ChatServiceClient.ChatRoomInfo.builder().unreadCount(0).build(),
+                        "room-b", ChatServiceClient.ChatRoomInfo.builder().unreadCount(0).build()));
+
+        // when: 페이지 크기 2
+        ChatRoomPageResponse page = chatRoomService.getMyChatRooms(MY_USER_ID, null, 2);
+
+        // then
+        assertThat(page.getChatRooms()).extracting(ChatRoomResponse::getChatRoomId).containsExactly("room-a", "room-b");
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(page.getNextCursor()).isNotNull();
+
+        // when: 다음 페이지는 마지막으로 받은 매칭(room-b) 이후부터 조회
+        chatRoomService.getMyChatRooms(MY_USER_ID, page.getNextCursor(), 2);
+
+        // then
+        verify(matchRepository).findActivePageAsUser1(
+                eq(MY_USER_ID), eq(middle.getLastActivityAt()), eq(12L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("채팅 서비스 서킷이 열려 있으면 호출하지 않고 즉시 infoStale 로 응답한다")
+    void getMyChatRooms_circuitOpen_failsFast() {
+        // given
+        circuitBreakerRegistry.circuitBreaker(ChatServiceResilienceConfig.BATCH_CHAT_ROOM_INFO).transitionToOpenState();
+        given(matchRepository.findActivePageAsUser1(eq(MY_USER_ID), any(), any(), any()))
+                .willReturn(List.of(match(10L, 2L, "room-a", NOW)));
+        given(matchRepository.findActivePageAsUser2(eq(MY_USER_ID), any(), any(), any()))
+                .willReturn(List.of());
+        given(userRepository.findAllById(anyList()))
+                .willReturn(List.of(user(2L, "alice")));
+        given(chatSummaryCacheService.getSummaries(List.of("room-a"), MY_USER_ID))
+                .willReturn(Map.of());
+
+        // when
+        List<ChatRoomResponse> chatRooms = chatRoomService.getMyChatRooms(MY_USER_ID, null, 20).getChatRooms();
+
+        // then
+        assertThat(batchInfoRequests).isEmpty();
+        assertThat(chatRooms).hasSize(1);
+        assertThat(chatRooms.get(0).isInfoStale()).isTrue();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 IllegalArgumentException")
+    void getMyChatRooms_invalidCursor_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> chatRoomService.getMyChatRooms(MY_USER_ID, "not-a-cursor", 20));
+    }
+
+    @Test
+    @DisplayName("채팅 활동은 채팅방별 가장 최신 시각만 UTC 로 한 번에 갱신한다")
+    void recordChatActivity_keepsNewestPerRoom() {
+        chatRoomService.recordChatActivity(List.of(
+                ChatSummaryUpdateRequest.Update.builder().chatRoomId("room-a").lastMessageAt("2024-11-24T10:00:00Z").build(),
+                ChatSummaryUpdateRequest.Update.builder().chatRoomId("room-a").lastMessageAt("2024-11-24T10:05:00Z").build(),
+                ChatSummaryUpdateRequest.Update.builder().chatRoomId("room-a").lastMessageAt("2024-11-24T10:01:00Z").build(),
+                ChatSummaryUpdateRequest.Update.builder().chatRoomId("room-b").lastMessageAt("2024-11-24T00:00:00Z").build(),
+                ChatSummaryUpdateRequest.Update.builder().chatRoomId("room-c").unreadResets(List.of(MY_USER_ID)).build()));
+
+        verify(matchRepository).updateLastActivityAt(Map.of(
+                "room-a", LocalDateTime.of(2024, 11, 24, 10, 5),
+                "room-b", LocalDateTime.of(2024, 11, 24, 0, 0)));
+    }
+
+    private Match match(Long matchId, Long otherUserId, String chatRoomId, LocalDateTime lastActivityAt) {
+        return Match.builder()
+                .id(matchId)
+                .user1Id(MY_USER_ID)
+                .user2Id(otherUserId)
+                .matchType(MatchType.SWIPE)
+                .chatRoomId(chatRoomId)
+                .isActive(true)
+                .matchedAt(lastActivityAt)
+                .lastActivityAt(lastActivityAt)
+                .build();
+    }
+
+    private UserEntity user(Long userId, String nickname) {
+        UserEntity user = new UserEntity(nickname + "@test.com", Role.USER);
+        ReflectionTestUtils.setField(user, "id", userId);
+        user.setUserInfo(UserInfoEntity.builder()
+                .nickname(nickname)
+                .photoUrls(List.of())
+                .build());
+        return user;
+    }
+}
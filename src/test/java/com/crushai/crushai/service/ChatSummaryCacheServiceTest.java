@@ -0,0 +1,98 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.client.ChatServiceClient;
+import com.crushai.crushai.dto.ChatSummaryUpdateRequest;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChatSummaryCacheService 테스트 (캐시 미스 채우기 중 들어온 증감 처리)
+ *
+ * ⚠️ 사전 준비: Docker로 Redis를 실행해야 합니다. (docker-compose up -d redis)
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ChatSummaryCacheServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    @Qualifier("geoRedisTemplate")
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private ChatSummaryCacheService chatSummaryCacheService;
+
+    @BeforeEach
+    void cleanData() {
+        try {
+            redisTemplate.delete(List.of("chat_summary:test-room-a", "chat_summary:test-room-b"));
+        } catch (Exception e) {
+            Assumptions.abort("Redis 서버가 필요합니다: " + e.getMessage());
+        }
+    }
+
+    private ChatServiceClient.ChatRoomInfo info(int unreadCount) {
+        return ChatServiceClient.ChatRoomInfo.builder()
+                .lastMessage("hello")
+                .lastMessageAt("2024-11-23T15:30:00Z")
+                .unreadCount(unreadCount)
+                .build();
+    }
+
+    private void pushDelta(String chatRoomId, int delta) {
+        chatSummaryCacheService.applyUpdates(List.of(ChatSummaryUpdateRequest.Update.builder()
+                .chatRoomId(chatRoomId)
+                .unreadDeltas(Map.of(USER_ID, delta))
+                .build()));
+    }
+
+    @Test
+    @DisplayName("조회 중 표시 후 채운 채팅방은 히트, 이후 증감이 반영된다")
+    void testBackfillThenDelta() {
+        List<String> rooms = List.of("test-room-a", "test-room-b");
+        chatSummaryCacheService.markPending(rooms, USER_ID);
+        chatSummaryCacheService.backfill(Map.of("test-room-a", info(2), "test-room-b", info(0)), USER_ID);
+
+        pushDelta("test-room-a", 1);
+
+        Map<String, ChatServiceClient.ChatRoomInfo> summaries = chatSummaryCacheService.getSummaries(rooms, USER_ID);
+        assertThat(summaries).containsOnlyKeys("test-room-a", "test-room-b");
+        assertThat(summaries.get("test-room-a").getUnreadCount()).isEqualTo(3);
+        assertThat(summaries.get("test-room-a").getLastMessage()).isEqualTo("hello");
+        assertThat(summaries.get("test-room-b").getUnreadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("채팅 서버 조회 중 증감이 오면 조회 결과를 저장하지 않고 다음 조회도 미스")
+    void testDeltaDuringBackfillKeepsMiss() {
+        List<String> rooms = List.of("test-room-a");
+        chatSummaryCacheService.markPending(rooms, USER_ID);
+        pushDelta("test-room-a", 1);  // 조회 결과에 반영됐는지 알 수 없음
+        chatSummaryCacheService.backfill(Map.of("test-room-a", info(2)), USER_ID);
+
+        assertThat(chatSummaryCacheService.getSummaries(rooms, USER_ID)).isEmpty();
+
+        // 다음 조회에서는 다시 채워짐
+        chatSummaryCacheService.markPending(rooms, USER_ID);
+        chatSummaryCacheService.backfill(Map.of("test-room-a", info(3)), USER_ID);
+        assertThat(chatSummaryCacheService.getSummaries(rooms, USER_ID).get("test-room-a").getUnreadCount())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("조회 중 표시 없이 채우면 unread 는 저장하지 않는다")
+    void testBackfillWithoutMarkIsIgnored() {
+        chatSummaryCacheService.backfill(Map.of("test-room-a", info(2)), USER_ID);
+
+        assertThat(chatSummaryCacheService.getSummaries(List.of("test-room-a"), USER_ID)).isEmpty();
+    }
+}
@@ -0,0 +1,84 @@
+package com.crushai.crushai.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeviceTokenStatsBufferTest {
+
+    @Mock
+    private DeviceService deviceService;
+
+    private DeviceTokenStatsBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new DeviceTokenStatsBuffer(deviceService, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("토큰별로 모아서 성공을 먼저, 실패는 (실패 수, 사유) 묶음으로 반영")
+    void flushStats_aggregatesPerToken() {
+        buffer.recordSuccess("a");
+        buffer.recordFailure("a", "TooManyRequests");  // 성공 후 실패 1회
+        buffer.recordFailure("b", "TooManyRequests");
+        buffer.recordFailure("b", "TooManyRequests");  // 연속 실패 2회
+        buffer.recordFailure("c", "InternalServerError");
+        buffer.recordSuccess("c");                     // 실패 후 성공 - 성공만 남음
+
+        buffer.flushStats();
+
+        InOrder inOrder = inOrder(deviceService);
+        inOrder.verify(deviceService).recordTokenSuccesses(argThat(
+                tokens -> tokens.size() == 2 && tokens.containsAll(List.of("a", "c"))));
+        inOrder.verify(deviceService).recordTokenFailures(List.of("a"), 1, "TooManyRequests");
+        verify(deviceService).recordTokenFailures(List.of("b"), 2, "TooManyRequests");
+        verify(deviceService, never()).recordTokenFailures(List.of("c"), 1, "InternalServerError");
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("모인 연속 실패가 MAX_FAILURES 에 도달하면 무효화로 바로 넘김")
+    void recordFailure_reachingMaxFailures_invalidates() {
+        buffer.recordFailure("a", "TooManyRequests");
+        buffer.recordFailure("a", "TooManyRequests");
+        buffer.recordFailure("a", "TooManyRequests");
+
+        buffer.flushInvalidations();
+        buffer.flushStats();
+
+        verify(deviceService).invalidateTokens(List.of("a"), "TooManyRequests");
+        verify(deviceService, never()).recordTokenFailures(anyCollection(), anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("모인 토큰이 많으면 1000개씩 나눠서 반영")
+    void flushStats_splitsIntoChunks() {
+        for (int i = 0; i < 2500; i++) {
+            buffer.recordSuccess("token-" + i);
+        }
+
+        buffer.flushStats();
+
+        verify(deviceService, times(2)).recordTokenSuccesses(argThat(tokens -> tokens.size() == 1000));
+        verify(deviceService).recordTokenSuccesses(argThat(tokens -> tokens.size() == 500));
+    }
+}
@@ -0,0 +1,102 @@
+package com.crushai.crushai.service;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DistributedRateLimiter 테스트
+ *
+ * ⚠️ 사전 준비: Docker로 Redis를 실행해야 합니다. (docker-compose up -d redis)
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DistributedRateLimiterTest {
+
+    @Autowired
+    @Qualifier("geoRedisTemplate")
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private DistributedRateLimiter rateLimiter;
+
+    @BeforeEach
+    void cleanData() {
+        try {
+            redisTemplate.delete(List.of("rate_limit:{test}", "rate_limit:{test}:user:1", "rate_limit:{test}:user:2"));
+        } catch (Exception e) {
+            Assumptions.abort("Redis 서버가 필요합니다: " + e.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("버스트만큼 바로 허용, 이후는 대기 없이 거절")
+    void testBurstThenReject() {
+        DistributedRateLimiter.Budget budget = new DistributedRateLimiter.Budget(1.0, 2);
+
+        Assertions.assertTrue(rateLimiter.tryAcquire("test", budget, Duration.ZERO));
+        Assertions.assertTrue(rateLimiter.tryAcquire("test", budget, Duration.ZERO));
+        Assertions.assertTrue(rateLimiter.tryAcquire("test", budget, Duration.ZERO));
+        Assertions.assertFalse(rateLimiter.tryAcquire("test", budget, Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("버스트가 있으면 동시에 들어온 burst + 1 건은 대기 없이 모두 허용")
+    void testConcurrentWithinBurst() throws Exception {
+        DistributedRateLimiter.Budget budget = DistributedRateLimiter.Budget.perSecond(5, 5);
+        int requests = budget.burst() + 1;
+
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return rateLimiter.tryAcquire("test", budget, Duration.ZERO);
+                }));
+            }
+            start.countDown();
+
+            for (Future<Boolean> result : results) {
+                Assertions.assertTrue(result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("maxWait 안에 자리가 나면 그만큼 기다린 뒤 허용")
+    void testWaitWithinDeadline() {
+        DistributedRateLimiter.Budget budget = DistributedRateLimiter.Budget.perSecond(5);  // 200ms 간격
+
+        Assertions.assertTrue(rateLimiter.tryAcquire("test", budget, Duration.ZERO));
+
+        long startedAt = System.currentTimeMillis();
+        Assertions.assertTrue(rateLimiter.tryAcquire("test", budget, Duration.ofSeconds(1)));
+        Assertions.assertTrue(System.currentTimeMillis() - startedAt >= 100);
+    }
+
+    @Test
+    @DisplayName("유저 예산은 유저별로 따로 적용, 거절된 요청은 API 예산을 쓰지 않음")
+    void testPerUserBudget() {
+        DistributedRateLimiter.Budget apiBudget = new DistributedRateLimiter.Budget(100, 100);
+        DistributedRateLimiter.Budget userBudget = DistributedRateLimiter.Budget.perMinute(1, 0);
+
+        Assertions.assertTrue(rateLimiter.tryAcquire("test", apiBudget, 1L, userBudget, Duration.ZERO));
+        Assertions.assertFalse(rateLimiter.tryAcquire("test", apiBudget, 1L, userBudget, Duration.ZERO));
+        Assertions.assertTrue(rateLimiter.tryAcquire("test", apiBudget, 2L, userBudget, Duration.ZERO));
+    }
+}
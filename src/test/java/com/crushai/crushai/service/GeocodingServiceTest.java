@@ -0,0 +1,103 @@
+package com.crushai.crushai.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GeocodingServiceTest {
+
+    @Mock
+    private NominatimService nominatimService;
+
+    @Mock
+    private OfflineGeocodingService offlineGeocodingService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ExecutorService executor;
+    private GeocodingService geocodingService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(offlineGeocodingService.findNearestPlace(anyDouble(), anyDouble())).willReturn(Optional.empty());
+
+        geocodingService = new GeocodingService(nominatimService, offlineGeocodingService, redisTemplate,
+                executor, new SimpleMeterRegistry(), 1000, Duration.ofHours(1), Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 셀의 동시 미스는 Nominatim 을 한 번만 호출하고 결과를 공유한다")
+    void concurrentMissesShareOneUpstreamCall() throws Exception {
+        // given: Nominatim 응답이 늦게 옴
+        CountDownLatch release = new CountDownLatch(1);
+        given(nominatimService.getLocationName(anyDouble(), anyDouble())).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "Los Angeles, CA";
+        });
+
+        // when: 같은 셀(0.05도) 안의 좌표로 동시에 요청
+        ExecutorService callers = Executors.newFixedThreadPool(5);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            double offset = i * 0.001;
+            results.add(callers.submit(() -> geocodingService.getLocationName(34.05 + offset, -118.25)));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("Los Angeles, CA");
+        }
+        verify(nominatimService, times(1)).getLocationName(anyDouble(), anyDouble());
+        verify(valueOperations, times(1)).get(anyString());
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("실패 결과도 로컬 캐시에 보관하여 반복 호출하지 않는다")
+    void negativeResultIsCached() {
+        given(nominatimService.getLocationName(anyDouble(), anyDouble())).willReturn(null);
+
+        assertThat(geocodingService.getLocationName(10.0, 10.0)).isNull();
+        assertThat(geocodingService.getLocationName(10.0, 10.0)).isNull();
+
+        verify(nominatimService, times(1)).getLocationName(anyDouble(), anyDouble());
+    }
+}
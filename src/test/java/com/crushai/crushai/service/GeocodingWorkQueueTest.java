@@ -0,0 +1,118 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.repository.UserInfoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GeocodingWorkQueueTest {
+
+    @Mock
+    private GeocodingService geocodingService;
+
+    @Mock
+    private UserInfoRepository userInfoRepository;
+
+    private GeocodingWorkQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 셀의 유저는 지오코딩 1회, UPDATE 1회로 처리")
+    void testSameCellDeduplicated() {
+        queue = new GeocodingWorkQueue(geocodingService, userInfoRepository, 100);
+        given(geocodingService.cellKeyOf(anyDouble(), anyDouble())).willReturn("location:37.50_127.00");
+        given(geocodingService.getLocationName(anyDouble(), anyDouble())).willReturn("Seoul");
+
+        // 워커 시작 전에 모아 둠
+        queue.submit(1L, 37.50, 127.00, false);
+        queue.submit(2L, 37.51, 127.01, true);
+        queue.submit(3L, 37.49, 126.99, false);
+        assertThat(queue.pendingUsers()).isEqualTo(3);
+
+        queue.start();
+
+        verify(userInfoRepository, timeout(2000))
+                .updateLocationName(eq(Set.of(1L, 2L, 3L)), eq("Seoul"), any());
+        verify(geocodingService).getLocationName(anyDouble(), anyDouble());
+        assertThat(queue.pendingUsers()).isZero();
+    }
+
+    @Test
+    @DisplayName("첫 위치 유저의 셀을 먼저 처리")
+    void testFirstTimeProcessedFirst() {
+        queue = new GeocodingWorkQueue(geocodingService, userInfoRepository, 100);
+        given(geocodingService.cellKeyOf(37.5, 127.0)).willReturn("location:37.50_127.00");
+        given(geocodingService.cellKeyOf(35.1, 129.0)).willReturn("location:35.10_129.00");
+        given(geocodingService.getLocationName(37.5, 127.0)).willReturn("Seoul");
+        given(geocodingService.getLocationName(35.1, 129.0)).willReturn("Busan");
+
+        queue.submit(1L, 37.5, 127.0, false);
+        queue.submit(2L, 35.1, 129.0, true);
+
+        queue.start();
+
+        verify(userInfoRepository, timeout(2000)).updateLocationName(eq(Set.of(1L)), eq("Seoul"), any());
+        InOrder order = inOrder(geocodingService);
+        order.verify(geocodingService).getLocationName(35.1, 129.0);
+        order.verify(geocodingService).getLocationName(37.5, 127.0);
+    }
+
+    @Test
+    @DisplayName("이전 셀 작업을 꺼낸 뒤 이동한 유저는 나중 작업의 위치명으로만 반영")
+    void testMovedUserGetsLatestName() {
+        queue = new GeocodingWorkQueue(geocodingService, userInfoRepository, 100);
+        given(geocodingService.cellKeyOf(37.5, 127.0)).willReturn("location:37.50_127.00");
+        given(geocodingService.cellKeyOf(35.1, 129.0)).willReturn("location:35.10_129.00");
+        given(geocodingService.getLocationName(37.5, 127.0)).willReturn("Seoul");
+        given(geocodingService.getLocationName(35.1, 129.0)).willAnswer(invocation -> {
+            queue.submit(1L, 35.1, 129.0, false);  // Seoul 작업을 꺼낸 뒤 Busan 으로 이동
+            return "Busan";
+        });
+
+        queue.submit(1L, 37.5, 127.0, true);
+        queue.submit(2L, 35.1, 129.0, false);
+
+        queue.start();
+
+        verify(userInfoRepository, timeout(2000)).updateLocationName(eq(Set.of(1L, 2L)), eq("Busan"), any());
+        verify(userInfoRepository, never()).updateLocationName(anyCollection(), eq("Seoul"), any());
+    }
+
+    @Test
+    @DisplayName("대기 유저 수 상한을 넘으면 새 유저 요청은 버림")
+    void testDropWhenFull() {
+        queue = new GeocodingWorkQueue(geocodingService, userInfoRepository, 1);
+        given(geocodingService.cellKeyOf(anyDouble(), anyDouble())).willReturn("location:37.50_127.00");
+
+        queue.submit(1L, 37.5, 127.0, false);
+        queue.submit(2L, 37.5, 127.0, false);
+        queue.submit(1L, 37.5, 127.0, true);  // 이미 대기 중인 유저는 갱신 가능
+
+        assertThat(queue.pendingUsers()).isEqualTo(1);
+        verify(userInfoRepository, never()).updateLocationName(anyCollection(), any(), any());
+    }
+}
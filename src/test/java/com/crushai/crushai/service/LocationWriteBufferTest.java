@@ -0,0 +1,65 @@
+package com.crushai.crushai.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocationWriteBufferTest {
+
+    private final List<LocationWriteBuffer.PendingLocation> flushed = new CopyOnWriteArrayList<>();
+
+    // 주기 flush 가 테스트 중에 끼어들지 않도록 긴 주기 사용
+    private final LocationWriteBuffer buffer = new LocationWriteBuffer(2, Duration.ofHours(1), flushed::addAll);
+
+    @AfterEach
+    void tearDown() {
+        buffer.close();
+    }
+
+    @Test
+    @DisplayName("같은 유저의 업데이트는 마지막 좌표만 남는다")
+    void offer_sameUser_keepsLatest() {
+        buffer.offer(1L, 127.0, 37.5);
+        buffer.offer(1L, 127.1, 37.6);
+        buffer.offer(1L, 127.2, 37.7);
+
+        List<LocationWriteBuffer.PendingLocation> drained = buffer.drain();
+
+        assertThat(drained).containsExactly(new LocationWriteBuffer.PendingLocation(1L, 127.2, 37.7));
+        assertThat(buffer.getSupersededCount()).isEqualTo(2);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상한을 넘으면 새 유저 업데이트는 버리고, 대기 중인 유저는 계속 갱신된다")
+    void offer_overCapacity_dropsNewUsers() {
+        assertThat(buffer.offer(1L, 127.0, 37.5)).isTrue();
+        assertThat(buffer.offer(2L, 127.0, 37.5)).isTrue();
+
+        assertThat(buffer.offer(3L, 127.0, 37.5)).isFalse();
+        assertThat(buffer.offer(1L, 128.0, 38.0)).isTrue();
+
+        assertThat(buffer.getDroppedCount()).isEqualTo(1);
+        assertThat(buffer.drain()).extracting(LocationWriteBuffer.PendingLocation::userId)
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("flushNow 는 대기 중인 업데이트를 flusher 로 넘긴다")
+    void flushNow_passesPendingToFlusher() {
+        buffer.offer(1L, 127.0, 37.5);
+        buffer.offer(2L, 127.1, 37.6);
+
+        buffer.flushNow();
+
+        assertThat(flushed).extracting(LocationWriteBuffer.PendingLocation::userId)
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(buffer.size()).isZero();
+    }
+}
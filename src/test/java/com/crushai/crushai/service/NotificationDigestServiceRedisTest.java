@@ -0,0 +1,131 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.enums.NotificationDigestType;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * NotificationDigestService 테스트 (Redis 스크립트: 기록 → 모으기 → 꺼내기)
+ *
+ * 두 인스턴스(서비스 객체 2개)가 같은 Redis 를 쓰는 상황으로 중복 꺼내기 확인
+ *
+ * ⚠️ 사전 준비: Docker로 Redis를 실행해야 합니다. (docker-compose up -d redis)
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class NotificationDigestServiceRedisTest {
+
+    private static final String PREFIX = "notif_digest:{like}:";
+    private static final long WINDOW_MS = 200;
+    private static final List<Long> RECIPIENTS = List.of(900_001L, 900_002L, 900_003L);
+
+    @Autowired
+    @Qualifier("geoRedisTemplate")
+    private RedisTemplate<String, String> redisTemplate;
+
+    // 앱의 스케줄 실행이 테스트 묶음을 먼저 꺼내 가지 않도록 목으로 대체
+    @MockitoBean
+    private NotificationDigestService scheduledDigestService;
+
+    private PushNotificationDispatcher dispatcherA;
+    private PushNotificationDispatcher dispatcherB;
+    private NotificationDigestService instanceA;
+    private NotificationDigestService instanceB;
+
+    @BeforeEach
+    void setUp() {
+        try {
+            List<String> keys = new ArrayList<>();
+            for (Long recipientId : RECIPIENTS) {
+                keys.add(PREFIX + "sent:" + recipientId);
+                keys.add(PREFIX + "pending:" + recipientId);
+            }
+            redisTemplate.delete(keys);
+            redisTemplate.opsForZSet().remove(PREFIX + "due", RECIPIENTS.stream().map(String::valueOf).toArray());
+        } catch (Exception e) {
+            Assumptions.abort("Redis 서버가 필요합니다: " + e.getMessage());
+        }
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("notification.digest.like.window", Duration.ofMillis(WINDOW_MS).toString());
+        environment.setConversionService(new ApplicationConversionService());
+        dispatcherA = mock(PushNotificationDispatcher.class);
+        dispatcherB = mock(PushNotificationDispatcher.class);
+        instanceA = new NotificationDigestService(redisTemplate, dispatcherA, environment,
+                false, "22:00", "08:00", "UTC");
+        instanceB = new NotificationDigestService(redisTemplate, dispatcherB, environment,
+                false, "22:00", "08:00", "UTC");
+    }
+
+    @Test
+    @DisplayName("window 의 첫 알림은 바로 전송, 이후 알림은 모아서 window 가 끝나면 1건으로 전송")
+    @SuppressWarnings("unchecked")
+    void testRecordCoalesceClaim() throws Exception {
+        Long recipientId = RECIPIENTS.get(0);
+
+        Assertions.assertTrue(instanceA.record(NotificationDigestType.LIKE, recipientId, 1L, "alice"));
+        Assertions.assertFalse(instanceA.record(NotificationDigestType.LIKE, recipientId, 2L, "bob"));
+        Assertions.assertFalse(instanceB.record(NotificationDigestType.LIKE, recipientId, 3L, "carol"));
+
+        // window 가 끝나기 전에는 꺼내지 않음
+        instanceA.deliverDueDigests();
+        verify(dispatcherA, never()).dispatchAll(anyMap());
+
+        Thread.sleep(WINDOW_MS + 100);
+        instanceA.deliverDueDigests();
+
+        ArgumentCaptor<Map<Long, PushNotificationDispatcher.PushMessage>> sent = ArgumentCaptor.forClass(Map.class);
+        verify(dispatcherA).dispatchAll(sent.capture());
+        PushNotificationDispatcher.PushMessage message = sent.getValue().get(recipientId);
+        Assertions.assertEquals("like_digest", message.type());
+        Assertions.assertEquals("2 people liked you! 💕", message.title());
+        Assertions.assertEquals("3", message.userId());
+
+        // 꺼낸 뒤에는 다시 window 동안 모음
+        Assertions.assertFalse(instanceA.record(NotificationDigestType.LIKE, recipientId, 4L, "dave"));
+    }
+
+    @Test
+    @DisplayName("두 인스턴스가 동시에 꺼내도 같은 묶음은 한 번만 전송")
+    @SuppressWarnings("unchecked")
+    void testConcurrentClaimDeliversOnce() throws Exception {
+        for (Long recipientId : RECIPIENTS) {
+            instanceA.record(NotificationDigestType.LIKE, recipientId, 1L, "alice");
+            instanceA.record(NotificationDigestType.LIKE, recipientId, 2L, "bob");
+        }
+        Thread.sleep(WINDOW_MS + 100);
+
+        CompletableFuture.allOf(
+                CompletableFuture.runAsync(instanceA::deliverDueDigests),
+                CompletableFuture.runAsync(instanceB::deliverDueDigests)).get();
+
+        List<Long> delivered = new ArrayList<>();
+        for (PushNotificationDispatcher dispatcher : List.of(dispatcherA, dispatcherB)) {
+            ArgumentCaptor<Map<Long, PushNotificationDispatcher.PushMessage>> sent = ArgumentCaptor.forClass(Map.class);
+            verify(dispatcher, atLeast(0)).dispatchAll(sent.capture());  // 다른 인스턴스가 전부 꺼냈으면 0회
+            sent.getAllValues().forEach(messages -> delivered.addAll(messages.keySet()));
+        }
+
+        Assertions.assertEquals(RECIPIENTS.size(), delivered.size());
+        Assertions.assertTrue(delivered.containsAll(RECIPIENTS));
+    }
+}
@@ -0,0 +1,58 @@
+package com.crushai.crushai.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDigestServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private PushNotificationDispatcher dispatcher;
+
+    private NotificationDigestService service(String start, String end) {
+        return new NotificationDigestService(redisTemplate, dispatcher, new MockEnvironment(),
+                true, start, end, "America/Los_Angeles");
+    }
+
+    @Test
+    @DisplayName("자정을 넘는 방해 금지 시간 - 끝나는 시각(다음 날 08:00)으로 미룸")
+    void testQuietHoursWrappingMidnight() {
+        NotificationDigestService service = service("22:00", "08:00");
+
+        // 2026-01-15 23:30 PST (UTC-8)
+        Instant lateNight = Instant.parse("2026-01-16T07:30:00Z");
+        assertThat(service.quietHoursEndIfActive(lateNight)).isEqualTo(Instant.parse("2026-01-16T16:00:00Z"));
+
+        // 2026-01-16 06:00 PST
+        Instant earlyMorning = Instant.parse("2026-01-16T14:00:00Z");
+        assertThat(service.quietHoursEndIfActive(earlyMorning)).isEqualTo(Instant.parse("2026-01-16T16:00:00Z"));
+
+        // 2026-01-16 12:00 PST
+        Instant noon = Instant.parse("2026-01-16T20:00:00Z");
+        assertThat(service.quietHoursEndIfActive(noon)).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 날 안의 방해 금지 시간")
+    void testQuietHoursSameDay() {
+        NotificationDigestService service = service("01:00", "06:00");
+
+        // 2026-07-01 02:00 PDT (UTC-7)
+        assertThat(service.quietHoursEndIfActive(Instant.parse("2026-07-01T09:00:00Z")))
+                .isEqualTo(Instant.parse("2026-07-01T13:00:00Z"));
+        // 2026-07-01 06:00 PDT - 끝나는 시각은 포함하지 않음
+        assertThat(service.quietHoursEndIfActive(Instant.parse("2026-07-01T13:00:00Z"))).isNull();
+    }
+}
@@ -0,0 +1,80 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.dto.ChatMessageNotificationRequest;
+import com.crushai.crushai.repository.UserInfoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    @Mock
+    private PushNotificationDispatcher dispatcher;
+
+    @Mock
+    private NotificationDigestService notificationDigestService;
+
+    @Mock
+    private UserInfoRepository userInfoRepository;
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    private ChatMessageNotificationRequest.Message message(Long recipientId, Long senderId, String preview) {
+        return ChatMessageNotificationRequest.Message.builder()
+                .recipientId(recipientId)
+                .senderId(senderId)
+                .preview(preview)
+                .build();
+    }
+
+    private UserInfoRepository.NicknameView nickname(Long id, String nickname) {
+        UserInfoRepository.NicknameView view = mock(UserInfoRepository.NicknameView.class);
+        given(view.getId()).willReturn(id);
+        given(view.getNickname()).willReturn(nickname);
+        return view;
+    }
+
+    @Test
+    @DisplayName("같은 수신자의 채팅 메시지는 푸시 1건으로 합치고 닉네임은 한 번에 조회")
+    @SuppressWarnings("unchecked")
+    void testCollapseChatMessagesPerRecipient() {
+        given(userInfoRepository.findNicknames(Set.of(10L, 20L, 30L)))
+                .willReturn(List.of(nickname(10L, "Alice"), nickname(20L, "Bob"), nickname(30L, "Carol")));
+
+        notificationService.sendChatMessageNotifications(List.of(
+                message(1L, 10L, "hi"),
+                message(1L, 10L, "are you there?"),
+                message(2L, 20L, "hello"),
+                message(3L, 10L, "hey"),
+                message(3L, 20L, "yo"),
+                message(3L, 30L, "sup"),
+                message(4L, 4L, "note to self")));
+
+        ArgumentCaptor<Map<Long, PushNotificationDispatcher.PushMessage>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(dispatcher).dispatchAll(captor.capture());
+        Map<Long, PushNotificationDispatcher.PushMessage> pushes = captor.getValue();
+
+        assertThat(pushes).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(pushes.get(1L)).isEqualTo(
+                new PushNotificationDispatcher.PushMessage("Alice", "2 new messages: are you there?", "chat", "10"));
+        assertThat(pushes.get(2L)).isEqualTo(
+                new PushNotificationDispatcher.PushMessage("Bob", "hello", "chat", "20"));
+        assertThat(pushes.get(3L)).isEqualTo(
+                new PushNotificationDispatcher.PushMessage("3 new messages 💬", "From Carol, Bob and others", "chat", "30"));
+    }
+}
@@ -0,0 +1,123 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.entity.DeviceToken;
+import com.crushai.crushai.entity.DeviceType;
+import com.crushai.crushai.entity.TokenStatus;
+import com.crushai.crushai.repository.DeviceTokenRepository;
+import com.eatthepath.pushy.apns.ApnsClient;
+import com.eatthepath.pushy.apns.ApnsPushNotification;
+import com.eatthepath.pushy.apns.PushNotificationResponse;
+import com.eatthepath.pushy.apns.util.concurrent.PushNotificationFuture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PushNotificationDispatcherTest {
+
+    private static final String TOKEN_A = "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+    private static final String TOKEN_B = "bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb";
+    private static final String TOKEN_C = "cccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccc";
+
+    @Mock
+    private ApnsClient apnsClient;
+
+    @Mock
+    private DeviceTokenRepository deviceTokenRepository;
+
+    @Mock
+    private DeviceTokenStatsBuffer tokenStatsBuffer;
+
+    private final List<PushNotificationFuture<ApnsPushNotification, PushNotificationResponse<ApnsPushNotification>>> futures =
+            new ArrayList<>();
+
+    private PushNotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new PushNotificationDispatcher(Optional.of(apnsClient), deviceTokenRepository, tokenStatsBuffer,
+                2, Duration.ZERO, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(dispatcher, "apnsTopic", "com.crushai.test");
+
+        given(apnsClient.sendNotification(any())).willAnswer(invocation -> {
+            PushNotificationFuture<ApnsPushNotification, PushNotificationResponse<ApnsPushNotification>> future =
+                    new PushNotificationFuture<>(invocation.getArgument(0));
+            futures.add(future);
+            return future;
+        });
+    }
+
+    private DeviceToken token(Long userId, String deviceToken) {
+        return DeviceToken.builder()
+                .userId(userId)
+                .deviceToken(deviceToken)
+                .deviceType(DeviceType.IOS)
+                .status(TokenStatus.ACTIVE)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private PushNotificationResponse<ApnsPushNotification> response(boolean accepted, String rejectionReason) {
+        PushNotificationResponse<ApnsPushNotification> response = mock(PushNotificationResponse.class);
+        given(response.isAccepted()).willReturn(accepted);
+        if (!accepted) {
+            given(response.getRejectionReason()).willReturn(Optional.of(rejectionReason));
+            given(response.getTokenInvalidationTimestamp()).willReturn(Optional.empty());
+        }
+        return response;
+    }
+
+    @Test
+    @DisplayName("수신자의 모든 활성 토큰으로 전송하고 결과를 토큰별로 기록")
+    void testDispatchToAllDevicesAndRecordFeedback() {
+        given(deviceTokenRepository.findByUserIdInAndStatus(anyCollection(), eq(TokenStatus.ACTIVE)))
+                .willReturn(List.of(token(1L, TOKEN_A), token(1L, TOKEN_B)));
+
+        dispatcher.dispatch(1L, new PushNotificationDispatcher.PushMessage("title", "body", "like", "2"));
+
+        assertThat(futures).hasSize(2);
+        assertThat(dispatcher.inFlightCount()).isEqualTo(2);
+
+        futures.get(0).complete(response(true, null));
+        futures.get(1).complete(response(false, "Unregistered"));
+        assertThat(dispatcher.inFlightCount()).isZero();
+
+        verify(tokenStatsBuffer).recordSuccess(TOKEN_A);
+        verify(tokenStatsBuffer).recordInvalid(TOKEN_B, "Unregistered");
+        verify(tokenStatsBuffer, never()).recordFailure(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("응답 대기 중인 전송이 가득 차면 나머지는 버림")
+    void testInFlightWindow() {
+        given(deviceTokenRepository.findByUserIdInAndStatus(anyCollection(), eq(TokenStatus.ACTIVE)))
+                .willReturn(List.of(token(1L, TOKEN_A), token(1L, TOKEN_B), token(1L, TOKEN_C)));
+
+        int sent = dispatcher.dispatchAll(Map.of(1L, new PushNotificationDispatcher.PushMessage("t", "b", "like", "2")));
+
+        assertThat(sent).isEqualTo(2);
+        verify(apnsClient, times(2)).sendNotification(any());
+    }
+}
@@ -0,0 +1,93 @@
+package com.crushai.crushai.service;
+
+import com.crushai.crushai.entity.DeviceType;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * RedisRefreshTokenStore 테스트
+ *
+ * ⚠️ 사전 준비: Docker로 Redis를 실행해야 합니다. (docker-compose up -d redis)
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RedisRefreshTokenStoreTest {
+
+    private static final Long USER_ID = 900_001L;
+    private static final String USER_KEY = "refresh:{" + USER_ID + "}:tokens";
+    private static final String TOKEN_KEY_PREFIX = "refresh:{" + USER_ID + "}:token:";
+
+    @Autowired
+    @Qualifier("geoRedisTemplate")
+    private RedisTemplate<String, String> redisTemplate;
+
+    private RedisRefreshTokenStore store;
+
+    @BeforeEach
+    void cleanData() {
+        store = new RedisRefreshTokenStore(redisTemplate);
+        try {
+            redisTemplate.delete(List.of(USER_KEY,
+                    TOKEN_KEY_PREFIX + "hash-a", TOKEN_KEY_PREFIX + "hash-b", TOKEN_KEY_PREFIX + "hash-c"));
+        } catch (Exception e) {
+            Assumptions.abort("Redis 서버가 필요합니다: " + e.getMessage());
+        }
+    }
+
+    private RefreshTokenStore.StoredRefreshToken token(String deviceId) {
+        return new RefreshTokenStore.StoredRefreshToken(USER_ID, deviceId, DeviceType.IOS, "iPhone",
+                Instant.now().plus(Duration.ofDays(14)));
+    }
+
+    @Test
+    @DisplayName("교체는 한 번만 성공하고 새 토큰이 디바이스 정보와 TTL 을 이어받음")
+    void testRotateOnce() {
+        store.save("hash-a", token("device-1"));
+
+        Optional<RefreshTokenStore.StoredRefreshToken> rotated =
+                store.rotate(USER_ID, "hash-a", "hash-b", Instant.now().plus(Duration.ofDays(14)));
+
+        Assertions.assertTrue(rotated.isPresent());
+        Assertions.assertEquals(USER_ID, rotated.get().userId());
+        Assertions.assertEquals("device-1", rotated.get().deviceId());
+        Assertions.assertEquals(DeviceType.IOS, rotated.get().deviceType());
+        Assertions.assertFalse(redisTemplate.hasKey(TOKEN_KEY_PREFIX + "hash-a"));
+        Assertions.assertEquals("device-1", redisTemplate.opsForHash().get(TOKEN_KEY_PREFIX + "hash-b", "deviceId"));
+        Assertions.assertTrue(redisTemplate.getExpire(TOKEN_KEY_PREFIX + "hash-b") > 0);
+        Assertions.assertEquals(Set.of("hash-b"), redisTemplate.opsForSet().members(USER_KEY));
+
+        // 같은 토큰으로 다시 재발급 시도 → 실패
+        Assertions.assertTrue(store.rotate(USER_ID, "hash-a", "hash-c", Instant.now().plus(Duration.ofDays(14))).isEmpty());
+        Assertions.assertFalse(redisTemplate.hasKey(TOKEN_KEY_PREFIX + "hash-c"));
+
+        // 다른 유저의 claims 로는 교체 불가
+        Assertions.assertTrue(store.rotate(USER_ID + 1, "hash-b", "hash-c", Instant.now().plus(Duration.ofDays(14))).isEmpty());
+        Assertions.assertTrue(redisTemplate.hasKey(TOKEN_KEY_PREFIX + "hash-b"));
+    }
+
+    @Test
+    @DisplayName("전체 로그아웃은 유저의 모든 토큰 삭제, 현재 디바이스 로그아웃은 해당 토큰만 삭제")
+    void testDelete() {
+        store.save("hash-a", token("device-1"));
+        store.save("hash-b", token("device-2"));
+        store.save("hash-c", token("device-3"));
+
+        store.delete(USER_ID, "hash-a");
+        Assertions.assertFalse(redisTemplate.hasKey(TOKEN_KEY_PREFIX + "hash-a"));
+        Assertions.assertEquals(2L, redisTemplate.opsForSet().size(USER_KEY));
+
+        store.deleteAllForUser(USER_ID);
+        Assertions.assertFalse(redisTemplate.hasKey(TOKEN_KEY_PREFIX + "hash-b"));
+        Assertions.assertFalse(redisTemplate.hasKey(TOKEN_KEY_PREFIX + "hash-c"));
+        Assertions.assertFalse(redisTemplate.hasKey(USER_KEY));
+    }
+}
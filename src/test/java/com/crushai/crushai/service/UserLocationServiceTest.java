@@ -5,9 +5,11 @@ import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.geo.Point;
 import org.springframework.data.redis.core.RedisTemplate;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * UserLocationService 테스트
@@ -155,4 +157,22 @@ class UserLocationServiceTest {
         // Then: 자기 자신은 포함되지 않음
         Assertions.assertTrue(nearby.isEmpty());
     }
+
+    @Test
+    @DisplayName("거리 일괄 계산 - 위치 없는 유저 제외, 이전 형식 member 도 조회")
+    void testDistancesFrom() {
+        // Given: 기준 유저, 새 형식 유저, 이전 형식("user:3") 유저
+        userLocationService.saveUserLocation(1L, 127.0, 37.5);
+        userLocationService.saveUserLocation(2L, 127.01, 37.51);
+        redisTemplate.opsForGeo().add("user_locations", new Point(127.5, 37.8), "user:3");
+
+        // When: 위치가 없는 4번 포함하여 계산
+        Map<Long, Double> distances = userLocationService.getDistancesFrom(1L, List.of(2L, 3L, 4L));
+
+        // Then
+        Assertions.assertEquals(2, distances.size());
+        Assertions.assertTrue(distances.get(2L) < 2.0);
+        Assertions.assertTrue(distances.get(3L) > 40.0 && distances.get(3L) < 60.0);
+        Assertions.assertFalse(distances.containsKey(4L));
+    }
 }
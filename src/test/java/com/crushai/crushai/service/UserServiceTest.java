@@ -36,6 +36,12 @@ class UserServiceTest {
     @Mock
     private RefreshRepository refreshRepository;
 
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private AuthPrincipalCache principalCache;
+
     @Test
     @DisplayName("존재하지 않는 유저를 탈퇴하면 예외가 발생한다")
     void deleteUser_whenUserNotFound_throwsException() {